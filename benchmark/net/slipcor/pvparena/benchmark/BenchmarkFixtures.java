@@ -0,0 +1,133 @@
+package net.slipcor.pvparena.benchmark;
+
+import net.slipcor.pvparena.PVPArena;
+import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.arena.ArenaPlayer;
+import net.slipcor.pvparena.arena.ArenaPlayer.Status;
+import net.slipcor.pvparena.core.Config;
+import net.slipcor.pvparena.core.Debug;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * <pre>Benchmark Fixtures class</pre>
+ * <p/>
+ * Builds the plugin, arenas and players the benchmarks run against. Bukkit objects are
+ * stub only mocks, the PVP Arena classes under test are the real ones
+ *
+ * @author slipcor
+ */
+
+final class BenchmarkFixtures {
+    static final String WORLD = "world";
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * @param type the class to mock
+     * @return a mock that does not record its invocations
+     */
+    static <T> T stub(final Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+
+    /**
+     * install a plugin instance as {@link PVPArena#instance}
+     *
+     * @param config     the plugin config
+     * @param dataFolder the plugin data folder
+     * @return the plugin
+     */
+    static PVPArena plugin(final YamlConfiguration config, final File dataFolder) {
+        final PVPArena plugin = stub(PVPArena.class);
+        when(plugin.getConfig()).thenReturn(config);
+        when(plugin.getDataFolder()).thenReturn(dataFolder);
+        when(plugin.getLogger()).thenReturn(Logger.getLogger("PVPArena"));
+        when(plugin.isEnabled()).thenReturn(true);
+        PVPArena.instance = plugin;
+        return plugin;
+    }
+
+    /**
+     * @return the world every location of the benchmarks is in
+     */
+    static World world() {
+        final World world = stub(World.class);
+        when(world.getName()).thenReturn(WORLD);
+        return world;
+    }
+
+    /**
+     * create an arena whose getters return the given values, every other call does nothing
+     *
+     * @param name   the arena name
+     * @param config the arena config
+     * @return the arena
+     */
+    static Arena arena(final String name, final Config config) {
+        final Arena arena = stub(Arena.class);
+        final Debug debug = new Debug(arena);
+        when(arena.getName()).thenReturn(name);
+        when(arena.getArenaConfig()).thenReturn(config);
+        when(arena.getDebugger()).thenReturn(debug);
+        return arena;
+    }
+
+    /**
+     * @param dataFolder the folder to create the config in
+     * @param name       the arena name
+     * @return an arena config with the default values
+     */
+    static Config config(final File dataFolder, final String name) {
+        return new Config(new File(dataFolder, "arenas/" + name + ".yml"));
+    }
+
+    /**
+     * create an online player and register it
+     *
+     * @param name     the player name
+     * @param location the location the player is at
+     * @return the player, keep a reference, the registry only holds it weakly
+     */
+    static Player player(final String name, final Location location) {
+        final Player player = stub(Player.class);
+        when(player.getName()).thenReturn(name);
+        when(player.getUniqueId()).thenReturn(uuid(name));
+        when(player.isOnline()).thenReturn(true);
+        when(player.getLocation()).thenReturn(location);
+        ArenaPlayer.parsePlayer(player);
+        return player;
+    }
+
+    /**
+     * let a registered player fight in an arena
+     *
+     * @param player the player
+     * @param arena  the arena
+     * @return the arena player
+     */
+    static ArenaPlayer fighter(final Player player, final Arena arena) {
+        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player);
+        aPlayer.setArena(arena);
+        aPlayer.setStatus(Status.FIGHT);
+        return aPlayer;
+    }
+
+    /**
+     * @param name the player name
+     * @return the id of the player, the same for every run
+     */
+    static UUID uuid(final String name) {
+        return UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,152 @@
+package net.slipcor.pvparena.benchmark;
+
+import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.arena.ArenaPlayer;
+import net.slipcor.pvparena.arena.ArenaTeam;
+import net.slipcor.pvparena.classes.PACombatContext;
+import net.slipcor.pvparena.classes.PALocation;
+import net.slipcor.pvparena.classes.PASpawnIndex;
+import net.slipcor.pvparena.core.Config;
+import net.slipcor.pvparena.core.Config.CFG;
+import net.slipcor.pvparena.listeners.EntityListener;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * <pre>Combat Context Benchmark class</pre>
+ * <p/>
+ * Measures the player damage listener per hit: the full handler for hits between enemies
+ * and between team mates, and the decisions taken from the {@link PACombatContext} alone.
+ * The handler numbers include the calls to the mocked event and players
+ *
+ * @author slipcor
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CombatContextBenchmark {
+    private static final String[] COLORS = {"RED", "BLUE", "LIME", "ORANGE", "PURPLE", "CYAN", "PINK", "GRAY"};
+    private static final int TEAM_SIZE = 8;
+
+    @Param({"2", "8"})
+    public int teams;
+
+    @Param({"0", "10"})
+    public int protectSpawn;
+
+    private final List<Player> players = new ArrayList<>();
+    private final List<EntityDamageByEntityEvent> enemyHits = new ArrayList<>();
+    private final List<EntityDamageByEntityEvent> teamHits = new ArrayList<>();
+    private final List<ArenaPlayer[]> enemyPairs = new ArrayList<>();
+    private EntityListener listener;
+    private Arena arena;
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        final File dataFolder = Files.createTempDirectory("pvparena-bench").toFile();
+        final YamlConfiguration pluginConfig = new YamlConfiguration();
+        pluginConfig.set("onlyPVPinArena", false);
+        BenchmarkFixtures.plugin(pluginConfig, dataFolder);
+
+        final Config config = BenchmarkFixtures.config(dataFolder, "combat");
+        config.set(CFG.PERMS_TEAMKILL, false);
+        config.set(CFG.DAMAGE_BLOODPARTICLES, false);
+        config.set(CFG.PROTECT_SPAWN, protectSpawn);
+        arena = BenchmarkFixtures.arena("combat", config);
+
+        final World world = BenchmarkFixtures.world();
+        final Set<ArenaTeam> arenaTeams = new LinkedHashSet<>();
+        final List<List<ArenaPlayer>> members = new ArrayList<>();
+        for (int t = 0; t < teams; t++) {
+            final ArenaTeam team = new ArenaTeam("team" + t, COLORS[t]);
+            arenaTeams.add(team);
+            final List<ArenaPlayer> teamMembers = new ArrayList<>();
+            for (int i = 0; i < TEAM_SIZE; i++) {
+                // players fight 20 blocks away from their spawn
+                final Player player = BenchmarkFixtures.player("p" + t + '_' + i,
+                        new Location(world, t * 100 + 20, 64, i));
+                players.add(player);
+                final ArenaPlayer aPlayer = BenchmarkFixtures.fighter(player, arena);
+                team.getTeamMembers().add(aPlayer);
+                teamMembers.add(aPlayer);
+            }
+            members.add(teamMembers);
+
+            final PASpawnIndex spawns = new PASpawnIndex(Collections.singleton(
+                    new PALocation(BenchmarkFixtures.WORLD, t * 100, 64, 0, 0f, 0f)));
+            when(arena.getSpawnIndex(team.getName() + "spawn", false)).thenReturn(spawns);
+        }
+
+        when(arena.getTeams()).thenReturn(arenaTeams);
+        when(arena.isFightInProgress()).thenReturn(true);
+        when(arena.isFreeForAll()).thenReturn(false);
+        for (final Player player : players) {
+            when(arena.hasPlayer(player)).thenReturn(true);
+        }
+        // built and revalidated by the arena, as on a server
+        when(arena.getCombatContext()).thenCallRealMethod();
+
+        for (int t = 0; t < teams; t++) {
+            final List<ArenaPlayer> own = members.get(t);
+            final List<ArenaPlayer> enemies = members.get((t + 1) % teams);
+            for (int i = 0; i < TEAM_SIZE; i++) {
+                enemyHits.add(hit(own.get(i), enemies.get(i)));
+                teamHits.add(hit(own.get(i), own.get((i + 1) % TEAM_SIZE)));
+                enemyPairs.add(new ArenaPlayer[]{own.get(i), enemies.get(i)});
+            }
+        }
+        listener = new EntityListener();
+    }
+
+    private static EntityDamageByEntityEvent hit(final ArenaPlayer attacker, final ArenaPlayer defender) {
+        final EntityDamageByEntityEvent event = BenchmarkFixtures.stub(EntityDamageByEntityEvent.class);
+        when(event.getDamager()).thenReturn(attacker.get());
+        when(event.getEntity()).thenReturn(defender.get());
+        when(event.getDamage()).thenReturn(2.0);
+        return event;
+    }
+
+    @Benchmark
+    public void enemyHit() {
+        listener.onEntityDamageByEntity(enemyHits.get(next()));
+    }
+
+    @Benchmark
+    public void teamHit() {
+        listener.onEntityDamageByEntity(teamHits.get(next()));
+    }
+
+    /**
+     * the team, team damage and spawn protection decisions of an enemy hit
+     */
+    @Benchmark
+    public boolean contextDecision() {
+        final ArenaPlayer[] pair = enemyPairs.get(next());
+        final PACombatContext combat = arena.getCombatContext();
+        final int attSlot = combat.getTeamSlot(pair[0]);
+        final int defSlot = combat.getTeamSlot(pair[1]);
+        return attSlot >= 0 && defSlot >= 0 && combat.isDamageAllowed(attSlot, defSlot)
+                && !combat.isNearSpawn(pair[1], defSlot, pair[1].get().getLocation());
+    }
+
+    private int next() {
+        next = (next + 1) % enemyPairs.size();
+        return next;
+    }
+}
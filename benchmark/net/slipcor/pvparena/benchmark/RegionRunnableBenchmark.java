@@ -0,0 +1,104 @@
+package net.slipcor.pvparena.benchmark;
+
+import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.arena.ArenaPlayer;
+import net.slipcor.pvparena.classes.PABlockLocation;
+import net.slipcor.pvparena.loadables.ArenaRegion;
+import net.slipcor.pvparena.loadables.ArenaRegion.RegionType;
+import net.slipcor.pvparena.regions.CuboidRegion;
+import net.slipcor.pvparena.runnables.RegionRunnable;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.when;
+
+/**
+ * <pre>Region Runnable Benchmark class</pre>
+ * <p/>
+ * Measures one tick of the per-arena region timer during a fight, with every player in
+ * one of a row of battle regions: once with everybody standing still, where the cached
+ * regions are reused, and once with everybody moving a block, where they are looked up
+ *
+ * @author slipcor
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RegionRunnableBenchmark {
+    private static final int REGION_SIZE = 16;
+
+    @Param({"10", "100"})
+    public int players;
+
+    @Param({"1", "10", "30"})
+    public int regions;
+
+    // the player registry only holds the handles weakly
+    private final List<Player> handles = new ArrayList<>();
+    private final List<Location> locations = new ArrayList<>();
+    private RegionRunnable runnable;
+    private int step = 1;
+
+    @Setup
+    public void setUp() throws Exception {
+        final File dataFolder = Files.createTempDirectory("pvparena-bench").toFile();
+        BenchmarkFixtures.plugin(new YamlConfiguration(), dataFolder);
+        final Arena arena = BenchmarkFixtures.arena("regions", BenchmarkFixtures.config(dataFolder, "regions"));
+        when(arena.isFightInProgress()).thenReturn(true);
+
+        final Set<ArenaRegion> arenaRegions = new LinkedHashSet<>();
+        for (int i = 0; i < regions; i++) {
+            final ArenaRegion region = new ArenaRegion(arena, "battle" + i, new CuboidRegion(), new PABlockLocation[]{
+                    new PABlockLocation(BenchmarkFixtures.WORLD, i * REGION_SIZE, 0, 0),
+                    new PABlockLocation(BenchmarkFixtures.WORLD, i * REGION_SIZE + REGION_SIZE - 1, 128, REGION_SIZE - 1)});
+            region.setType(RegionType.BATTLE);
+            arenaRegions.add(region);
+        }
+        when(arena.getRegions()).thenReturn(arenaRegions);
+
+        final World world = BenchmarkFixtures.world();
+        final Set<ArenaPlayer> everyone = new LinkedHashSet<>();
+        for (int i = 0; i < players; i++) {
+            // spread over the regions, far enough from the borders to move a block
+            final Location location = new Location(world,
+                    i % regions * REGION_SIZE + 4 + i / regions % 8, 64, 4 + i % 8);
+            final Player player = BenchmarkFixtures.player("fighter" + i, location);
+            handles.add(player);
+            locations.add(location);
+            everyone.add(BenchmarkFixtures.fighter(player, arena));
+        }
+        when(arena.getEveryone()).thenReturn(everyone);
+
+        runnable = new RegionRunnable(arena);
+        for (final ArenaRegion region : arenaRegions) {
+            runnable.activate(region);
+        }
+        runnable.run();
+    }
+
+    @Benchmark
+    public void standing() {
+        runnable.run();
+    }
+
+    @Benchmark
+    public void moving() {
+        step = -step;
+        for (final Location location : locations) {
+            location.setX(location.getX() + step);
+        }
+        runnable.run();
+    }
+}
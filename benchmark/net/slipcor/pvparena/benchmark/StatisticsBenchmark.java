@@ -0,0 +1,179 @@
+package net.slipcor.pvparena.benchmark;
+
+import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.arena.ArenaPlayer;
+import net.slipcor.pvparena.managers.StatisticsManager;
+import net.slipcor.pvparena.managers.StatisticsManager.Type;
+import net.slipcor.pvparena.statistics.LogStatisticsStorage;
+import net.slipcor.pvparena.statistics.StatisticsRecord;
+import net.slipcor.pvparena.statistics.StatisticsStorage;
+import net.slipcor.pvparena.statistics.YamlStatisticsStorage;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <pre>Statistics Benchmark class</pre>
+ * <p/>
+ * Measures the statistics cost of a match end with a stats file of 50k players: staging
+ * the record of every participant and handing the batch to the writer on the main thread,
+ * as Arena.reset() does, and writing that batch on the writer thread
+ *
+ * @author slipcor
+ */
+
+@Fork(1)
+@State(Scope.Benchmark)
+public class StatisticsBenchmark {
+    private static final int STORED = 50000;
+    private static final int ARENAS = 10;
+    private static final String ARENA = "stats";
+
+    @Param({"10", "50", "200"})
+    public int players;
+
+    @Param({"yml", "log"})
+    public String storage;
+
+    // the player registry only holds the handles weakly
+    private final List<Player> handles = new ArrayList<>();
+    private final List<ArenaPlayer> fighters = new ArrayList<>();
+    private File dataFolder;
+    private Arena arena;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dataFolder = Files.createTempDirectory("pvparena-bench").toFile();
+        final YamlConfiguration pluginConfig = new YamlConfiguration();
+        pluginConfig.set("stats", true);
+        pluginConfig.set("stats_storage", storage);
+        BenchmarkFixtures.plugin(pluginConfig, dataFolder);
+        arena = BenchmarkFixtures.arena(ARENA, BenchmarkFixtures.config(dataFolder, ARENA));
+
+        final World world = BenchmarkFixtures.world();
+        final List<StatisticsRecord> records = new ArrayList<>(STORED);
+        for (int i = 0; i < players; i++) {
+            final Player player = BenchmarkFixtures.player("fighter" + i, new Location(world, i, 64, 0));
+            handles.add(player);
+            fighters.add(BenchmarkFixtures.fighter(player, arena));
+            records.add(record(ARENA, player.getName(), i));
+        }
+        for (int i = players; i < STORED; i++) {
+            records.add(record("arena" + i % ARENAS, "player" + i, i));
+        }
+        // the legacy players.yml is taken over by the log storage
+        new YamlStatisticsStorage(new File(dataFolder, "players.yml")).write(records);
+    }
+
+    private static StatisticsRecord record(final String arenaName, final String playerName, final int seed) {
+        final int[] values = new int[Type.values().length];
+        for (final Type type : Type.values()) {
+            if (type != Type.NULL) {
+                values[type.ordinal()] = (seed * 31 + type.ordinal()) % 1000;
+            }
+        }
+        return new StatisticsRecord(arenaName, BenchmarkFixtures.uuid(playerName).toString(), playerName, values);
+    }
+
+    /**
+     * let every participant score, as a match would
+     */
+    private void play() {
+        for (final ArenaPlayer fighter : fighters) {
+            fighter.getStatistics(arena).incStat(Type.KILLS);
+            fighter.getStatistics(arena).incStat(Type.DAMAGE, 20);
+            fighter.getStatistics(arena).incStat(Type.WINS);
+        }
+    }
+
+    private StatisticsStorage openStorage() {
+        final File playersFile = new File(dataFolder, "players.yml");
+        return "log".equals(storage)
+                ? new LogStatisticsStorage(new File(dataFolder, "players.log"), playersFile)
+                : new YamlStatisticsStorage(playersFile);
+    }
+
+    /**
+     * the statistics manager after a match, every participant changed
+     */
+    @State(Scope.Benchmark)
+    public static class Match {
+        @Setup(Level.Iteration)
+        public void setUp(final StatisticsBenchmark stats) {
+            // waits for the writes of the previous match
+            StatisticsManager.initialize();
+            stats.play();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            StatisticsManager.shutdown();
+        }
+    }
+
+    /**
+     * a storage holding the stats file, and the batch of one match
+     */
+    @State(Scope.Benchmark)
+    public static class Writer {
+        private final List<StatisticsRecord> batch = new ArrayList<>();
+        private StatisticsStorage target;
+        private int round;
+
+        @Setup(Level.Trial)
+        public void setUp(final StatisticsBenchmark stats) throws IOException {
+            target = stats.openStorage();
+            target.load();
+        }
+
+        @Setup(Level.Iteration)
+        public void prepare(final StatisticsBenchmark stats) {
+            batch.clear();
+            round++;
+            for (final ArenaPlayer fighter : stats.fighters) {
+                batch.add(record(ARENA, fighter.getName(), round));
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            target.close();
+        }
+    }
+
+    /**
+     * the main thread part of a match end, one run per match
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 20)
+    public void matchEnd(final Match match) {
+        for (final ArenaPlayer fighter : fighters) {
+            StatisticsManager.update(arena, fighter);
+        }
+        StatisticsManager.save();
+    }
+
+    /**
+     * the writer thread part of a match end
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public void write(final Writer writer) throws IOException {
+        writer.target.write(writer.batch);
+    }
+}
@@ -10,6 +10,7 @@ import net.slipcor.pvparena.core.Debug;
 import net.slipcor.pvparena.core.Help;
 import net.slipcor.pvparena.core.Language;
 import net.slipcor.pvparena.core.Language.MSG;
+import net.slipcor.pvparena.core.Profiler;
 import net.slipcor.pvparena.core.StringParser;
 import net.slipcor.pvparena.listeners.BlockListener;
 import net.slipcor.pvparena.listeners.EntityListener;
@@ -20,6 +21,7 @@ import net.slipcor.pvparena.loadables.ArenaModule;
 import net.slipcor.pvparena.loadables.ArenaModuleManager;
 import net.slipcor.pvparena.loadables.ArenaRegionShapeManager;
 import net.slipcor.pvparena.managers.ArenaManager;
+import net.slipcor.pvparena.managers.DumpManager;
 import net.slipcor.pvparena.managers.StatisticsManager;
 import net.slipcor.pvparena.managers.TabManager;
 import net.slipcor.pvparena.updater.UpdateChecker;
@@ -215,6 +217,7 @@ public class PVPArena extends JavaPlugin {
         globalCommands.add(new PAA_Debug());
         globalCommands.add(new PAA_Duty());
         globalCommands.add(new PAA_Modules());
+        globalCommands.add(new PAA_Profile());
         globalCommands.add(new PAA_ReloadAll());
         globalCommands.add(new PAI_ArenaList());
         globalCommands.add(new PAI_GlobalStats());
@@ -360,7 +363,10 @@ public class PVPArena extends JavaPlugin {
     @Override
     public void onDisable() {
         shuttingDown = true;
+        Profiler.end();
         ArenaManager.reset(true);
+        StatisticsManager.shutdown();
+        DumpManager.shutdown();
         Debug.destroy();
         this.getUpdateChecker().runOnDisable();
         Language.logInfo(MSG.LOG_PLUGIN_DISABLED, getDescription().getFullName());
@@ -432,15 +438,13 @@ public class PVPArena extends JavaPlugin {
         Help.init(getConfig().getString("language", "en"));
 
         StatisticsManager.initialize();
+        DumpManager.initialize();
 
-        getServer().getPluginManager()
-                .registerEvents(new BlockListener(), this);
-        getServer().getPluginManager().registerEvents(new EntityListener(),
-                this);
-        getServer().getPluginManager().registerEvents(new PlayerListener(),
-                this);
-        getServer().getPluginManager().registerEvents(new InventoryListener(),
-                this);
+        // timed, so that /pa profile can tell which handler takes time
+        Profiler.registerEvents(new BlockListener(), this);
+        Profiler.registerEvents(new EntityListener(), this);
+        Profiler.registerEvents(new PlayerListener(), this);
+        Profiler.registerEvents(new InventoryListener(), this);
 
         if (getConfig().getInt("ver", 0) < 1) {
             getConfig().options().copyDefaults(true);
@@ -11,9 +11,18 @@ import net.slipcor.pvparena.loadables.ArenaGoal;
 import net.slipcor.pvparena.loadables.ArenaModule;
 import net.slipcor.pvparena.loadables.ArenaModuleManager;
 import net.slipcor.pvparena.loadables.ArenaRegion;
+import net.slipcor.pvparena.loadables.HookTable;
 import net.slipcor.pvparena.loadables.ArenaRegion.RegionType;
 import net.slipcor.pvparena.managers.*;
+import net.slipcor.pvparena.runnables.CircleParticleRunnable;
+import net.slipcor.pvparena.runnables.DamageResetRunnable;
+import net.slipcor.pvparena.runnables.EffectsRunnable;
+import net.slipcor.pvparena.runnables.ProximityRunnable;
+import net.slipcor.pvparena.runnables.RegionRunnable;
+import net.slipcor.pvparena.runnables.SpawnCampRunnable;
 import net.slipcor.pvparena.runnables.StartRunnable;
+import net.slipcor.pvparena.runnables.TickRunnable;
+import net.slipcor.pvparena.runnables.TickRunnable.Phase;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Location;
@@ -21,6 +30,7 @@ import org.bukkit.Material;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.block.Block;
 import org.bukkit.block.Sign;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.command.CommandSender;
 import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.configuration.file.YamlConfiguration;
@@ -44,7 +54,7 @@ import org.bukkit.util.Vector;
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 import static java.util.Optional.ofNullable;
 
@@ -66,15 +76,27 @@ public class Arena {
     private final Set<ArenaClass> classes = new HashSet<>();
     private final Set<ArenaGoal> goals = new HashSet<>();
     private final Set<ArenaModule> mods = new HashSet<>();
+    private final HookTable<ArenaGoal> goalHooks = new HookTable<>(ArenaGoal.class);
+    private final HookTable<ArenaModule> modHooks = new HookTable<>(ArenaModule.class);
     private final Set<ArenaRegion> regions = new HashSet<>();
     private final Set<PAClassSign> signs = new HashSet<>();
     private final Set<ArenaTeam> teams = new HashSet<>();
     private final Set<String> playedPlayers = new HashSet<>();
 
+    private final Set<ArenaPlayer> everyone = new CopyOnWriteArraySet<>();
+    private final Set<ArenaPlayer> fighters = new CopyOnWriteArraySet<>();
+    private final Map<Status, Set<ArenaPlayer>> playersByStatus = new EnumMap<>(Status.class);
+    private final Set<ArenaPlayer> everyoneView = Collections.unmodifiableSet(everyone);
+    private final Set<ArenaPlayer> fightersView = Collections.unmodifiableSet(fighters);
+    private final Map<Status, Set<ArenaPlayer>> playersByStatusView = new EnumMap<>(Status.class);
+
     private final Set<PABlock> blocks = new HashSet<>();
     private final Set<PASpawn> spawns = new HashSet<>();
+    private final PANameIndex<PABlock, PABlockLocation> blocksByName = new PANameIndex<>(PABlock::getLocation);
+    private final PANameIndex<PASpawn, PALocation> spawnsByName = new PANameIndex<>(PASpawn::getLocation);
 
     private final Map<Player, UUID> entities = new HashMap<>();
+    private final Map<UUID, Player> entityOwners = new HashMap<>();
 
     private PARoundMap rounds;
 
@@ -85,6 +107,7 @@ public class Arena {
     // arena status
     private boolean fightInProgress;
     private boolean locked;
+    private boolean restoring;
     private boolean free;
     private boolean valid;
     private int startCount;
@@ -95,43 +118,78 @@ public class Arena {
     public BukkitRunnable pvpRunner;
     public BukkitRunnable realEndRunner;
     public BukkitRunnable startRunner;
-    public int spawnCampRunnerID = -1;
+    private TickRunnable tickRunner;
+    private RegionRunnable regionRunner;
+    private DamageResetRunnable damageResetRunner;
+    private EffectsRunnable effectsRunner;
+    private ProximityRunnable proximityRunner;
+    private PACombatContext combatContext;
+    private PABlockJournal blockJournal;
+    private volatile PAChatSnapshot chatSnapshot;
+    private final Map<String, PASpawnIndex> spawnIndexes = new HashMap<>();
 
     private boolean gaveRewards;
 
     private Config cfg;
     private YamlConfiguration language = new YamlConfiguration();
+    private final Map<MSG, MessageTemplate> messageTemplates = new EnumMap<>(MSG.class);
     private long startTime;
     private Scoreboard scoreboard = null;
 
     public Arena(final String name) {
+        this(name, null, null);
+    }
+
+    /**
+     * create an arena from files that have been read in advance
+     *
+     * @param name     the arena name
+     * @param config   the preloaded arena config, null to read it now
+     * @param language the preloaded arena language, null to read it now
+     */
+    public Arena(final String name, final Config config, final YamlConfiguration language) {
         this.name = name;
 
+        for (final Status status : Status.values()) {
+            final Set<ArenaPlayer> players = new CopyOnWriteArraySet<>();
+            playersByStatus.put(status, players);
+            playersByStatusView.put(status, Collections.unmodifiableSet(players));
+        }
+
         getDebugger().i("loading Arena " + name);
-        final File file = new File(PVPArena.instance.getDataFolder().getPath()
-                + "/arenas/" + name + ".yml");
-        if (!file.exists()) {
-            try {
-                file.createNewFile();
-            } catch (final IOException e) {
-                e.printStackTrace();
+        if (config == null) {
+            final File file = new File(PVPArena.instance.getDataFolder().getPath()
+                    + "/arenas/" + name + ".yml");
+            if (!file.exists()) {
+                try {
+                    file.createNewFile();
+                } catch (final IOException e) {
+                    e.printStackTrace();
+                }
             }
+            cfg = new Config(file);
+        } else {
+            cfg = config;
         }
-        cfg = new Config(file);
         valid = ConfigurationManager.configParse(this, cfg);
         if (valid) {
             StatisticsManager.loadStatistics(this);
             SpawnManager.loadSpawns(this, cfg);
 
+            if (language != null) {
+                this.language = language;
+                return;
+            }
+
             final String langName = (String) cfg.getUnsafe("general.lang");
             if (langName == null || "none".equals(langName)) {
                 return;
             }
 
             final File langFile = new File(PVPArena.instance.getDataFolder(), langName);
-            language = new YamlConfiguration();
+            this.language = new YamlConfiguration();
             try {
-                language.load(langFile);
+                this.language.load(langFile);
             } catch (final InvalidConfigurationException | IOException e) {
                 e.printStackTrace();
             }
@@ -215,11 +273,18 @@ public class Arena {
     }
 
     public void addEntity(final Player player, final Entity entity) {
-        entities.put(player, entity.getUniqueId());
+        final UUID previous = entities.put(player, entity.getUniqueId());
+        if (previous != null) {
+            entityOwners.remove(previous);
+            ArenaManager.unindexEntity(previous);
+        }
+        entityOwners.put(entity.getUniqueId(), player);
+        ArenaManager.indexEntity(entity.getUniqueId(), this);
     }
 
     public void addRegion(final ArenaRegion region) {
         regions.add(region);
+        ArenaManager.indexRegion(region);
         getDebugger().i("loading region: " + region.getRegionName());
         if (region.getType() == RegionType.JOIN) {
             if (cfg.getBoolean(CFG.JOIN_FORCE)) {
@@ -250,9 +315,10 @@ public class Arena {
      */
     public void broadcastColored(final String msg, final ChatColor color,
                                  final Player player) {
-        final String sColor = cfg.getBoolean(CFG.CHAT_COLORNICK)?color.toString():"";
-        synchronized (this) {
-            broadcast(sColor + player.getName() + ChatColor.WHITE + ": " + msg.replace("&", "%%&%%"));
+        final PAChatSnapshot chat = chatSnapshot;
+        if (chat != null) {
+            getDebugger().i("@all/" + player.getName() + ": " + msg, player);
+            chat.broadcastColored(msg, color, player);
         }
     }
 
@@ -383,6 +449,13 @@ public class Arena {
         return blocks;
     }
 
+    /**
+     * @return the arena blocks, indexed by name
+     */
+    public PANameIndex<PABlock, PABlockLocation> getBlocksByName() {
+        return blocksByName;
+    }
+
     public ArenaClass getClass(final String className) {
         for (final ArenaClass ac : classes) {
             if (ac.getName().equalsIgnoreCase(className)) {
@@ -396,6 +469,19 @@ public class Arena {
         return classes;
     }
 
+    /**
+     * hand over the values the damage listener needs, resolved at fight start and again
+     * after the config, the teams or the spawns changed
+     *
+     * @return the combat context
+     */
+    public PACombatContext getCombatContext() {
+        if (combatContext == null || !combatContext.isValid()) {
+            combatContext = new PACombatContext(this);
+        }
+        return combatContext;
+    }
+
     public Debug getDebugger() {
         if (debug == null) {
             debug = new Debug(this);
@@ -404,36 +490,102 @@ public class Arena {
     }
 
     public Player getEntityOwner(final Entity entity) {
-        for (final Map.Entry<Player, UUID> playerUUIDEntry : entities.entrySet()) {
-            if (playerUUIDEntry.getValue().equals(entity.getUniqueId())) {
-                return playerUUIDEntry.getKey();
-            }
-        }
-        return null;
+        return entityOwners.get(entity.getUniqueId());
     }
 
     /**
      * hand over everyone being part of the arena
+     *
+     * @return a read-only view, safe to iterate while players join or leave
      */
     public Set<ArenaPlayer> getEveryone() {
-        return ArenaPlayer.getAllArenaPlayers().stream()
-                .filter(ap -> this.equals(ap.getArena()))
-                .collect(Collectors.toSet());
+        return everyoneView;
     }
 
     /**
      * hand over all players being member of a team
+     *
+     * @return a read-only view, safe to iterate while players join or leave
      */
     public Set<ArenaPlayer> getFighters() {
+        return fightersView;
+    }
 
-        final Set<ArenaPlayer> players = new HashSet<>();
+    /**
+     * hand over everyone being part of the arena with the given status
+     *
+     * @param status the status to filter
+     * @return a read-only view, safe to iterate while players join or leave
+     */
+    public Set<ArenaPlayer> getPlayersByStatus(final Status status) {
+        return playersByStatusView.get(status);
+    }
 
+    void addMember(final ArenaPlayer player) {
+        everyone.add(player);
+        if (player.getStatus() != null) {
+            playersByStatus.get(player.getStatus()).add(player);
+        }
         for (final ArenaTeam team : teams) {
-            for (final ArenaPlayer ap : team.getTeamMembers()) {
-                players.add(ap);
+            if (team.getTeamMembers().contains(player)) {
+                fighters.add(player);
+                break;
             }
         }
-        return players;
+        publishChat();
+    }
+
+    void removeMember(final ArenaPlayer player) {
+        everyone.remove(player);
+        fighters.remove(player);
+        for (final Set<ArenaPlayer> players : playersByStatus.values()) {
+            players.remove(player);
+        }
+        publishChat();
+    }
+
+    void updateMemberStatus(final ArenaPlayer player, final Status oldStatus, final Status newStatus) {
+        if (!everyone.contains(player)) {
+            return;
+        }
+        if (oldStatus != null) {
+            playersByStatus.get(oldStatus).remove(player);
+        }
+        if (newStatus != null) {
+            playersByStatus.get(newStatus).add(player);
+        }
+        publishChat();
+    }
+
+    void addFighter(final ArenaPlayer player) {
+        if (everyone.contains(player)) {
+            fighters.add(player);
+        }
+        publishChat();
+    }
+
+    void removeFighter(final ArenaPlayer player) {
+        publishChat();
+        for (final ArenaTeam team : teams) {
+            if (team.getTeamMembers().contains(player)) {
+                return; // switched teams
+            }
+        }
+        fighters.remove(player);
+    }
+
+    /**
+     * take a new chat snapshot of the players and chat settings, for async chat threads to
+     * route messages with. Main thread only, call it whenever one of them changed
+     */
+    public void publishChat() {
+        final PAChatSnapshot previous = chatSnapshot;
+        if (previous == null && everyone.isEmpty()) {
+            return; // nobody to route chat for yet
+        }
+        final PAChatSnapshot next = new PAChatSnapshot(this);
+        chatSnapshot = next;
+        ChatManager.publish(previous, next);
     }
 
     public Set<ArenaGoal> getGoals() {
@@ -444,6 +596,22 @@ public class Arena {
         return mods;
     }
 
+    /**
+     * @param hook the hook method name
+     * @return the goals of the current round overriding the hook
+     */
+    public List<ArenaGoal> getGoals(final String hook) {
+        return goalHooks.get(hook, getGoals());
+    }
+
+    /**
+     * @param hook the hook method name
+     * @return the modules overriding the hook
+     */
+    public List<ArenaModule> getMods(final String hook) {
+        return modHooks.get(hook, mods);
+    }
+
     public String getName() {
         return name;
     }
@@ -528,6 +696,13 @@ public class Arena {
         return spawns;
     }
 
+    /**
+     * @return the arena spawns, indexed by name
+     */
+    public PANameIndex<PASpawn, PALocation> getSpawnsByName() {
+        return spawnsByName;
+    }
+
     private Scoreboard getSpecialScoreboard() {
         if (this.scoreboard == null) {
             this.scoreboard = this.getCommonScoreboard(true);
@@ -606,6 +781,27 @@ public class Arena {
         return teams;
     }
 
+    /**
+     * add a team, and route the chat of its members to it
+     *
+     * @param team the team to add
+     */
+    public void addTeam(final ArenaTeam team) {
+        teams.add(team);
+        publishChat();
+    }
+
+    /**
+     * remove a team, and stop routing chat to it
+     *
+     * @param team the team to remove, may be null
+     */
+    public void removeTeam(final ArenaTeam team) {
+        if (team != null && teams.remove(team)) {
+            publishChat();
+        }
+    }
+
     /**
      * hand over all teams
      *
@@ -750,7 +946,7 @@ public class Arena {
     }
 
     public boolean hasEntity(final Entity entity) {
-        return entities.containsValue(entity.getUniqueId());
+        return entityOwners.containsKey(entity.getUniqueId());
     }
 
     /**
@@ -798,7 +994,47 @@ public class Arena {
     }
 
     public boolean isLocked() {
-        return locked;
+        return locked || restoring;
+    }
+
+    /**
+     * @return true while blocks changed during the last match are being put back
+     */
+    public boolean isRestoring() {
+        return restoring;
+    }
+
+    /**
+     * remember a block about to change, to put it back after the match
+     *
+     * @param block the block
+     */
+    public void recordBlock(final Block block) {
+        if (isRecordingBlocks()) {
+            blockJournal.record(block);
+        }
+    }
+
+    /**
+     * remember a block that changed, to put it back after the match
+     *
+     * @param block    the block
+     * @param original the block data before the change
+     */
+    public void recordBlock(final Block block, final BlockData original) {
+        if (isRecordingBlocks()) {
+            blockJournal.record(block, original);
+        }
+    }
+
+    private boolean isRecordingBlocks() {
+        if (!fightInProgress || restoring || !cfg.getBoolean(CFG.GENERAL_RESTORE)) {
+            return false;
+        }
+        if (blockJournal == null) {
+            blockJournal = new PABlockJournal();
+        }
+        return true;
     }
 
     public boolean isValid() {
@@ -989,6 +1225,7 @@ public class Arena {
         }
 
         aPlayer.reset();
+        StatisticsManager.save();
     }
 
     /**
@@ -1122,11 +1359,267 @@ public class Arena {
     }
 
     public void removeEntity(final Entity entity) {
-        for (final Map.Entry<Player, UUID> playerUUIDEntry : entities.entrySet()) {
-            if (playerUUIDEntry.getValue().equals(entity.getUniqueId())) {
-                entities.remove(playerUUIDEntry.getKey());
-                return;
+        final Player owner = entityOwners.remove(entity.getUniqueId());
+        if (owner != null) {
+            entities.remove(owner);
+            ArenaManager.unindexEntity(entity.getUniqueId());
+        }
+    }
+
+    public void removeRegion(final ArenaRegion region) {
+        regions.remove(region);
+        ArenaManager.unindexRegion(region);
+        stopRegionTimer(region);
+    }
+
+    /**
+     * hand over a region to the arena region timer, starting it if needed
+     *
+     * @param region the region to tick
+     */
+    public void startRegionTimer(final ArenaRegion region) {
+        if (regionRunner == null) {
+            regionRunner = new RegionRunnable(this);
+            final int timer = cfg.getInt(CFG.TIME_REGIONTIMER);
+            getTickRunner().schedule(Phase.REGIONS, regionRunner, timer, timer);
+        }
+        regionRunner.activate(region);
+    }
+
+    /**
+     * remove a region from the arena region timer, stopping it if it is the last one
+     *
+     * @param region the region to stop ticking
+     */
+    public void stopRegionTimer(final ArenaRegion region) {
+        if (regionRunner != null && regionRunner.deactivate(region)) {
+            regionRunner = null;
+            unschedule(Phase.REGIONS);
+        }
+    }
+
+    /**
+     * make the region timer look up player regions again, after a region changed
+     */
+    public void refreshRegionTimer() {
+        if (regionRunner != null) {
+            regionRunner.invalidate();
+        }
+    }
+
+    /**
+     * reset weapon and armor durability on the next tick, merged with the other resets
+     * queued for this tick
+     *
+     * @param attacker the player whose weapon to reset, may be null
+     * @param defender the player whose armor to reset, may be null
+     */
+    public void queueDamageReset(final Player attacker, final Player defender) {
+        if (damageResetRunner == null) {
+            damageResetRunner = new DamageResetRunnable(this);
+            getTickRunner().schedule(Phase.DAMAGE, damageResetRunner, 1, 1);
+        }
+        damageResetRunner.queue(attacker, defender);
+    }
+
+    /**
+     * stop the damage reset timer, dropping pending resets
+     */
+    public void stopDamageReset() {
+        if (damageResetRunner != null) {
+            damageResetRunner = null;
+            unschedule(Phase.DAMAGE);
+        }
+    }
+
+    private EffectsRunnable getEffectsRunner() {
+        if (effectsRunner == null) {
+            final int timer = Math.max(1, cfg.getInt(CFG.TIME_EFFECTSTIMER));
+            effectsRunner = new EffectsRunnable(this, timer);
+            getTickRunner().schedule(Phase.EFFECTS, effectsRunner, timer, timer);
+        }
+        return effectsRunner;
+    }
+
+    /**
+     * hand over a particle circle to the arena effects timer, starting it if needed
+     *
+     * @param circle the circle to draw
+     */
+    public void addCircleEffect(final CircleParticleRunnable circle) {
+        getEffectsRunner().addCircle(circle);
+    }
+
+    public void removeCircleEffect(final CircleParticleRunnable circle) {
+        if (effectsRunner != null) {
+            effectsRunner.removeCircle(circle);
+        }
+    }
+
+    /**
+     * hand over a claim bar to the arena effects timer, starting it if needed
+     *
+     * @param bar the bar to update
+     * @return the current tick of the effects timer
+     */
+    public long addClaimBar(final PAClaimBar bar) {
+        final EffectsRunnable runner = getEffectsRunner();
+        runner.addBar(bar);
+        return runner.getTick();
+    }
+
+    public void removeClaimBar(final PAClaimBar bar) {
+        if (effectsRunner != null) {
+            effectsRunner.removeBar(bar);
+        }
+    }
+
+    /**
+     * stop the effects timer, dropping its circles and bars
+     */
+    public void stopEffects() {
+        if (effectsRunner != null) {
+            effectsRunner = null;
+            unschedule(Phase.EFFECTS);
+        }
+    }
+
+    /**
+     * watch the fighters near a point, starting the arena proximity timer if needed
+     *
+     * @param center   the zone center
+     * @param radius   the zone radius, inclusive
+     * @param period   the ticks between two checks of the zone
+     * @param listener the listener to notify when fighters enter or leave, may be null
+     * @return the zone, holding the fighters inside
+     */
+    public ProximityRunnable.Zone watchProximity(final Location center, final double radius, final int period,
+                                                 final ProximityRunnable.Listener listener) {
+        if (proximityRunner == null) {
+            proximityRunner = new ProximityRunnable(this);
+            getTickRunner().schedule(Phase.PROXIMITY, proximityRunner, 1, 1);
+        }
+        return proximityRunner.watch(center, radius, period, listener);
+    }
+
+    public void unwatchProximity(final ProximityRunnable.Zone zone) {
+        if (proximityRunner != null) {
+            proximityRunner.unwatch(zone);
+        }
+    }
+
+    /**
+     * stop the proximity timer, dropping its zones
+     */
+    public void stopProximity() {
+        if (proximityRunner != null) {
+            proximityRunner = null;
+            unschedule(Phase.PROXIMITY);
+        }
+    }
+
+    /**
+     * start punishing spawn campers, checked at the region timer interval
+     */
+    public void startSpawnCampTimer() {
+        getTickRunner().schedule(Phase.SPAWNCAMP, new SpawnCampRunnable(this), 100,
+                cfg.getInt(CFG.TIME_REGIONTIMER));
+    }
+
+    public void stopSpawnCampTimer() {
+        unschedule(Phase.SPAWNCAMP);
+    }
+
+    /**
+     * start calling the goal and module tick hooks, until the arena is reset
+     */
+    private void startHookTimers() {
+        final TickRunnable runner = getTickRunner();
+        runner.schedule(Phase.GOALS, () -> {
+            for (final ArenaGoal goal : getGoals("tick")) {
+                final long start = Profiler.start();
+                goal.tick(runner.getTick());
+                Profiler.stop(this, "tick", goal.getName(), start);
+            }
+        }, 1, 1);
+        runner.schedule(Phase.MODULES, () -> {
+            for (final ArenaModule module : getMods("tick")) {
+                final long start = Profiler.start();
+                module.tick(runner.getTick());
+                Profiler.stop(this, "tick", module.getName(), start);
             }
+        }, 1, 1);
+    }
+
+    /**
+     * @return the arena tick loop, started if needed
+     */
+    public TickRunnable getTickRunner() {
+        if (tickRunner == null) {
+            tickRunner = new TickRunnable(this);
+            tickRunner.runTaskTimer(PVPArena.instance, 1L, 1L);
+        }
+        return tickRunner;
+    }
+
+    private void unschedule(final Phase phase) {
+        if (tickRunner != null && tickRunner.unschedule(phase)) {
+            tickRunner.cancel();
+            tickRunner = null;
+        }
+    }
+
+    /**
+     * put back the blocks changed during the match, a few milliseconds per tick as set by
+     * time.restoreBudget. The arena stays locked until all blocks are back
+     */
+    private void startRestore() {
+        final PABlockJournal journal = blockJournal;
+        if (journal == null) {
+            return;
+        }
+        if (PVPArena.instance.isShuttingDown()) {
+            journal.restore(Long.MAX_VALUE);
+            finishRestore(journal, 0);
+            return;
+        }
+        if (restoring) {
+            return;
+        }
+        restoring = true;
+        final long budget = Math.max(1, cfg.getInt(CFG.TIME_RESTOREBUDGET)) * 1000000L;
+        final TickRunnable runner = getTickRunner();
+        final int started = runner.getTick();
+        runner.schedule(Phase.RESTORE, () -> {
+            final int ticks = runner.getTick() - started;
+            if (journal.restore(budget)) {
+                finishRestore(journal, ticks);
+            } else if (ticks % 20 == 0) {
+                Arena.pmsg(Bukkit.getConsoleSender(), Language.parse(MSG.RESTORE_PROGRESS, name,
+                        String.valueOf(journal.getRestored()), String.valueOf(journal.getSize())));
+            }
+        }, 1, 1);
+    }
+
+    private void finishRestore(final PABlockJournal journal, final int ticks) {
+        unschedule(Phase.RESTORE);
+        restoring = false;
+        blockJournal = null;
+        Arena.pmsg(Bukkit.getConsoleSender(), Language.parse(MSG.RESTORE_DONE, name,
+                String.valueOf(journal.getSize()), String.valueOf(ticks)));
+    }
+
+    /**
+     * drop all match timers of the arena tick loop at once, only the region timer of
+     * join and watch regions stays
+     */
+    private void stopMatchTimers() {
+        damageResetRunner = null;
+        effectsRunner = null;
+        proximityRunner = null;
+        if (tickRunner != null && tickRunner.unscheduleMatchPhases()) {
+            tickRunner.cancel();
+            tickRunner = null;
         }
     }
 
@@ -1268,8 +1761,8 @@ public class Arena {
 
             p.reset();
         }
-        for (final ArenaPlayer player : ArenaPlayer.getAllArenaPlayers()) {
-            if (equals(player.getArena()) && player.getStatus() == Status.WATCH) {
+        for (final ArenaPlayer player : getPlayersByStatus(Status.WATCH)) {
+            if (equals(player.getArena())) {
 
                 callExitEvent(player.get());
                 resetPlayer(player.get(),
@@ -1423,13 +1916,16 @@ public class Arena {
             pvpRunner.cancel();
         }
         pvpRunner = null;
+        stopMatchTimers();
 
         ArenaModuleManager.reset(this, force);
         ArenaManager.advance(Arena.this);
         clearRegions();
         PVPArena.instance.getAgm().reset(this, force);
+        startRestore();
 
         round = 0;
+        // one batch for every participant, staged by ArenaPlayer.reset()
         StatisticsManager.save();
 
         try {
@@ -1702,16 +2198,24 @@ public class Arena {
 
     public void setFightInProgress(final boolean fightInProgress) {
         this.fightInProgress = fightInProgress;
+        spawnIndexes.clear();
+        combatContext = fightInProgress ? new PACombatContext(this) : null;
+        if (fightInProgress) {
+            startHookTimers();
+        }
         getDebugger().i("fighting : " + fightInProgress);
     }
 
     public void setFree(final boolean isFree) {
         free = isFree;
+        combatContext = null;
         if (free && cfg.getUnsafe("teams.free") == null) {
             teams.clear();
+            fighters.clear();
             teams.add(new ArenaTeam("free", "WHITE"));
         } else if (free) {
             teams.clear();
+            fighters.clear();
             teams.add(new ArenaTeam("free", (String) cfg
                     .getUnsafe("teams.free")));
         }
@@ -1748,49 +2252,65 @@ public class Arena {
      */
     public void spawnCampPunish() {
 
-        final Map<Location, ArenaPlayer> players = new HashMap<>();
+        final List<Player> players = new ArrayList<>();
 
         for (final ArenaPlayer ap : getFighters()) {
             if (ap.getStatus() != Status.FIGHT) {
                 continue;
             }
-            players.put(ap.get().getLocation(), ap);
+            players.add(ap.get());
         }
 
+        final int damage = cfg.getInt(CFG.DAMAGE_SPAWNCAMP);
+
         for (final ArenaTeam team : teams) {
             if (team.getTeamMembers().size() < 1) {
                 continue;
             }
             final String sTeam = team.getName();
-            final Set<PALocation> spawns;
-
+            final PASpawnIndex spawns;
 
             if (cfg.getBoolean(CFG.GENERAL_CLASSSPAWN)) {
-                spawns = SpawnManager.getSpawnsContaining(this, "spawn");
+                spawns = getSpawnIndex("spawn", true);
             } else {
-                spawns = SpawnManager.getSpawnsStartingWith(this, this.free ?"spawn":sTeam + "spawn");
-            }
-
-
-            for (final PALocation spawnLoc : spawns) {
-                for (final Map.Entry<Location, ArenaPlayer> locationArenaPlayerEntry : players.entrySet()) {
-                    if (spawnLoc.getDistanceSquared(new PALocation(locationArenaPlayerEntry.getKey())) < 9) {
-                        locationArenaPlayerEntry.getValue()
-                                .get()
-                                .setLastDamageCause(
-                                        new EntityDamageEvent(locationArenaPlayerEntry.getValue().get(),
-                                                DamageCause.CUSTOM,
-                                                1002));
-                        locationArenaPlayerEntry.getValue()
-                                .get()
-                                .damage(cfg.getInt(
-                                        CFG.DAMAGE_SPAWNCAMP));
-                    }
+                spawns = getSpawnIndex(this.free ? "spawn" : sTeam + "spawn", false);
+            }
+            if (spawns.size() < 1) {
+                continue;
+            }
+
+            for (final Player player : players) {
+                // punish once per spawn the player is camping
+                final int count = spawns.countCloserThan(player.getLocation(), 3);
+                for (int i = 0; i < count; i++) {
+                    player.setLastDamageCause(
+                            new EntityDamageEvent(player, DamageCause.CUSTOM, 1002));
+                    player.damage(damage);
                 }
             }
         }
     }
 
+    /**
+     * hand over a spatial index of the spawns matching a name, built once until the
+     * spawns change or the next fight starts
+     *
+     * @param name       the spawn name to match
+     * @param containing true to match spawns containing the name, false to match spawns starting with it
+     * @return the spawn index
+     */
+    public PASpawnIndex getSpawnIndex(final String name, final boolean containing) {
+        final String key = (containing ? "*" : "") + name;
+        PASpawnIndex index = spawnIndexes.get(key);
+        if (index == null) {
+            index = new PASpawnIndex(containing
+                    ? SpawnManager.getSpawnsContaining(this, name)
+                    : SpawnManager.getSpawnsStartingWith(this, name));
+            spawnIndexes.put(key, index);
+        }
+        return index;
+    }
+
     public void spawnSet(final String node, final PALocation paLocation) {
         final String string = Config.parseToString(paLocation);
 
@@ -1807,6 +2327,12 @@ public class Arena {
     public void spawnUnset(final String node) {
         cfg.setManually("spawns." + node, null);
         cfg.save();
+        final PASpawn spawn = spawnsByName.remove(node);
+        if (spawn != null) {
+            spawns.remove(spawn);
+        }
+        spawnIndexes.clear();
+        combatContext = null;
     }
 
     public void start() {
@@ -1907,25 +2433,12 @@ public class Arena {
      */
     public void tellTeam(final String sTeam, final String msg, final ChatColor color,
                          final Player player) {
-        final ArenaTeam team = getTeam(sTeam);
-        if (team == null) {
+        final PAChatSnapshot chat = chatSnapshot;
+        if (chat == null) {
             return;
         }
-        getDebugger().i('@' + team.getName() + ": " + msg, player);
-        synchronized (this) {
-            for (final ArenaPlayer p : team.getTeamMembers()) {
-                final String reset = cfg.getBoolean(CFG.CHAT_COLORNICK)?"":ChatColor.RESET.toString();
-                if (player == null) {
-                    p.get().sendMessage(
-                            color + "[" + team.getName() + ']' + ChatColor.RESET
-                                    + ": " + msg);
-                } else {
-                    p.get().sendMessage(
-                            color + "[" + team.getName() + "] " + reset + player.getName() + ChatColor.RESET
-                                    + ": " + msg);
-                }
-            }
-        }
+        getDebugger().i('@' + sTeam + ": " + msg, player);
+        chat.tellTeam(sTeam, msg, color, player);
     }
 
     @Override
@@ -2290,6 +2803,7 @@ public class Arena {
     }
 
     private void updateGoals() {
+        goalHooks.invalidate();
         final List<String> list = new ArrayList<>();
 
         for (final ArenaGoal goal : goals) {
@@ -2301,6 +2815,7 @@ public class Arena {
     }
 
     private void updateMods() {
+        modHooks.invalidate();
         final List<String> list = new ArrayList<>();
 
         for (final ArenaModule mod : mods) {
@@ -2312,6 +2827,7 @@ public class Arena {
     }
 
     public void updateRounds() {
+        goalHooks.invalidate();
         final List<String> result = new ArrayList<>();
 
         for (int i = 0; i < rounds.getCount(); i++) {
@@ -2412,6 +2928,22 @@ public class Arena {
         return sTeam;
     }
 
+    /**
+     * hand over the compiled message of the arena language file
+     *
+     * @param message the message to find
+     * @return the compiled message, null if the arena language does not override it
+     */
+    public MessageTemplate getMessageTemplate(final MSG message) {
+        if (messageTemplates.containsKey(message)) {
+            return messageTemplates.get(message);
+        }
+        final Object value = language.get(message.getNode());
+        final MessageTemplate template = value == null ? null : MessageTemplate.compile((String) value);
+        messageTemplates.put(message, template);
+        return template;
+    }
+
     public YamlConfiguration getLanguage() {
         return language;
     }
@@ -2426,23 +2958,23 @@ public class Arena {
     }
 
     public void addBlock(final PABlock paBlock) {
-        for (PABlock block : blocks) {
-            if (block.getName().equals(paBlock.getName())) {
-                blocks.remove(block);
-                break;
-            }
+        final PABlock block = blocksByName.get(paBlock.getName());
+        if (block != null) {
+            blocks.remove(block);
         }
         blocks.add(paBlock);
+        blocksByName.put(paBlock.getName(), paBlock);
     }
 
     public void addSpawn(final PASpawn paSpawn) {
-        for (PASpawn spawn : spawns) {
-            if (spawn.getName().equals(paSpawn.getName())) {
-                spawns.remove(spawn);
-                break;
-            }
+        final PASpawn spawn = spawnsByName.get(paSpawn.getName());
+        if (spawn != null) {
+            spawns.remove(spawn);
         }
         spawns.add(paSpawn);
+        spawnsByName.put(paSpawn.getName(), paSpawn);
+        spawnIndexes.clear();
+        combatContext = null;
     }
 
     public boolean allowsJoinInBattle() {
@@ -11,8 +11,10 @@ import net.slipcor.pvparena.core.Debug;
 import net.slipcor.pvparena.events.PAPlayerClassChangeEvent;
 import net.slipcor.pvparena.loadables.ArenaModuleManager;
 import net.slipcor.pvparena.managers.ArenaManager;
+import net.slipcor.pvparena.managers.DumpManager;
 import net.slipcor.pvparena.managers.InventoryManager;
 import net.slipcor.pvparena.managers.SpawnManager;
+import net.slipcor.pvparena.managers.StatisticsManager;
 import net.slipcor.pvparena.managers.StatisticsManager.Type;
 import org.bukkit.*;
 import org.bukkit.configuration.file.YamlConfiguration;
@@ -25,8 +27,10 @@ import org.bukkit.permissions.PermissionAttachment;
 import org.bukkit.projectiles.ProjectileSource;
 import org.bukkit.scoreboard.Scoreboard;
 
-import java.io.File;
+import java.io.*;
+import java.lang.ref.WeakReference;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Optional.ofNullable;
 
@@ -43,9 +47,12 @@ import static java.util.Optional.ofNullable;
 
 public class ArenaPlayer {
     private static final Debug debug = new Debug(5);
-    private static final Map<String, ArenaPlayer> totalPlayers = new HashMap<>();
+    private static final Map<UUID, ArenaPlayer> totalPlayers = new ConcurrentHashMap<>();
+    private static final Map<String, ArenaPlayer> playersByName = new ConcurrentHashMap<>();
 
     private final String name;
+    private volatile UUID uuid;
+    private volatile WeakReference<Player> playerRef;
     private boolean telePass;
     private boolean ignoreAnnouncements;
     private boolean teleporting;
@@ -116,7 +123,7 @@ public class ArenaPlayer {
     }
 
     public static Set<ArenaPlayer> getAllArenaPlayers() {
-        return new HashSet<>(totalPlayers.values());
+        return new HashSet<>(playersByName.values());
     }
 
     public boolean getFlyState() {
@@ -208,20 +215,48 @@ public class ArenaPlayer {
      * @return an ArenaPlayer instance belonging to that player
      */
     public static ArenaPlayer parsePlayer(final String name) {
-        synchronized (ArenaPlayer.class) {
-            Player player = Bukkit.getPlayerExact(name);
+        final ArenaPlayer aPlayer = playersByName.get(name);
+        if (aPlayer != null && aPlayer.getCachedPlayer() != null) {
+            return aPlayer;
+        }
 
-            // Offline player or NPC
-            if (player == null) {
-                return new ArenaPlayer(name);
-            }
+        final Player player = Bukkit.getPlayerExact(name);
+
+        // Offline player or NPC
+        if (player == null) {
+            return new ArenaPlayer(name);
+        }
+        return parsePlayer(player);
+    }
 
-            if (!totalPlayers.containsKey(name)) {
-                ArenaPlayer ap = new ArenaPlayer(player.getName());
-                totalPlayers.putIfAbsent(name, ap);
+    /**
+     * get an ArenaPlayer from a bukkit player
+     *
+     * @param player the player to use
+     * @return an ArenaPlayer instance belonging to that player
+     */
+    public static ArenaPlayer parsePlayer(final Player player) {
+        final ArenaPlayer aPlayer = totalPlayers.get(player.getUniqueId());
+        if (aPlayer != null) {
+            if (aPlayer.getCachedPlayer() != player && player.isOnline()) {
+                aPlayer.playerRef = new WeakReference<>(player);
             }
-            return totalPlayers.get(name);
+            return aPlayer;
+        }
+
+        // NPC or player object of a past session
+        if (!player.isOnline()) {
+            return new ArenaPlayer(player.getName());
         }
+
+        final ArenaPlayer result = totalPlayers.computeIfAbsent(player.getUniqueId(), uuid -> {
+            // players known from the statistics are only indexed by name so far
+            final ArenaPlayer known = playersByName.computeIfAbsent(player.getName(), ArenaPlayer::new);
+            known.uuid = uuid;
+            return known;
+        });
+        result.playerRef = new WeakReference<>(player);
+        return result;
     }
 
     /**
@@ -231,13 +266,26 @@ public class ArenaPlayer {
      * @return an ArenaPlayer instance belonging to that player
      */
     public static ArenaPlayer addPlayer(final String name) {
-        synchronized (ArenaPlayer.class) {
-            ArenaPlayer aPlayer = new ArenaPlayer(name);
-            totalPlayers.putIfAbsent(name, aPlayer);
-            return totalPlayers.get(name);
+        return playersByName.computeIfAbsent(name, ArenaPlayer::new);
+    }
+
+    /**
+     * drop the cached handle of a player leaving the server
+     *
+     * @param player the quitting player
+     */
+    public static void unbindPlayer(final Player player) {
+        final ArenaPlayer aPlayer = totalPlayers.get(player.getUniqueId());
+        if (aPlayer != null && aPlayer.getCachedPlayer() == player) {
+            aPlayer.playerRef = null;
         }
     }
 
+    private Player getCachedPlayer() {
+        final WeakReference<Player> ref = playerRef;
+        return ref == null ? null : ref.get();
+    }
+
     /**
      * prepare a player's inventory, back it up and clear it
      *
@@ -354,11 +402,7 @@ public class ArenaPlayer {
 
     public void addStatistic(final String arenaName, final Type type,
                              final int value) {
-        if (!statistics.containsKey(arenaName)) {
-            statistics.put(arenaName, new PAStatMap());
-        }
-
-        statistics.get(arenaName).incStat(type, value);
+        getStatistics(arenaName).incStat(type, value);
     }
 
     public void addWins() {
@@ -368,12 +412,8 @@ public class ArenaPlayer {
     private void clearDump() {
         debug.i("clearing dump of " + name, name);
         debugPrint();
-        final File file = new File(PVPArena.instance.getDataFolder().getPath()
-                + "/dumps/" + name + ".yml");
-        if (!file.exists()) {
-            return;
-        }
-        file.delete();
+        DumpManager.remove(name);
+        DumpManager.removeLegacy(name);
     }
 
     public void clearFlyState() {
@@ -423,29 +463,25 @@ public class ArenaPlayer {
     public void dump() {
         debug.i("dumping...", name);
         debugPrint();
-        final File file = new File(PVPArena.instance.getDataFolder().getPath()
-                + "/dumps/" + name + ".yml");
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
         try {
-            file.createNewFile();
-        } catch (final Exception e) {
+            out.writeUTF(arena.getName());
+            out.writeBoolean(location != null);
+            if (location != null) {
+                out.writeUTF(Config.parseToString(location));
+            }
+            DumpManager.writeItems(out, savedInventory);
+            out.writeBoolean(state != null);
+            if (state != null) {
+                state.dump(out);
+            }
+        } catch (final IOException e) {
             e.printStackTrace();
             return;
         }
-
-        final YamlConfiguration cfg = new YamlConfiguration();
-        cfg.set("arena", arena.getName());
-        if (state != null) {
-            state.dump(cfg);
-        }
-
-        try {
-            cfg.set("inventory", savedInventory);
-            cfg.set("loc", Config.parseToString(location));
-
-            cfg.save(file);
-        } catch (final Exception e) {
-            e.printStackTrace();
-        }
+        // written to the journal by the dump writer thread
+        DumpManager.put(name, bytes.toByteArray());
     }
 
     /**
@@ -454,7 +490,17 @@ public class ArenaPlayer {
      * @return the bukkit player instance
      */
     public Player get() {
-        return Bukkit.getPlayerExact(name);
+        final Player player = getCachedPlayer();
+        return player == null ? Bukkit.getPlayerExact(name) : player;
+    }
+
+    /**
+     * return the player's unique id, if the player has been online since the server start
+     *
+     * @return the player unique id or null
+     */
+    public UUID getUniqueId() {
+        return uuid;
     }
 
     /**
@@ -537,10 +583,24 @@ public class ArenaPlayer {
         if (arena == null) {
             return new PAStatMap();
         }
-        if (statistics.get(arena.getName()) == null) {
-            statistics.put(arena.getName(), new PAStatMap());
+        return getStatistics(arena.getName());
+    }
+
+    /**
+     * hand over the statistics of an arena, creating them if needed. Only the registered
+     * instance of a player takes part in the rankings, the throwaway ones created for
+     * offline names would count their changes a second time
+     *
+     * @param arenaName the arena name
+     * @return the statistics of that arena
+     */
+    public PAStatMap getStatistics(final String arenaName) {
+        PAStatMap map = statistics.get(arenaName);
+        if (map == null) {
+            map = isRegistered() ? new PAStatMap(name, arenaName) : new PAStatMap();
+            statistics.put(arenaName, map);
         }
-        return statistics.get(arena.getName());
+        return map;
     }
 
     public Status getStatus() {
@@ -601,13 +661,52 @@ public class ArenaPlayer {
     public void readDump() {
         debug.i("reading dump: " + name, name);
         debugPrint();
-        final File file = new File(PVPArena.instance.getDataFolder().getPath()
-                + "/dumps/" + name + ".yml");
-        if (!file.exists()) {
-            debug.i("no dump!", name);
+        final byte[] data = DumpManager.get(name);
+        if (data == null) {
+            if (DumpManager.hasLegacy(name)) {
+                readLegacyDump();
+            } else {
+                debug.i("no dump!", name);
+            }
+            return;
+        }
+
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        try {
+            setArena(ArenaManager.getArenaByName(in.readUTF()));
+            location = in.readBoolean() ? Config.parseLocation(in.readUTF()) : null;
+            savedInventory = DumpManager.readItems(in);
+
+            if (arena != null) {
+                final String goTo = arena.getArenaConfig().getString(CFG.TP_EXIT);
+                if (!"old".equals(goTo)) {
+                    location = SpawnManager.getSpawnByExactName(arena, "exit");
+                }
+
+                if (Bukkit.getPlayer(name) == null) {
+                    debug.i("player offline, OUT!", name);
+                    return;
+                }
+                if (in.readBoolean()) {
+                    state = PlayerState.undump(in, name);
+                }
+            }
+        } catch (final IOException e) {
+            e.printStackTrace();
             return;
         }
 
+        DumpManager.remove(name);
+        debugPrint();
+    }
+
+    /**
+     * read a dump file written before the dump journal
+     */
+    private void readLegacyDump() {
+        final File file = new File(PVPArena.instance.getDataFolder().getPath()
+                + "/dumps/" + name + ".yml");
+
         final YamlConfiguration cfg = new YamlConfiguration();
         try {
             cfg.load(file);
@@ -616,7 +715,7 @@ public class ArenaPlayer {
             return;
         }
 
-        arena = ArenaManager.getArenaByName(cfg.getString("arena"));
+        setArena(ArenaManager.getArenaByName(cfg.getString("arena")));
         savedInventory = cfg.getList("inventory").toArray(new ItemStack[0]);
                 /*StringParser.getItemStacksFromString(cfg.getString(
                 "inventory", "AIR"));*/
@@ -635,7 +734,7 @@ public class ArenaPlayer {
             state = PlayerState.undump(cfg, name);
         }
 
-        file.delete();
+        DumpManager.removeLegacy(name);
         debugPrint();
     }
 
@@ -645,51 +744,9 @@ public class ArenaPlayer {
     public void reset() {
         debug.i("destroying arena player " + name, name);
         debugPrint();
-        final YamlConfiguration cfg = new YamlConfiguration();
-        try {
-            if (PVPArena.instance.getConfig().getBoolean("stats")) {
-
-                final String file = PVPArena.instance.getDataFolder()
-                        + "/players.yml";
-                cfg.load(file);
-
-                if (arena != null) {
-                    final String arenaName = arena.getName();
-                    cfg.set(arenaName + '.' + name + ".losses", getStatistics()
-                            .getStat(Type.LOSSES)
-                            + getTotalStatistics(Type.LOSSES));
-                    cfg.set(arenaName + '.' + name + ".wins",
-                            getStatistics()
-                                    .getStat(Type.WINS)
-                                    + getTotalStatistics(Type.WINS));
-                    cfg.set(arenaName + '.' + name + ".kills",
-                            getStatistics().getStat(
-                                    Type.KILLS)
-                                    + getTotalStatistics(Type.KILLS));
-                    cfg.set(arenaName + '.' + name + ".deaths", getStatistics()
-                            .getStat(Type.DEATHS)
-                            + getTotalStatistics(Type.DEATHS));
-                    cfg.set(arenaName + '.' + name + ".damage", getStatistics()
-                            .getStat(Type.DAMAGE)
-                            + getTotalStatistics(Type.DAMAGE));
-                    cfg.set(arenaName + '.' + name + ".maxdamage",
-                            getStatistics().getStat(
-                                    Type.MAXDAMAGE)
-                                    + getTotalStatistics(Type.MAXDAMAGE));
-                    cfg.set(arenaName + '.' + name + ".damagetake",
-                            getStatistics().getStat(
-                                    Type.DAMAGETAKE)
-                                    + getTotalStatistics(Type.DAMAGETAKE));
-                    cfg.set(arenaName + '.' + name + ".maxdamagetake",
-                            getStatistics().getStat(
-                                    Type.MAXDAMAGETAKE)
-                                    + getTotalStatistics(Type.MAXDAMAGETAKE));
-                }
-
-                cfg.save(file);
-            }
-        } catch (final Exception e) {
-            e.printStackTrace();
+        if (arena != null) {
+            // only staged here, the arena writes them with the next save
+            StatisticsManager.update(arena, this);
         }
 
         if (get() == null) {
@@ -714,7 +771,7 @@ public class ArenaPlayer {
                 team.remove(this);
             }
         }
-        arena = null;
+        setArena(null);
         aClass = null;
         get().setFireTicks(0);
         try {
@@ -738,7 +795,17 @@ public class ArenaPlayer {
      * @param arena the arena to set
      */
     public final void setArena(final Arena arena) {
+        if (this.arena != null && this.arena != arena) {
+            this.arena.removeMember(this);
+        }
         this.arena = arena;
+        if (arena != null && isRegistered()) {
+            arena.addMember(this);
+        }
+    }
+
+    private boolean isRegistered() {
+        return playersByName.get(name) == this;
     }
 
     /**
@@ -803,6 +870,9 @@ public class ArenaPlayer {
 
     public void setPublicChatting(final boolean chatPublic) {
         publicChatting = chatPublic;
+        if (arena != null) {
+            arena.publishChat();
+        }
     }
 
     public void setSelection(final Location loc, final boolean second) {
@@ -815,17 +885,16 @@ public class ArenaPlayer {
 
     public void setStatistic(final String arenaName, final Type type,
                              final int value) {
-        if (!statistics.containsKey(arenaName)) {
-            statistics.put(arenaName, new PAStatMap());
-        }
-
-        final PAStatMap map = statistics.get(arenaName);
-        map.setStat(type, value);
+        getStatistics(arenaName).setStat(type, value);
     }
 
     public void setStatus(final Status status) {
         debug.i(name + '>' + status.name(), name);
+        final Status oldStatus = this.status;
         this.status = status;
+        if (arena != null && oldStatus != status) {
+            arena.updateMemberStatus(this, oldStatus, status);
+        }
     }
 
     /**
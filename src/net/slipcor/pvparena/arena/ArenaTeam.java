@@ -47,6 +47,7 @@ public class ArenaTeam {
         players.add(player);
         debug.i("Added player " + player.getName() + " to team " + name, player.get());
         player.getArena().increasePlayerCount();
+        player.getArena().addFighter(player);
     }
 
     /**
@@ -124,6 +125,9 @@ public class ArenaTeam {
      */
     public void remove(final ArenaPlayer player) {
         players.remove(player);
+        if (player.getArena() != null) {
+            player.getArena().removeFighter(player);
+        }
     }
 
     @Override
@@ -15,6 +15,9 @@ import org.bukkit.event.entity.EntityRegainHealthEvent.RegainReason;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.util.Vector;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.Collection;
 
 /**
@@ -81,20 +84,23 @@ public final class PlayerState {
         }
     }
 
-    public void dump(final YamlConfiguration cfg) {
+    public void dump(final DataOutputStream out) throws IOException {
         debug.i("backing up PlayerState of " + name, name);
-        cfg.set("state.fireticks", fireticks);
-        cfg.set("state.foodlevel", foodlevel);
-        cfg.set("state.gamemode", gamemode);
-        cfg.set("state.health", health);
-        cfg.set("state.maxhealth", maxhealth);
-        cfg.set("state.exhaustion", exhaustion);
-        cfg.set("state.experience", experience);
-        cfg.set("state.explevel", explevel);
-        cfg.set("state.saturation", saturation);
-        cfg.set("state.displayname", displayname);
-        cfg.set("state.flying", ArenaPlayer.parsePlayer(name).getFlyState());
-        cfg.set("state.collides", collides);
+        out.writeInt(fireticks);
+        out.writeInt(foodlevel);
+        out.writeInt(gamemode);
+        out.writeDouble(health);
+        out.writeDouble(maxhealth);
+        out.writeFloat(exhaustion);
+        out.writeFloat(experience);
+        out.writeInt(explevel);
+        out.writeFloat(saturation);
+        out.writeBoolean(displayname != null);
+        if (displayname != null) {
+            out.writeUTF(displayname);
+        }
+        out.writeBoolean(ArenaPlayer.parsePlayer(name).getFlyState());
+        out.writeBoolean(collides);
     }
 
     public static void fullReset(final Arena arena, final Player player) {
@@ -306,4 +312,24 @@ public final class PlayerState {
 
         return pState;
     }
+
+    public static PlayerState undump(final DataInputStream in, final String pName) throws IOException {
+        debug.i("restoring backed up PlayerState of " + pName, pName);
+        final PlayerState pState = new PlayerState(Bukkit.getPlayer(pName));
+
+        pState.fireticks = in.readInt();
+        pState.foodlevel = in.readInt();
+        pState.gamemode = in.readInt();
+        pState.health = in.readDouble();
+        pState.maxhealth = in.readDouble();
+        pState.exhaustion = in.readFloat();
+        pState.experience = in.readFloat();
+        pState.explevel = in.readInt();
+        pState.saturation = in.readFloat();
+        pState.displayname = in.readBoolean() ? in.readUTF() : pName;
+        ArenaPlayer.parsePlayer(pName).setFlyState(in.readBoolean());
+        pState.collides = in.readBoolean();
+
+        return pState;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,163 @@
+package net.slipcor.pvparena.classes;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+
+import java.util.*;
+
+/**
+ * <pre>PVP Arena Block Journal class</pre>
+ * <p/>
+ * Remembers the original block data of every block changed during a match, once per
+ * block, and puts it back afterwards. Blocks are kept per chunk, each one as a single int
+ * packing its position inside the chunk and its index in a palette shared by all chunks,
+ * so that a match breaking thousands of the same block keeps that block data only once
+ *
+ * @author slipcor
+ */
+
+public class PABlockJournal {
+    private static final int PALETTE_MAX = 1 << 15;
+    private static final int CHECK_INTERVAL = 64;
+
+    private final List<BlockData> palette = new ArrayList<>();
+    private final Map<BlockData, Integer> paletteIndex = new HashMap<>();
+    private final Map<String, SortedMap<Long, ChunkEntries>> worlds = new TreeMap<>();
+    private int size;
+    private int restored;
+
+    private Iterator<Map.Entry<String, SortedMap<Long, ChunkEntries>>> worldIterator;
+    private Iterator<Map.Entry<Long, ChunkEntries>> chunkIterator;
+    private World world;
+    private ChunkEntries chunk;
+    private int position;
+
+    /**
+     * remember the current block data of a block, unless it has been remembered before
+     *
+     * @param block the block about to change
+     */
+    public void record(final Block block) {
+        record(block, block.getBlockData());
+    }
+
+    /**
+     * remember the block data a block had, unless it has been remembered before
+     *
+     * @param block    the block
+     * @param original the block data before the change
+     */
+    public void record(final Block block, final BlockData original) {
+        if (worldIterator != null || block.getY() < 0 || block.getY() > 255) {
+            return;
+        }
+        final int local = (block.getY() << 8) | ((block.getZ() & 15) << 4) | (block.getX() & 15);
+        final ChunkEntries entries = worlds
+                .computeIfAbsent(block.getWorld().getName(), k -> new TreeMap<>())
+                .computeIfAbsent(PAGrid.key(block.getX() >> 4, block.getZ() >> 4), ChunkEntries::new);
+        if (entries.known.get(local)) {
+            return;
+        }
+        Integer index = paletteIndex.get(original);
+        if (index == null) {
+            if (palette.size() >= PALETTE_MAX) {
+                return;
+            }
+            index = palette.size();
+            palette.add(original);
+            paletteIndex.put(original, index);
+        }
+        entries.known.set(local);
+        entries.add((index << 16) | local);
+        size++;
+    }
+
+    /**
+     * @return the number of remembered blocks
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return the number of blocks put back so far
+     */
+    public int getRestored() {
+        return restored;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * put blocks back, chunk by chunk, until all of them are back or the time is up.
+     * Once started, no more blocks are remembered
+     *
+     * @param budget the time to spend, in nanoseconds
+     * @return true if all blocks are back
+     */
+    public boolean restore(final long budget) {
+        final long start = System.nanoTime();
+        if (worldIterator == null) {
+            worldIterator = worlds.entrySet().iterator();
+        }
+        int count = 0;
+        while (true) {
+            if (chunk == null || position >= chunk.length) {
+                if (!nextChunk()) {
+                    return true;
+                }
+                continue;
+            }
+            if (world != null) {
+                final int entry = chunk.entries[position];
+                final int x = ((int) (chunk.key >> 32) << 4) | (entry & 15);
+                final int z = ((int) chunk.key << 4) | ((entry >> 4) & 15);
+                final int y = (entry >> 8) & 255;
+                world.getBlockAt(x, y, z).setBlockData(palette.get(entry >>> 16), false);
+            }
+            position++;
+            restored++;
+            if (++count % CHECK_INTERVAL == 0 && System.nanoTime() - start > budget) {
+                return false;
+            }
+        }
+    }
+
+    private boolean nextChunk() {
+        while (chunkIterator == null || !chunkIterator.hasNext()) {
+            if (!worldIterator.hasNext()) {
+                chunk = null;
+                return false;
+            }
+            final Map.Entry<String, SortedMap<Long, ChunkEntries>> next = worldIterator.next();
+            // a world unloaded meanwhile is skipped
+            world = Bukkit.getWorld(next.getKey());
+            chunkIterator = next.getValue().entrySet().iterator();
+        }
+        chunk = chunkIterator.next().getValue();
+        position = 0;
+        return true;
+    }
+
+    private static final class ChunkEntries {
+        private final BitSet known = new BitSet(1 << 16);
+        private final long key;
+        private int[] entries = new int[16];
+        private int length;
+
+        private ChunkEntries(final long key) {
+            this.key = key;
+        }
+
+        private void add(final int entry) {
+            if (length == entries.length) {
+                entries = Arrays.copyOf(entries, length * 2);
+            }
+            entries[length++] = entry;
+        }
+    }
+}
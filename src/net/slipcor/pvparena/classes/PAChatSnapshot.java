@@ -0,0 +1,186 @@
+package net.slipcor.pvparena.classes;
+
+import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.arena.ArenaPlayer;
+import net.slipcor.pvparena.arena.ArenaPlayer.Status;
+import net.slipcor.pvparena.arena.ArenaTeam;
+import net.slipcor.pvparena.core.Config;
+import net.slipcor.pvparena.core.Config.CFG;
+import net.slipcor.pvparena.core.Language.MSG;
+import net.slipcor.pvparena.core.MessageTemplate;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.AsyncPlayerChatEvent;
+
+import java.util.*;
+
+/**
+ * <pre>PVP Arena Chat Snapshot class</pre>
+ * <p/>
+ * The chat recipients and chat settings of an arena at one point in time. Built by the
+ * main thread whenever players join, leave, switch teams or change status, and never
+ * changed afterwards, so that async chat threads route messages without locks and
+ * without reading arena state
+ *
+ * @author slipcor
+ */
+
+public class PAChatSnapshot {
+    private final Map<UUID, Route> routes = new HashMap<>();
+    private final Map<String, List<Player>> teams = new HashMap<>();
+    private final List<Player> everyone;
+
+    private final boolean enabled;
+    private final boolean onlyPrivate;
+    private final boolean specTalk;
+    private final boolean colorNick;
+    private final String toGlobal;
+    private final String prefix;
+    private final MessageTemplate general;
+
+    /**
+     * take a snapshot of an arena, main thread only
+     *
+     * @param arena the arena to read
+     */
+    public PAChatSnapshot(final Arena arena) {
+        final Config config = arena.getArenaConfig();
+        enabled = config.getBoolean(CFG.CHAT_ENABLED);
+        onlyPrivate = config.getBoolean(CFG.CHAT_ONLYPRIVATE);
+        specTalk = config.getBoolean(CFG.PERMS_SPECTALK);
+        colorNick = config.getBoolean(CFG.CHAT_COLORNICK);
+        final String global = config.getString(CFG.CHAT_TOGLOBAL);
+        toGlobal = global == null || "none".equalsIgnoreCase(global) ? null : global.toLowerCase();
+        prefix = arena.getPrefix();
+        final MessageTemplate template = arena.getMessageTemplate(MSG.MESSAGES_GENERAL);
+        general = template == null ? MSG.MESSAGES_GENERAL.getTemplate() : template;
+
+        final Map<ArenaPlayer, ArenaTeam> teamOf = new HashMap<>();
+        for (final ArenaTeam team : arena.getTeams()) {
+            final List<Player> members = new ArrayList<>();
+            for (final ArenaPlayer member : team.getTeamMembers()) {
+                teamOf.put(member, team);
+                final Player player = member.get();
+                if (player != null) {
+                    members.add(player);
+                }
+            }
+            teams.put(team.getName(), Collections.unmodifiableList(members));
+        }
+
+        final List<Player> players = new ArrayList<>();
+        for (final ArenaPlayer member : arena.getEveryone()) {
+            final Player player = member.get();
+            if (player == null || member.getArena() != arena) {
+                continue;
+            }
+            players.add(player);
+            final ArenaTeam team = teamOf.get(member);
+            final boolean fighting = team != null
+                    && member.getStatus() != Status.LOST
+                    && member.getStatus() != Status.WATCH;
+            routes.put(player.getUniqueId(), new Route(fighting ? team.getName() : null,
+                    fighting ? team.getColor() : null, member.isPublicChatting()));
+        }
+        everyone = Collections.unmodifiableList(players);
+    }
+
+    /**
+     * @return the ids of the players chatting through this arena
+     */
+    public Set<UUID> getPlayers() {
+        return Collections.unmodifiableSet(routes.keySet());
+    }
+
+    /**
+     * route a chat message to the team or the arena, or leave it to the server
+     *
+     * @param event the chat event, on an async chat thread
+     */
+    public void route(final AsyncPlayerChatEvent event) {
+        final Player player = event.getPlayer();
+        final Route route = routes.get(player.getUniqueId());
+        if (route == null) {
+            return;
+        }
+        if (route.team == null) {
+            if (!specTalk) {
+                event.setCancelled(true);
+            }
+            return; // no fighting player => OUT
+        }
+
+        if (!onlyPrivate) {
+            if (!enabled || route.publicChatting) {
+                return; // no chat editing, or player not privately chatting
+            }
+            if (toGlobal != null && event.getMessage().toLowerCase().startsWith(toGlobal)) {
+                event.setMessage(event.getMessage().substring(toGlobal.length()));
+                return;
+            }
+            tellTeam(route.team, event.getMessage(), route.color, player);
+            event.setCancelled(true);
+            return;
+        }
+
+        if (enabled && !route.publicChatting) {
+            tellTeam(route.team, event.getMessage(), route.color, player);
+        } else {
+            broadcastColored(event.getMessage(), route.color, player);
+        }
+        event.setCancelled(true);
+    }
+
+    /**
+     * send a message to every player, prefix player name and ChatColor
+     *
+     * @param msg    the message to send
+     * @param color  the color to use
+     * @param player the player to prefix
+     */
+    public void broadcastColored(final String msg, final ChatColor color, final Player player) {
+        final String sColor = colorNick ? color.toString() : "";
+        final String line = general.render(prefix,
+                sColor + player.getName() + ChatColor.WHITE + ": " + msg.replace("&", "%%&%%"));
+        for (final Player recipient : everyone) {
+            recipient.sendMessage(line);
+        }
+    }
+
+    /**
+     * send a message to a team
+     *
+     * @param teamName the team name
+     * @param msg      the message to send
+     * @param color    the color to use
+     * @param player   the sending player, null for a message without sender
+     */
+    public void tellTeam(final String teamName, final String msg, final ChatColor color, final Player player) {
+        final List<Player> members = teams.get(teamName);
+        if (members == null) {
+            return;
+        }
+        final String line;
+        if (player == null) {
+            line = color + "[" + teamName + ']' + ChatColor.RESET + ": " + msg;
+        } else {
+            final String reset = colorNick ? "" : ChatColor.RESET.toString();
+            line = color + "[" + teamName + "] " + reset + player.getName() + ChatColor.RESET + ": " + msg;
+        }
+        for (final Player recipient : members) {
+            recipient.sendMessage(line);
+        }
+    }
+
+    private static final class Route {
+        private final String team;
+        private final ChatColor color;
+        private final boolean publicChatting;
+
+        private Route(final String team, final ChatColor color, final boolean publicChatting) {
+            this.team = team;
+            this.color = color;
+            this.publicChatting = publicChatting;
+        }
+    }
+}
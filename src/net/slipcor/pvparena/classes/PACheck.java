@@ -11,6 +11,7 @@ import net.slipcor.pvparena.core.Config.CFG;
 import net.slipcor.pvparena.core.Debug;
 import net.slipcor.pvparena.core.Language;
 import net.slipcor.pvparena.core.Language.MSG;
+import net.slipcor.pvparena.core.Profiler;
 import net.slipcor.pvparena.events.PAJoinEvent;
 import net.slipcor.pvparena.events.PAStartEvent;
 import net.slipcor.pvparena.loadables.ArenaGoal;
@@ -23,7 +24,6 @@ import net.slipcor.pvparena.managers.*;
 import net.slipcor.pvparena.ncloader.NCBLoadable;
 import net.slipcor.pvparena.runnables.InventoryRefillRunnable;
 import net.slipcor.pvparena.runnables.PVPActivateRunnable;
-import net.slipcor.pvparena.runnables.SpawnCampRunnable;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.attribute.Attribute;
@@ -88,6 +88,15 @@ public class PACheck {
         return error != null;
     }
 
+    /**
+     * clear the result, to use it for another check
+     */
+    public void reset() {
+        priority = 0;
+        error = null;
+        modName = null;
+    }
+
     /**
      * set the error message
      *
@@ -123,7 +132,9 @@ public class PACheck {
         ArenaGoal commit = null;
 
         for (final ArenaGoal mod : arena.getGoals()) {
+            final long start = Profiler.start();
             res = mod.checkCommand(res, args[0]);
+            Profiler.stop(arena, "checkCommand", mod.getName(), start);
             if (res.priority > priority && priority >= 0) {
                 // success and higher priority
                 priority = res.priority;
@@ -213,7 +224,9 @@ public class PACheck {
         PACheck res = new PACheck();
         int priority = 0;
         for (final ArenaGoal mod : arena.getGoals()) {
+            final long start = Profiler.start();
             res = mod.getLives(res, aPlayer);
+            Profiler.stop(arena, "getLives", mod.getName(), start);
             if (res.priority > priority && priority >= 0) {
                 // success and higher priority
                 priority = res.priority;
@@ -237,8 +250,10 @@ public class PACheck {
 
         ArenaGoal commit = null;
 
-        for (final ArenaGoal mod : arena.getGoals()) {
+        for (final ArenaGoal mod : arena.getGoals("checkInteract")) {
+            final long start = Profiler.start();
             res = mod.checkInteract(res, player, clickedBlock);
+            Profiler.stop(arena, "checkInteract", mod.getName(), start);
             if (res.priority > priority && priority >= 0) {
                 // success and higher priority
                 priority = res.priority;
@@ -274,7 +289,9 @@ public class PACheck {
         ArenaModule commModule = null;
 
         for (final ArenaModule mod : arena.getMods()) {
+            final long start = Profiler.start();
             res = mod.checkJoin(sender, res, true);
+            Profiler.stop(arena, "checkJoin", mod.getName(), start);
             if (res.priority > priority && priority >= 0) {
                 // success and higher priority
                 arena.getDebugger().i("higher priority, commModule := "+mod.getName());
@@ -308,7 +325,9 @@ public class PACheck {
         ArenaGoal commGoal = null;
 
         for (final ArenaGoal mod : arena.getGoals()) {
+            final long start = Profiler.start();
             res = mod.checkJoin(sender, res, args);
+            Profiler.stop(arena, "checkJoin", mod.getName(), start);
             if (res.priority > priority && priority >= 0) {
                 // success and higher priority
                 arena.getDebugger().i("higher priority, commGoal := "+mod.getName());
@@ -443,11 +462,15 @@ public class PACheck {
                 }
 
                 for (final ArenaGoal goal : arena.getGoals()) {
+                    final long start = Profiler.start();
                     goal.parseStart();
+                    Profiler.stop(arena, "parseStart", goal.getName(), start);
                 }
 
                 for (final ArenaModule mod : arena.getMods()) {
+                    final long start = Profiler.start();
                     mod.parseStart();
+                    Profiler.stop(arena, "parseStart", mod.getName(), start);
                 }
             }
 
@@ -486,7 +509,9 @@ public class PACheck {
         ArenaGoal commit = null;
 
         for (final ArenaGoal mod : arena.getGoals()) {
+            final long start = Profiler.start();
             res = mod.checkPlayerDeath(res, player);
+            Profiler.stop(arena, "checkPlayerDeath", mod.getName(), start);
             if (res.priority > priority && priority >= 0) {
                 arena.getDebugger().i("success and higher priority", player);
                 priority = res.priority;
@@ -590,7 +615,9 @@ public class PACheck {
                     returned);
 
             for (final ArenaGoal g : arena.getGoals()) {
+                final long start = Profiler.start();
                 g.parsePlayerDeath(player, player.getLastDamageCause());
+                Profiler.stop(arena, "parsePlayerDeath", g.getName(), start);
             }
 
             return;
@@ -658,8 +685,10 @@ public class PACheck {
 
         ArenaGoal commit = null;
 
-        for (final ArenaGoal mod : arena.getGoals()) {
+        for (final ArenaGoal mod : arena.getGoals("checkSetBlock")) {
+            final long start = Profiler.start();
             res = mod.checkSetBlock(res, player, block);
+            Profiler.stop(arena, "checkSetBlock", mod.getName(), start);
             if (res.priority > priority && priority >= 0) {
                 // success and higher priority
                 priority = res.priority;
@@ -696,7 +725,9 @@ public class PACheck {
 
         int priority = 0;
         for (final ArenaModule mod : arena.getMods()) {
+            final long start = Profiler.start();
             res = mod.checkJoin(sender, res, false);
+            Profiler.stop(arena, "checkJoin", mod.getName(), start);
             if (res.priority > priority && priority >= 0) {
                 arena.getDebugger().i("success and higher priority", sender);
                 priority = res.priority;
@@ -745,7 +776,9 @@ public class PACheck {
         int priority = 0;
 
         for (final ArenaGoal mod : arena.getGoals()) {
+            final long start = Profiler.start();
             res = mod.checkStart(res);
+            Profiler.stop(arena, "checkStart", mod.getName(), start);
             if (res.priority > priority && priority >= 0) {
                 // success and higher priority
                 priority = res.priority;
@@ -800,18 +833,18 @@ public class PACheck {
         arena.setFightInProgress(true);
 
         for (final ArenaGoal x : arena.getGoals()) {
+            final long start = Profiler.start();
             x.parseStart();
+            Profiler.stop(arena, "parseStart", x.getName(), start);
         }
 
         for (final ArenaModule x : arena.getMods()) {
+            final long start = Profiler.start();
             x.parseStart();
+            Profiler.stop(arena, "parseStart", x.getName(), start);
         }
 
-        final SpawnCampRunnable scr = new SpawnCampRunnable(arena);
-        arena.spawnCampRunnerID = Bukkit.getScheduler()
-                .scheduleSyncRepeatingTask(PVPArena.instance, scr, 100L,
-                        arena.getArenaConfig().getInt(CFG.TIME_REGIONTIMER));
-        scr.setId(arena.spawnCampRunnerID);
+        arena.startSpawnCampTimer();
 
         final Set<ArenaRegion> battleRegions = arena.getRegionsByType(RegionType.BATTLE);
 
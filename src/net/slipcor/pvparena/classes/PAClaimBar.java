@@ -1,6 +1,5 @@
 package net.slipcor.pvparena.classes;
 
-import net.slipcor.pvparena.PVPArena;
 import net.slipcor.pvparena.arena.Arena;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
@@ -8,32 +7,27 @@ import org.bukkit.Location;
 import org.bukkit.boss.BarColor;
 import org.bukkit.boss.BarStyle;
 import org.bukkit.boss.BossBar;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
 
 public class PAClaimBar {
     final Arena arena;
     final BossBar bar;
-    BukkitTask task;
+    final Set<Player> audience = new HashSet<>();
+    Location location;
+    int range;
+    long interval;
+    long startTick;
     float progress = 0;
 
     public PAClaimBar(Arena arena, String title, ChatColor color, Location location, int range, long millis) {
         this.bar = Bukkit.getServer().createBossBar(title, fromChatColor(color), BarStyle.SEGMENTED_10);
         this.arena = arena;
 
-        for (Entity entity : location.getWorld().getNearbyEntities(location, range, range, range)) {
-            if (entity instanceof Player) {
-                bar.addPlayer((Player) entity);
-            }
-        }
-        bar.setProgress(0);
-
-        long interval = millis / 10L;
-
-        task = Bukkit.getScheduler().runTaskTimer(PVPArena.instance, new ClaimRunner(), interval, interval);
-
-        arena.getDebugger().i("interval: " + interval);
+        start(location, range, millis);
     }
 
     public void restart(String title, ChatColor color, Location location, int range, long millis) {
@@ -44,35 +38,72 @@ public class PAClaimBar {
         }
         bar.setTitle(title);
         bar.setColor(fromChatColor(color));
-        for (Entity entity : location.getWorld().getNearbyEntities(location, range, range, range)) {
-            if (entity instanceof Player) {
-                bar.addPlayer((Player) entity);
-            }
-        }
-        bar.setProgress(0);
 
-        long interval = millis / 10L;
+        start(location, range, millis);
+    }
 
-        task = Bukkit.getScheduler().runTaskTimer(PVPArena.instance, new ClaimRunner(), interval, interval);
+    private void start(Location location, int range, long millis) {
+        this.location = location;
+        this.range = range;
+        this.interval = Math.max(1L, millis / 10L);
+        this.startTick = arena.addClaimBar(this);
+
+        updateAudience();
+        bar.setProgress(0);
 
         arena.getDebugger().i("interval: " + interval);
     }
 
     public void stop() {
         progress = 0;
+        audience.clear();
         bar.removeAll();
-        task.cancel();
+        arena.removeClaimBar(this);
     }
 
-    private class ClaimRunner implements Runnable {
-        @Override
-        public void run() {
+    /**
+     * advance the progress and show the bar to the players in range, called by the arena
+     * effects timer
+     *
+     * @param tick the ticks the effects timer has been running
+     */
+    public void update(long tick) {
+        final long step = (tick - startTick) / interval;
+        if (step > progress) {
+            progress = Math.min(step, 10);
             arena.getDebugger().i("progress: " + progress);
-            if (++progress > 9) {
-                bar.setProgress(progress/10f);
+            bar.setProgress(progress / 10f);
+            if (progress > 9) {
                 stop();
-            } else {
-                bar.setProgress(progress/10f);
+                return;
+            }
+        }
+        updateAudience();
+    }
+
+    private void updateAudience() {
+        for (Player player : location.getWorld().getPlayers()) {
+            final Location playerLocation = player.getLocation();
+            final boolean inRange = Math.abs(playerLocation.getX() - location.getX()) <= range
+                    && Math.abs(playerLocation.getY() - location.getY()) <= range
+                    && Math.abs(playerLocation.getZ() - location.getZ()) <= range;
+            if (inRange) {
+                if (audience.add(player)) {
+                    bar.addPlayer(player);
+                }
+            } else if (audience.remove(player)) {
+                bar.removePlayer(player);
+            }
+        }
+        if (!audience.isEmpty()) {
+            // players that left the world or the server
+            final Iterator<Player> iterator = audience.iterator();
+            while (iterator.hasNext()) {
+                final Player player = iterator.next();
+                if (!player.isOnline() || !player.getWorld().equals(location.getWorld())) {
+                    iterator.remove();
+                    bar.removePlayer(player);
+                }
             }
         }
     }
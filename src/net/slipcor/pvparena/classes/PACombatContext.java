@@ -0,0 +1,135 @@
+package net.slipcor.pvparena.classes;
+
+import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.arena.ArenaPlayer;
+import net.slipcor.pvparena.arena.ArenaTeam;
+import net.slipcor.pvparena.core.Config;
+import net.slipcor.pvparena.core.Config.CFG;
+import org.bukkit.Location;
+
+import java.util.*;
+
+/**
+ * <pre>PVP Arena Combat Context class</pre>
+ * <p/>
+ * The values the player damage listener needs on every hit, resolved once per fight: team
+ * slots, which teams may hurt each other, the spawn protection points and config flags
+ *
+ * @author slipcor
+ */
+
+public class PACombatContext {
+    private final Arena arena;
+    private final Config config;
+    private final int revision;
+    private final ArenaTeam[] teams;
+    private final boolean[][] damageAllowed;
+    private final Map<ArenaPlayer, Integer> slots = new HashMap<>();
+
+    private final boolean fromOutsiders;
+    private final boolean bloodParticles;
+    private final boolean classSpawn;
+    private final int protectSpawn;
+
+    /**
+     * resolve the combat values of an arena
+     *
+     * @param arena the arena to read
+     */
+    public PACombatContext(final Arena arena) {
+        this.arena = arena;
+        config = arena.getArenaConfig();
+        revision = config.getRevision();
+        teams = arena.getTeams().toArray(new ArenaTeam[0]);
+
+        final boolean teamKill = config.getBoolean(CFG.PERMS_TEAMKILL);
+        damageAllowed = new boolean[teams.length][teams.length];
+        for (int attacker = 0; attacker < teams.length; attacker++) {
+            for (int defender = 0; defender < teams.length; defender++) {
+                damageAllowed[attacker][defender] = teamKill || attacker != defender;
+            }
+        }
+
+        fromOutsiders = config.getBoolean(CFG.DAMAGE_FROMOUTSIDERS);
+        bloodParticles = config.getBoolean(CFG.DAMAGE_BLOODPARTICLES);
+        classSpawn = config.getBoolean(CFG.GENERAL_CLASSSPAWN);
+        protectSpawn = config.getInt(CFG.PROTECT_SPAWN);
+    }
+
+    /**
+     * @return false if the arena config or the teams changed since the context was built
+     */
+    public boolean isValid() {
+        return arena.getArenaConfig() == config && config.getRevision() == revision
+                && arena.getTeams().size() == teams.length;
+    }
+
+    /**
+     * find the team of a player
+     *
+     * @param player the player to look up
+     * @return the team slot, -1 if the player is not part of a team
+     */
+    public int getTeamSlot(final ArenaPlayer player) {
+        final Integer slot = slots.get(player);
+        if (slot != null && teams[slot].getTeamMembers().contains(player)) {
+            return slot;
+        }
+        for (int i = 0; i < teams.length; i++) {
+            if (teams[i].getTeamMembers().contains(player)) {
+                slots.put(player, i);
+                return i;
+            }
+        }
+        slots.remove(player);
+        return -1;
+    }
+
+    /**
+     * @param attacker the attacker team slot
+     * @param defender the defender team slot
+     * @return true if the attacker team may hurt the defender team
+     */
+    public boolean isDamageAllowed(final int attacker, final int defender) {
+        return damageAllowed[attacker][defender];
+    }
+
+    public boolean isDamageFromOutsiders() {
+        return fromOutsiders;
+    }
+
+    public boolean isBloodParticles() {
+        return bloodParticles;
+    }
+
+    public int getProtectSpawn() {
+        return protectSpawn;
+    }
+
+    /**
+     * check if a player is closer to one of the own spawns than the spawn protection radius
+     *
+     * @param player   the player to check
+     * @param slot     the player's team slot
+     * @param location the player location
+     * @return true if the player is protected
+     */
+    public boolean isNearSpawn(final ArenaPlayer player, final int slot, final Location location) {
+        if (protectSpawn <= 0 || slot < 0) {
+            return false;
+        }
+        final String key;
+        if (classSpawn) {
+            if (player.getArenaClass() == null) {
+                return false;
+            }
+            key = teams[slot].getName() + player.getArenaClass().getName() + "spawn";
+        } else if (arena.isFreeForAll()) {
+            key = "spawn";
+        } else {
+            key = teams[slot].getName() + "spawn";
+        }
+
+        return arena.getSpawnIndex(key, classSpawn).isWithin(location, protectSpawn);
+    }
+}
@@ -0,0 +1,34 @@
+package net.slipcor.pvparena.classes;
+
+/**
+ * <pre>PVP Arena Grid class</pre>
+ * <p/>
+ * The cells shared by the spatial hashes of the plugin: coordinates are bucketed into
+ * 8x8 block columns, and a column or chunk is keyed by its x and z packed into one long
+ *
+ * @author slipcor
+ */
+
+public final class PAGrid {
+    private static final int CELL_SHIFT = 3;
+
+    private PAGrid() {
+    }
+
+    /**
+     * @param coordinate a block coordinate
+     * @return the cell the coordinate falls into
+     */
+    public static int cell(final double coordinate) {
+        return (int) Math.floor(coordinate) >> CELL_SHIFT;
+    }
+
+    /**
+     * @param x the cell or chunk x
+     * @param z the cell or chunk z
+     * @return the key of the cell or chunk
+     */
+    public static long key(final int x, final int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+}
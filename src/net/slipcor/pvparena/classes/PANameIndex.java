@@ -0,0 +1,143 @@
+package net.slipcor.pvparena.classes;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * <pre>PVP Arena Name Index class</pre>
+ * <p/>
+ * The spawns or blocks of an arena, sorted by name. Prefix lookups only walk the matching
+ * names, and every lookup result is cached as an unmodifiable set until the index changes
+ *
+ * @param <T> the indexed type, {@link PASpawn} or {@link PABlock}
+ * @param <L> the location type of the indexed values
+ * @author slipcor
+ */
+
+public class PANameIndex<T, L> {
+    private final NavigableMap<String, T> byName = new TreeMap<>();
+    private final Function<T, L> locator;
+
+    private final Map<String, Set<T>> startingWith = new HashMap<>();
+    private final Map<String, Set<T>> containing = new HashMap<>();
+    private final Map<String, Set<L>> locationsStartingWith = new HashMap<>();
+    private final Map<String, Set<L>> locationsContaining = new HashMap<>();
+
+    /**
+     * create an empty index
+     *
+     * @param locator the function reading the location of a value
+     */
+    public PANameIndex(final Function<T, L> locator) {
+        this.locator = locator;
+    }
+
+    /**
+     * add a value, replacing the value of the same name
+     *
+     * @param name  the value name
+     * @param value the value
+     */
+    public void put(final String name, final T value) {
+        byName.put(name, value);
+        invalidate();
+    }
+
+    /**
+     * remove a value
+     *
+     * @param name the value name
+     * @return the removed value, null if there was none
+     */
+    public T remove(final String name) {
+        final T result = byName.remove(name);
+        if (result != null) {
+            invalidate();
+        }
+        return result;
+    }
+
+    public T get(final String name) {
+        return byName.get(name);
+    }
+
+    /**
+     * @param prefix the name start to match
+     * @return an unmodifiable set of the values whose name starts with the prefix
+     */
+    public Set<T> getStartingWith(final String prefix) {
+        Set<T> result = startingWith.get(prefix);
+        if (result == null) {
+            final Set<T> values = new HashSet<>();
+            for (final Map.Entry<String, T> entry : byName.tailMap(prefix, true).entrySet()) {
+                if (!entry.getKey().startsWith(prefix)) {
+                    break;
+                }
+                values.add(entry.getValue());
+            }
+            result = Collections.unmodifiableSet(values);
+            startingWith.put(prefix, result);
+        }
+        return result;
+    }
+
+    /**
+     * @param part the name part to match
+     * @return an unmodifiable set of the values whose name contains the part
+     */
+    public Set<T> getContaining(final String part) {
+        Set<T> result = containing.get(part);
+        if (result == null) {
+            final Set<T> values = new HashSet<>();
+            for (final Map.Entry<String, T> entry : byName.entrySet()) {
+                if (entry.getKey().contains(part)) {
+                    values.add(entry.getValue());
+                }
+            }
+            result = Collections.unmodifiableSet(values);
+            containing.put(part, result);
+        }
+        return result;
+    }
+
+    /**
+     * @param prefix the name start to match
+     * @return an unmodifiable set of the locations of the values whose name starts with the prefix
+     */
+    public Set<L> getLocationsStartingWith(final String prefix) {
+        Set<L> result = locationsStartingWith.get(prefix);
+        if (result == null) {
+            result = locate(getStartingWith(prefix));
+            locationsStartingWith.put(prefix, result);
+        }
+        return result;
+    }
+
+    /**
+     * @param part the name part to match
+     * @return an unmodifiable set of the locations of the values whose name contains the part
+     */
+    public Set<L> getLocationsContaining(final String part) {
+        Set<L> result = locationsContaining.get(part);
+        if (result == null) {
+            result = locate(getContaining(part));
+            locationsContaining.put(part, result);
+        }
+        return result;
+    }
+
+    private Set<L> locate(final Set<T> values) {
+        final Set<L> result = new HashSet<>();
+        for (final T value : values) {
+            result.add(locator.apply(value));
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    private void invalidate() {
+        startingWith.clear();
+        containing.clear();
+        locationsStartingWith.clear();
+        locationsContaining.clear();
+    }
+}
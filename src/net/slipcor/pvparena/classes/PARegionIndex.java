@@ -0,0 +1,160 @@
+package net.slipcor.pvparena.classes;
+
+import net.slipcor.pvparena.loadables.ArenaRegion;
+
+import java.util.*;
+
+/**
+ * <pre>PVP Arena Region Index class</pre>
+ * <p/>
+ * A world partitioned index of arena regions, bucketing every region by the chunks
+ * its bounding box covers, so that location lookups only test nearby regions
+ *
+ * @author slipcor
+ */
+
+public class PARegionIndex {
+    private static final int CHUNK_SHIFT = 4;
+    private static final int MAX_INDEXED_CHUNKS = 4096;
+
+    private final Map<String, Map<Long, List<ArenaRegion>>> buckets = new HashMap<>();
+    private final Map<String, List<ArenaRegion>> oversized = new HashMap<>();
+    private final Map<ArenaRegion, Bounds> indexed = new HashMap<>();
+
+    /**
+     * add a region to the index, or refresh it if its bounds changed
+     *
+     * @param region the region to index
+     */
+    public void add(final ArenaRegion region) {
+        remove(region);
+
+        final Bounds bounds = Bounds.of(region);
+        if (bounds == null) {
+            return;
+        }
+        indexed.put(region, bounds);
+
+        if (bounds.getChunkCount() > MAX_INDEXED_CHUNKS) {
+            // huge regions would flood the buckets, test them on every lookup instead
+            oversized.computeIfAbsent(bounds.world, k -> new ArrayList<>()).add(region);
+            return;
+        }
+
+        final Map<Long, List<ArenaRegion>> worldBuckets =
+                buckets.computeIfAbsent(bounds.world, k -> new HashMap<>());
+        for (int cx = bounds.minChunkX; cx <= bounds.maxChunkX; cx++) {
+            for (int cz = bounds.minChunkZ; cz <= bounds.maxChunkZ; cz++) {
+                worldBuckets.computeIfAbsent(PAGrid.key(cx, cz), k -> new ArrayList<>()).add(region);
+            }
+        }
+    }
+
+    /**
+     * remove a region from the index
+     *
+     * @param region the region to remove
+     */
+    public void remove(final ArenaRegion region) {
+        final Bounds bounds = indexed.remove(region);
+        if (bounds == null) {
+            return;
+        }
+
+        final List<ArenaRegion> huge = oversized.get(bounds.world);
+        if (huge != null && huge.remove(region)) {
+            if (huge.isEmpty()) {
+                oversized.remove(bounds.world);
+            }
+            return;
+        }
+
+        final Map<Long, List<ArenaRegion>> worldBuckets = buckets.get(bounds.world);
+        if (worldBuckets == null) {
+            return;
+        }
+        for (int cx = bounds.minChunkX; cx <= bounds.maxChunkX; cx++) {
+            for (int cz = bounds.minChunkZ; cz <= bounds.maxChunkZ; cz++) {
+                final Long key = PAGrid.key(cx, cz);
+                final List<ArenaRegion> bucket = worldBuckets.get(key);
+                if (bucket != null) {
+                    bucket.remove(region);
+                    if (bucket.isEmpty()) {
+                        worldBuckets.remove(key);
+                    }
+                }
+            }
+        }
+        if (worldBuckets.isEmpty()) {
+            buckets.remove(bounds.world);
+        }
+    }
+
+    /**
+     * hand over the regions whose bounding box may contain a location
+     *
+     * @param location the location to check
+     * @return the candidate regions, to be checked with their shape
+     */
+    public List<ArenaRegion> getCandidates(final PABlockLocation location) {
+        final List<ArenaRegion> huge = oversized.get(location.getWorldName());
+        final Map<Long, List<ArenaRegion>> worldBuckets = buckets.get(location.getWorldName());
+        final List<ArenaRegion> bucket = worldBuckets == null ? null : worldBuckets.get(
+                PAGrid.key(location.getX() >> CHUNK_SHIFT, location.getZ() >> CHUNK_SHIFT));
+
+        if (huge == null) {
+            return bucket == null ? Collections.<ArenaRegion>emptyList() : bucket;
+        }
+        if (bucket == null) {
+            return huge;
+        }
+        final List<ArenaRegion> result = new ArrayList<>(bucket.size() + huge.size());
+        result.addAll(bucket);
+        result.addAll(huge);
+        return result;
+    }
+
+    public void clear() {
+        buckets.clear();
+        oversized.clear();
+        indexed.clear();
+    }
+
+    private static final class Bounds {
+        private final String world;
+        private final int minChunkX;
+        private final int minChunkZ;
+        private final int maxChunkX;
+        private final int maxChunkZ;
+
+        private Bounds(final String world, final int minChunkX, final int minChunkZ,
+                       final int maxChunkX, final int maxChunkZ) {
+            this.world = world;
+            this.minChunkX = minChunkX;
+            this.minChunkZ = minChunkZ;
+            this.maxChunkX = maxChunkX;
+            this.maxChunkZ = maxChunkZ;
+        }
+
+        private static Bounds of(final ArenaRegion region) {
+            if (region.getShape() == null || region.locs[0] == null || region.locs[1] == null) {
+                return null;
+            }
+            final PABlockLocation min = region.getShape().getMinimumLocation();
+            final PABlockLocation max = region.getShape().getMaximumLocation();
+            if (min == null || max == null || min.getWorldName() == null) {
+                return null;
+            }
+            // pad by one block, round shapes only give an approximate bounding box
+            return new Bounds(min.getWorldName(),
+                    (Math.min(min.getX(), max.getX()) - 1) >> CHUNK_SHIFT,
+                    (Math.min(min.getZ(), max.getZ()) - 1) >> CHUNK_SHIFT,
+                    (Math.max(min.getX(), max.getX()) + 1) >> CHUNK_SHIFT,
+                    (Math.max(min.getZ(), max.getZ()) + 1) >> CHUNK_SHIFT);
+        }
+
+        private long getChunkCount() {
+            return (long) (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package net.slipcor.pvparena.classes;
+
+import org.bukkit.Location;
+
+import java.util.*;
+
+/**
+ * <pre>PVP Arena Spawn Index class</pre>
+ * <p/>
+ * A block bucketed spatial hash of spawn coordinates, so that proximity checks only
+ * visit the spawns of nearby buckets and don't create a location per spawn
+ *
+ * @author slipcor
+ */
+
+public class PASpawnIndex {
+    private final Map<String, Map<Long, double[]>> buckets = new HashMap<>();
+    private final int size;
+
+    /**
+     * index spawn locations
+     *
+     * @param locations the spawn locations
+     */
+    public PASpawnIndex(final Collection<PALocation> locations) {
+        final Map<String, Map<Long, List<PALocation>>> sorted = new HashMap<>();
+        for (final PALocation loc : locations) {
+            sorted.computeIfAbsent(loc.getWorldName(), k -> new HashMap<>())
+                    .computeIfAbsent(PAGrid.key(PAGrid.cell(loc.getX()), PAGrid.cell(loc.getZ())), k -> new ArrayList<>())
+                    .add(loc);
+        }
+        for (final Map.Entry<String, Map<Long, List<PALocation>>> world : sorted.entrySet()) {
+            final Map<Long, double[]> worldBuckets = new HashMap<>();
+            for (final Map.Entry<Long, List<PALocation>> bucket : world.getValue().entrySet()) {
+                final double[] coordinates = new double[bucket.getValue().size() * 3];
+                int i = 0;
+                for (final PALocation loc : bucket.getValue()) {
+                    coordinates[i++] = loc.getX();
+                    coordinates[i++] = loc.getY();
+                    coordinates[i++] = loc.getZ();
+                }
+                worldBuckets.put(bucket.getKey(), coordinates);
+            }
+            buckets.put(world.getKey(), worldBuckets);
+        }
+        size = locations.size();
+    }
+
+    /**
+     * count the spawns closer to a location than a distance
+     *
+     * @param location the location to check
+     * @param distance the distance, exclusive
+     * @return the amount of spawns
+     */
+    public int countCloserThan(final Location location, final double distance) {
+        return count(location, distance, false, Integer.MAX_VALUE);
+    }
+
+    /**
+     * check if a spawn is within a distance of a location
+     *
+     * @param location the location to check
+     * @param distance the distance, inclusive
+     * @return true if a spawn was found
+     */
+    public boolean isWithin(final Location location, final double distance) {
+        return count(location, distance, true, 1) > 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int count(final Location location, final double distance, final boolean inclusive, final int max) {
+        final Map<Long, double[]> worldBuckets = buckets.get(location.getWorld().getName());
+        if (worldBuckets == null) {
+            return 0;
+        }
+        final double x = location.getX();
+        final double y = location.getY();
+        final double z = location.getZ();
+        final double maxSquared = distance * distance;
+
+        int result = 0;
+        for (int cx = PAGrid.cell(x - distance); cx <= PAGrid.cell(x + distance); cx++) {
+            for (int cz = PAGrid.cell(z - distance); cz <= PAGrid.cell(z + distance); cz++) {
+                final double[] coordinates = worldBuckets.get(PAGrid.key(cx, cz));
+                if (coordinates == null) {
+                    continue;
+                }
+                for (int i = 0; i < coordinates.length; i += 3) {
+                    final double dx = coordinates[i] - x;
+                    final double dy = coordinates[i + 1] - y;
+                    final double dz = coordinates[i + 2] - z;
+                    final double squared = dx * dx + dy * dy + dz * dz;
+                    if (squared < maxSquared || inclusive && squared == maxSquared) {
+                        if (++result >= max) {
+                            return result;
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }}
@@ -2,8 +2,7 @@ package net.slipcor.pvparena.classes;
 
 import net.slipcor.pvparena.managers.StatisticsManager;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 /**
  * <pre>PVP Arena Statistics Map class</pre>
@@ -15,18 +14,62 @@ import java.util.Map;
  */
 
 public class PAStatMap {
-    private final Map<StatisticsManager.Type, Integer> map = new HashMap<>();
+    private static final int SIZE = StatisticsManager.Type.values().length;
+
+    private final int[] values = new int[SIZE];
+    private final String playerName;
+    private final PAStatRanking arenaRanking;
+    private final PAStatRanking globalRanking;
+
+    /**
+     * create a map that is not part of any ranking
+     */
+    public PAStatMap() {
+        this(null, null);
+    }
+
+    /**
+     * create a map that takes part in the arena and global rankings
+     *
+     * @param playerName the owning player
+     * @param arenaName  the arena the statistics belong to
+     */
+    public PAStatMap(final String playerName, final String arenaName) {
+        this.playerName = playerName;
+        if (arenaName == null) {
+            arenaRanking = null;
+            globalRanking = null;
+        } else {
+            arenaRanking = StatisticsManager.getRanking(arenaName);
+            globalRanking = StatisticsManager.getRanking(null);
+            arenaRanking.add(this);
+            globalRanking.add(this);
+        }
+    }
 
     public void decStat(final StatisticsManager.Type type) {
         decStat(type, 1);
     }
 
     public void decStat(final StatisticsManager.Type type, final int value) {
-        map.put(type, getStat(type) - value);
+        setStat(type, values[type.ordinal()] - value);
+    }
+
+    public String getPlayerName() {
+        return playerName;
     }
 
     public int getStat(final StatisticsManager.Type type) {
-        return map.containsKey(type) ? map.get(type) : 0;
+        return values[type.ordinal()];
+    }
+
+    /**
+     * hand over a copy of all values
+     *
+     * @return the values, indexed by {@link StatisticsManager.Type#ordinal()}
+     */
+    public int[] getStats() {
+        return Arrays.copyOf(values, SIZE);
     }
 
     public void incStat(final StatisticsManager.Type type) {
@@ -34,10 +77,38 @@ public class PAStatMap {
     }
 
     public void incStat(final StatisticsManager.Type type, final int value) {
-        map.put(type, getStat(type) + value);
+        setStat(type, values[type.ordinal()] + value);
+    }
+
+    /**
+     * raise a value if the given one is higher
+     *
+     * @param type  the type to update
+     * @param value the value to compare with
+     */
+    public void maxStat(final StatisticsManager.Type type, final int value) {
+        if (value > values[type.ordinal()]) {
+            setStat(type, value);
+        }
     }
 
     public void setStat(final StatisticsManager.Type type, final int value) {
-        map.put(type, value);
+        values[type.ordinal()] = value;
+        if (arenaRanking != null) {
+            // sorted again when a ranking is read
+            arenaRanking.invalidate();
+            globalRanking.invalidate();
+        }
+    }
+
+    /**
+     * replace all values
+     *
+     * @param stats the values, indexed by {@link StatisticsManager.Type#ordinal()}
+     */
+    public void setStats(final int[] stats) {
+        for (final StatisticsManager.Type type : StatisticsManager.Type.values()) {
+            setStat(type, type.ordinal() < stats.length ? stats[type.ordinal()] : 0);
+        }
     }
 }
@@ -0,0 +1,91 @@
+package net.slipcor.pvparena.classes;
+
+import net.slipcor.pvparena.managers.StatisticsManager.Type;
+
+import java.util.*;
+
+/**
+ * <pre>PVP Arena Statistics Ranking class</pre>
+ * <p/>
+ * The statistics of one arena, or of all arenas, ranked by value (highest first, then by
+ * name). Changing a statistic only marks the ranking as outdated, it is sorted again when
+ * it is read, so that damage and kills don't pay for leaderboards nobody looks at
+ *
+ * @author slipcor
+ */
+
+public class PAStatRanking {
+    private final List<PAStatMap> maps = new ArrayList<>();
+    private final Map<String, int[]> totals = new HashMap<>();
+    private final Map<Type, List<String>> sorted = new EnumMap<>(Type.class);
+    private boolean outdated;
+
+    /**
+     * add the statistics of a player
+     *
+     * @param map the statistics to rank
+     */
+    public void add(final PAStatMap map) {
+        maps.add(map);
+        outdated = true;
+    }
+
+    /**
+     * mark the ranking as outdated, called on every statistics change
+     */
+    public void invalidate() {
+        outdated = true;
+    }
+
+    /**
+     * hand over the best entries
+     *
+     * @param type the type to rank by
+     * @param max  the maximum amount of entries
+     * @return a map of player name and value, in ranking order
+     */
+    public Map<String, Integer> getTop(final Type type, final int max) {
+        if (outdated) {
+            sum();
+        }
+        final List<String> ranking = sorted.computeIfAbsent(type, this::sort);
+        final Map<String, Integer> result = new LinkedHashMap<>();
+        for (final String playerName : ranking) {
+            if (result.size() >= max) {
+                break;
+            }
+            result.put(playerName, totals.get(playerName)[type.ordinal()]);
+        }
+        return result;
+    }
+
+    public int size() {
+        if (outdated) {
+            sum();
+        }
+        return totals.size();
+    }
+
+    private void sum() {
+        totals.clear();
+        sorted.clear();
+        final Type[] types = Type.values();
+        for (final PAStatMap map : maps) {
+            final int[] total = totals.computeIfAbsent(map.getPlayerName(), k -> new int[types.length]);
+            for (final Type type : types) {
+                total[type.ordinal()] += map.getStat(type);
+            }
+        }
+        outdated = false;
+    }
+
+    private List<String> sort(final Type type) {
+        final List<String> result = new ArrayList<>(totals.keySet());
+        final int index = type.ordinal();
+        result.sort((first, second) -> {
+            final int compared = Integer.compare(totals.get(second)[index], totals.get(first)[index]);
+            return compared == 0 ? first.compareTo(second) : compared;
+        });
+        return result;
+    }
+}
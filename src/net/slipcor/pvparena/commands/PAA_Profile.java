@@ -0,0 +1,110 @@
+package net.slipcor.pvparena.commands;
+
+import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.core.Help;
+import net.slipcor.pvparena.core.Help.HELP;
+import net.slipcor.pvparena.core.Language;
+import net.slipcor.pvparena.core.Language.MSG;
+import net.slipcor.pvparena.core.Profiler;
+import net.slipcor.pvparena.managers.ArenaManager;
+import org.bukkit.command.CommandSender;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <pre>PVP Arena PROFILE Command class</pre>
+ * <p/>
+ * A command to measure where time is spent, per arena
+ *
+ * @author slipcor
+ */
+
+public class PAA_Profile extends AbstractGlobalCommand {
+    private static final int DEFAULT_SECONDS = 30;
+
+    public PAA_Profile() {
+        super(new String[]{"pvparena.cmds.profile"});
+    }
+
+    @Override
+    public void commit(final CommandSender sender, final String[] args) {
+        if (!hasPerms(sender)) {
+            return;
+        }
+
+        if (!argCountValid(sender, args, new Integer[]{0, 1, 2})) {
+            return;
+        }
+
+        if (args.length == 1 && "stop".equalsIgnoreCase(args[0])) {
+            Profiler.end();
+            return;
+        }
+
+        Arena arena = null;
+        int index = 0;
+        if (args.length > 0 && "all".equalsIgnoreCase(args[0])) {
+            index++;
+        } else if (args.length > 0 && ArenaManager.getArenaByName(args[0]) != null) {
+            arena = ArenaManager.getArenaByName(args[0]);
+            index++;
+        } else if (args.length > 1) {
+            Arena.pmsg(sender, Language.parse(MSG.ERROR_ARENA_NOTFOUND, args[0]));
+            return;
+        }
+
+        int seconds = DEFAULT_SECONDS;
+        if (args.length > index) {
+            try {
+                seconds = Integer.parseInt(args[index]);
+            } catch (final NumberFormatException e) {
+                seconds = 0;
+            }
+            if (seconds < 1) {
+                Arena.pmsg(sender, index == 0
+                        ? Language.parse(MSG.ERROR_ARENA_NOTFOUND, args[index])
+                        : Language.parse(MSG.ERROR_NOT_NUMERIC, args[index]));
+                return;
+            }
+        }
+
+        if (!Profiler.begin(sender, arena, seconds)) {
+            Arena.pmsg(sender, Language.parse(MSG.PROFILE_RUNNING));
+            return;
+        }
+        Arena.pmsg(sender, Language.parse(MSG.PROFILE_STARTED,
+                arena == null ? "all" : arena.getName(), String.valueOf(seconds)));
+    }
+
+    @Override
+    public String getName() {
+        return getClass().getName();
+    }
+
+    @Override
+    public void displayHelp(final CommandSender sender) {
+        Arena.pmsg(sender, Help.parse(HELP.PROFILE));
+    }
+
+    @Override
+    public List<String> getMain() {
+        return Collections.singletonList("profile");
+    }
+
+    @Override
+    public List<String> getShort() {
+        return Collections.singletonList("!pr");
+    }
+
+    @Override
+    public CommandTree<String> getSubs(final Arena nothing) {
+        final CommandTree<String> result = new CommandTree<>(null);
+        for (final Arena arena : ArenaManager.getArenas()) {
+            result.define(new String[]{arena.getName()});
+        }
+        result.define(new String[]{"all"});
+        result.define(new String[]{"stop"});
+        return result;
+    }
+}
@@ -100,7 +100,7 @@ public class PAA_Region extends AbstractArenaCommand {
             arena.getArenaConfig().setManually("arenaregion." + region.getRegionName(), null);
             arena.msg(sender, Language.parse(arena, MSG.REGION_REMOVED, region.getRegionName()));
 
-            arena.getRegions().remove(region);
+            arena.removeRegion(region);
             arena.getArenaConfig().save();
             return;
         }
@@ -234,6 +234,7 @@ public class PAA_Set extends AbstractArenaCommand {
             return;
         }
         arena.getArenaConfig().save();
+        arena.publishChat();
     }
 
     @Override
@@ -65,7 +65,7 @@ public class PAA_Teams extends AbstractArenaCommand {
 
         if ("remove".equals(args[0])) {
             arena.msg(sender, Language.parse(arena, MSG.TEAMS_REMOVE, team.getColoredName()));
-            arena.getTeams().remove(team);
+            arena.removeTeam(team);
             arena.getArenaConfig().setManually("teams." + team.getName(), null);
             arena.getArenaConfig().save();
         } else if ("add".equals(args[0])) {
@@ -73,7 +73,7 @@ public class PAA_Teams extends AbstractArenaCommand {
 
                 final ChatColor color = ChatColor.valueOf(args[2].toUpperCase());
                 final ArenaTeam newTeam = new ArenaTeam(args[1], color.name());
-                arena.getTeams().add(newTeam);
+                arena.addTeam(newTeam);
                 arena.getArenaConfig().setManually("teams." + newTeam.getName(), color.name());
                 arena.getArenaConfig().save();
 
@@ -85,8 +85,8 @@ public class PAA_Teams extends AbstractArenaCommand {
             try {
                 final ChatColor color = ChatColor.valueOf(args[2].toUpperCase());
                 final ArenaTeam newTeam = new ArenaTeam(args[1], color.name());
-                arena.getTeams().remove(arena.getTeam(args[1]));
-                arena.getTeams().add(newTeam);
+                arena.removeTeam(arena.getTeam(args[1]));
+                arena.addTeam(newTeam);
                 arena.getArenaConfig().setManually("teams." + newTeam.getName(), color.name());
                 arena.getArenaConfig().save();
 
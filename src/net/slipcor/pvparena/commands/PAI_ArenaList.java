@@ -44,7 +44,13 @@ public class PAI_ArenaList extends AbstractGlobalCommand {
             names = ArenaManager.getColoredShortcuts();
         } else {
             names = new ArrayList<>();
-            for (final Arena a : ArenaManager.getArenasSorted()) {
+            for (final String name : ArenaManager.getArenaNames()) {
+                if (ArenaManager.isLazy(name)) {
+                    // not loaded yet, so neither locked nor running
+                    names.add("&f" + name + "&r");
+                    continue;
+                }
+                final Arena a = ArenaManager.getArenaByExactName(name);
                 names.add((a.isLocked() ? "&c" : PAA_Edit.activeEdits.containsValue(a) || PAA_Setup.activeSetups.containsValue(a) ? "&e" : a.isFightInProgress() ? "&a" : "&f") + a.getName() + "&r");
             }
         }
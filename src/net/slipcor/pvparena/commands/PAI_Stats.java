@@ -11,7 +11,6 @@ import net.slipcor.pvparena.managers.StatisticsManager.Type;
 import org.bukkit.command.CommandSender;
 
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 
@@ -47,8 +46,6 @@ public class PAI_Stats extends AbstractArenaCommand {
             return;
         }
 
-        Map<String, Integer> playersStats = StatisticsManager.getStats(arena, statType);
-
         int max = 10;
 
         if (args.length > 1) {
@@ -65,10 +62,10 @@ public class PAI_Stats extends AbstractArenaCommand {
 
         Arena.pmsg(sender, s1);
 
-        playersStats.entrySet().stream()
-                .sorted(Map.Entry.comparingByValue(Comparator.reverseOrder()))
-                .limit(max)
-                .forEach(stat -> Arena.pmsg(sender, stat.getKey() + " : " + stat.getValue()));
+        final Map<String, Integer> playersStats = StatisticsManager.getStats(arena, statType, max);
+        for (final Map.Entry<String, Integer> stat : playersStats.entrySet()) {
+            Arena.pmsg(sender, stat.getKey() + " : " + stat.getValue());
+        }
     }
 
     @Override
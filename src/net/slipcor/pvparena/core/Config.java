@@ -42,6 +42,9 @@ public class Config {
     private final Map<String, Integer> ints;
     private final Map<String, Double> doubles;
     private final Map<String, String> strings;
+    private volatile Snapshot snapshot;
+    private int revisions;
+    private boolean preloaded;
 
     public enum CFG {
 
@@ -73,6 +76,7 @@ public class Config {
         GENERAL_REGIONCLEAREXCEPTIONS("general.regionclearexceptions", new ArrayList<String>(), null),
         GENERAL_QUICKSPAWN("general.quickspawn", true, null),
         GENERAL_PREFIX("general.prefix", "PVP Arena", null),
+        GENERAL_RESTORE("general.restore", false, null),
         GENERAL_SHOWREMAININGLIVES("general.showRemainingLives", true, null),
         GENERAL_SMARTSPAWN("general.smartspawn", false, null),
         GENERAL_TIME("general.time", -1, null),
@@ -156,8 +160,10 @@ public class Config {
         TIME_ENDCOUNTDOWN("goal.endCountDown", 5, null),
         TIME_STARTCOUNTDOWN("time.startCountDown", 10, null),
         TIME_REGIONTIMER("time.regionTimer", 10, null),
+        TIME_EFFECTSTIMER("time.effectsTimer", 1, null),
         TIME_TELEPORTPROTECT("time.teleportProtect", 3, null),
         TIME_RESETDELAY("time.resetDelay", -1, null),
+        TIME_RESTOREBUDGET("time.restoreBudget", 5, null),
         TIME_WARMUPCOUNTDOWN("time.warmupCountDown", 0, null),
         TIME_PVP("time.pvp", 0, null),
 
@@ -553,6 +559,7 @@ public class Config {
         ints = new HashMap<>();
         doubles = new HashMap<>();
         strings = new HashMap<>();
+        snapshot = new Snapshot();
     }
 
     public void createDefaults(final List<String> goals, final List<String> modules) {
@@ -578,6 +585,10 @@ public class Config {
      * @return true, if the load succeeded, false otherwise.
      */
     public boolean load() {
+        if (preloaded) {
+            preloaded = false;
+            return true;
+        }
         try {
             cfg.load(configFile);
             reloadMaps();
@@ -588,6 +599,18 @@ public class Config {
         }
     }
 
+    /**
+     * Load the config-file ahead of time. The next call of {@link #load()} uses the loaded
+     * values instead of reading the file again. Only touches this instance, so it may be
+     * called off the main thread
+     *
+     * @return true, if the load succeeded, false otherwise.
+     */
+    public boolean preload() {
+        preloaded = load();
+        return preloaded;
+    }
+
     /**
      * Iterates through all keys in the config-file, and populates the value
      * maps. Boolean values are stored in the booleans-map, Strings in the
@@ -607,6 +630,7 @@ public class Config {
                 strings.put(s, (String) object);
             }
         }
+        snapshot = new Snapshot();
     }
 
     /**
@@ -678,8 +702,7 @@ public class Config {
      * @return the boolean value of the path if it exists, def otherwise
      */
     private boolean getBoolean(final CFG cfg, final boolean def) {
-        final String path = cfg.getNode();
-        final Boolean result = booleans.get(path);
+        final Boolean result = snapshot.booleans[cfg.ordinal()];
         return result == null ? def : result;
     }
 
@@ -701,8 +724,7 @@ public class Config {
      * @return the int value of the path if it exists, def otherwise
      */
     public int getInt(final CFG cfg, final int def) {
-        final String path = cfg.getNode();
-        final Integer result = ints.get(path);
+        final Integer result = snapshot.ints[cfg.ordinal()];
         return result == null ? def : result;
     }
 
@@ -724,8 +746,7 @@ public class Config {
      * @return the double value of the path if it exists, def otherwise
      */
     public double getDouble(final CFG cfg, final double def) {
-        final String path = cfg.getNode();
-        final Double result = doubles.get(path);
+        final Double result = snapshot.doubles[cfg.ordinal()];
         return result == null ? def : result;
     }
 
@@ -747,8 +768,7 @@ public class Config {
      * @return the string value of the path if it exists, def otherwise
      */
     public String getString(final CFG cfg, final String def) {
-        final String path = cfg.getNode();
-        final String result = strings.get(path);
+        final String result = snapshot.strings[cfg.ordinal()];
         return result == null ? def : result;
     }
 
@@ -757,14 +777,35 @@ public class Config {
     }
 
     public Material getMaterial(final CFG cfg, final Material def) {
-        final String path = cfg.getNode();
-        final String result = strings.get(path);
+        final Material material = snapshot.materials[cfg.ordinal()];
+        if (material != null) {
+            return material;
+        }
+        final String result = snapshot.strings[cfg.ordinal()];
         if (result == null || "none".equals(result)) {
             return def;
         }
         return Material.valueOf(result);
     }
 
+    /**
+     * Retrieve a parsed material list below a list node, like "block.whitelist.break"
+     *
+     * @param cfg the list node, {@link CFG#LISTS_WHITELIST} or {@link CFG#LISTS_BLACKLIST}
+     * @param key the sub node
+     * @return an unmodifiable set of the listed materials, null if nothing is listed
+     */
+    public Set<Material> getMaterialList(final CFG cfg, final String key) {
+        return snapshot.materialLists.get(cfg.getNode() + '.' + key);
+    }
+
+    /**
+     * @return a number that changes whenever a value is set or the values are reloaded
+     */
+    public int getRevision() {
+        return snapshot.revision;
+    }
+
     public ItemStack[] getItems(final CFG cfg) {
         final String path = cfg.getNode();
         try {
@@ -838,6 +879,7 @@ public class Config {
         }
 
         cfg.set(path, value);
+        snapshot = new Snapshot();
     }
 
     public void set(final CFG cfg, final Object value) {
@@ -1042,4 +1084,60 @@ public class Config {
         // "world,x1,y1,z1,x2,y2,z2,shape,FLAGS,PROTS,TYPE"
         return StringParser.joinArray(result, ",");
     }
+
+    /**
+     * An immutable view of the CFG values, indexed by {@link CFG#ordinal()}, so that
+     * reading a value neither hashes its node nor touches the YamlConfiguration.
+     * It is replaced as a whole whenever a value changes
+     */
+    private final class Snapshot {
+        private final Boolean[] booleans;
+        private final Integer[] ints;
+        private final Double[] doubles;
+        private final String[] strings;
+        private final Material[] materials;
+        private final Map<String, Set<Material>> materialLists = new HashMap<>();
+        private final int revision = ++revisions;
+
+        private Snapshot() {
+            final CFG[] values = CFG.values();
+            booleans = new Boolean[values.length];
+            ints = new Integer[values.length];
+            doubles = new Double[values.length];
+            strings = new String[values.length];
+            materials = new Material[values.length];
+
+            for (final CFG node : values) {
+                final int index = node.ordinal();
+                booleans[index] = Config.this.booleans.get(node.getNode());
+                ints[index] = Config.this.ints.get(node.getNode());
+                doubles[index] = Config.this.doubles.get(node.getNode());
+                strings[index] = Config.this.strings.get(node.getNode());
+                if (strings[index] != null && "material".equals(node.getType())) {
+                    materials[index] = Material.getMaterial(strings[index]);
+                }
+            }
+
+            for (final CFG node : new CFG[]{CFG.LISTS_WHITELIST, CFG.LISTS_BLACKLIST}) {
+                final ConfigurationSection section = cfg.getConfigurationSection(node.getNode());
+                if (section == null) {
+                    continue;
+                }
+                for (final String key : section.getKeys(false)) {
+                    final List<String> list = section.getStringList(key);
+                    if (list.isEmpty()) {
+                        continue;
+                    }
+                    final Set<Material> parsed = EnumSet.noneOf(Material.class);
+                    for (final String name : list) {
+                        final Material material = Material.getMaterial(name);
+                        if (material != null) {
+                            parsed.add(material);
+                        }
+                    }
+                    materialLists.put(node.getNode() + '.' + key, Collections.unmodifiableSet(parsed));
+                }
+            }
+        }
+    }
 }
@@ -13,6 +13,11 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.logging.Formatter;
 import java.util.logging.*;
 
@@ -30,6 +35,8 @@ import java.util.logging.*;
 public class Debug {
     public static boolean override;
     private static boolean server_log;
+    // hoisted check, false unless some kind of debugging is configured
+    private static volatile boolean enabled;
 
     private static final String prefix = "[PA-debug] ";
     private static final Set<Integer> check = new HashSet<>();
@@ -73,7 +80,7 @@ public class Debug {
 
                 handler.setFormatter(LogFileFormatter.newInstance());
 
-                logger.addHandler(handler);
+                logger.addHandler(new AsyncLogHandler(handler));
 
                 loggers.add(logger);
             } catch (final IOException | SecurityException ex) {
@@ -108,7 +115,7 @@ public class Debug {
 
                 handler.setFormatter(LogFileFormatter.newInstance());
 
-                arenaLogger.addHandler(handler);
+                arenaLogger.addHandler(new AsyncLogHandler(handler));
                 loggers.add(arenaLogger);
                 debugs.add(this);
             } catch (final IOException | SecurityException ex) {
@@ -141,11 +148,69 @@ public class Debug {
      * @return true if debugs, false otherwise
      */
     private boolean debugs() {
-        return override || active || check.contains(debugID) || check.contains(666);
+        return enabled && (override || active || check.contains(debugID) || check.contains(666));
     }
 
     private boolean debugs(final String term) {
-        return override || active || strings.contains(term) || check.contains(666);
+        return enabled && (override || active || strings.contains(term) || check.contains(666));
+    }
+
+    /**
+     * is anything debugged by this instance? Use this to skip building expensive messages
+     *
+     * @return true if a message might be logged
+     */
+    public boolean isEnabled() {
+        return enabled && (override || active || !check.isEmpty() || !strings.isEmpty());
+    }
+
+    /**
+     * log a lazily built message as prefixed INFO
+     *
+     * @param supplier the message supplier, only called if the message is logged
+     */
+    public void i(final Supplier<String> supplier) {
+        if (!enabled || !debugs()) {
+            return;
+        }
+        i(supplier.get());
+    }
+
+    /**
+     * log a lazily built message as prefixed INFO, filtered by a sender
+     *
+     * @param supplier the message supplier, only called if the message is logged
+     * @param sender   the sender to filter by
+     */
+    public void i(final Supplier<String> supplier, final CommandSender sender) {
+        if (!enabled) {
+            return;
+        }
+        if (sender == null) {
+            if (arena == null) {
+                i(supplier, "null");
+            } else {
+                arena.getDebugger().i(supplier);
+            }
+            return;
+        }
+        if (!debugs(sender.getName())) {
+            return;
+        }
+        i(supplier.get(), sender);
+    }
+
+    /**
+     * log a lazily built message as prefixed INFO, filtered by a term
+     *
+     * @param supplier the message supplier, only called if the message is logged
+     * @param filter   the term to filter by
+     */
+    public void i(final Supplier<String> supplier, final String filter) {
+        if (!enabled || !debugs(filter)) {
+            return;
+        }
+        i(supplier.get(), filter);
     }
 
     /**
@@ -154,7 +219,7 @@ public class Debug {
      * @param string the message
      */
     public void i(final String string) {
-        if (!debugs()) {
+        if (!enabled || !debugs()) {
             return;
         }
         if (arena == null) {
@@ -168,6 +233,9 @@ public class Debug {
     }
 
     public void i(final String string, final CommandSender sender) {
+        if (!enabled) {
+            return;
+        }
         if (arena == null && sender == null) {
             i(string, "null");
             return;
@@ -180,7 +248,7 @@ public class Debug {
             return;
         }
         if (arena == null && sender instanceof Player) {
-            final ArenaPlayer ap = ArenaPlayer.parsePlayer(sender.getName());
+            final ArenaPlayer ap = ArenaPlayer.parsePlayer((Player) sender);
             if (ap.getArena() != null) {
                 ap.getArena().getDebugger().i(string);
                 return;
@@ -197,7 +265,7 @@ public class Debug {
     }
 
     public void i(final String string, final String filter) {
-        if (!debugs(filter)) {
+        if (!enabled || !debugs(filter)) {
             return;
         }
 
@@ -215,6 +283,7 @@ public class Debug {
     }
 
     public static void load(final PVPArena instance, final CommandSender sender) {
+        enabled = false;
         check.clear();
         strings.clear();
         override = false;
@@ -276,11 +345,13 @@ public class Debug {
                     }
                 }
             }
+            enabled = true;
         }
     }
 
     private void activate() {
         active = true;
+        enabled = true;
     }
 
     public static void destroy() {
@@ -296,6 +367,77 @@ public class Debug {
     }
 
 
+    /**
+     * A handler queueing records into a bounded ring buffer, drained by a background thread,
+     * so that debugging never waits for the disk. When the buffer is full, the oldest records
+     * are dropped and the amount is logged instead
+     */
+    static class AsyncLogHandler extends Handler {
+        private static final int CAPACITY = 8192;
+
+        private final Handler target;
+        private final BlockingQueue<LogRecord> queue = new ArrayBlockingQueue<>(CAPACITY);
+        private final AtomicInteger dropped = new AtomicInteger();
+        private final Thread thread;
+        private volatile boolean closed;
+
+        AsyncLogHandler(final Handler target) {
+            this.target = target;
+            thread = new Thread(this::drain, "PVP Arena debug log");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        @Override
+        public void publish(final LogRecord record) {
+            if (closed) {
+                return;
+            }
+            while (!queue.offer(record)) {
+                if (queue.poll() != null) {
+                    dropped.incrementAndGet();
+                }
+            }
+        }
+
+        @Override
+        public void flush() {
+            // the drain thread flushes whenever the queue runs empty
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            try {
+                thread.join(5000);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            target.close();
+        }
+
+        private void drain() {
+            while (!closed || !queue.isEmpty()) {
+                final LogRecord record;
+                try {
+                    record = queue.poll(100, TimeUnit.MILLISECONDS);
+                } catch (final InterruptedException e) {
+                    break;
+                }
+                if (record == null) {
+                    target.flush();
+                    continue;
+                }
+                final int lost = dropped.getAndSet(0);
+                if (lost > 0) {
+                    target.publish(new LogRecord(Level.WARNING, prefix + "dropped " + lost + " debug messages"));
+                }
+                target.publish(record);
+            }
+            target.flush();
+        }
+    }
+
     static class LogFileFormatter extends Formatter {
 
         private final SimpleDateFormat date;
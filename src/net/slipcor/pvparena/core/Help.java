@@ -138,6 +138,15 @@ public final class Help {
                 LINE,
                 "/pa [arenaname] playerclass save {classname}",
                 "/pa [arenaname] playerclass remove {classname}"}),
+        PROFILE("nulang.help.msg.profile", new String[]{
+                "Measure where PVP Arena spends time",
+                LINE,
+                "shorthand command: !pr",
+                LINE,
+                "/pa profile {arenaname} {seconds}",
+                "/pa profile stop",
+                LINE,
+                "Results are saved to the profiles folder as CSV"}),
         PROTECTION("nulang.help.msg.protection", new String[]{
                 "Manage arena region protections",
                 LINE,
@@ -186,6 +186,7 @@ public final class Language {
         ERROR_NOPERM_C_GOAL("nulang.nopermto.cmds.goal", "use the goal command"),
         ERROR_NOPERM_C_PLAYERCLASS("nulang.nopermto.cmds.playerclass", "use the playerclass command"),
         ERROR_NOPERM_C_PLAYERJOIN("nulang.nopermto.cmds.playerjoin", "use the playerjoin command"),
+        ERROR_NOPERM_C_PROFILE("nulang.nopermto.cmds.profile", "use the profile command"),
         ERROR_NOPERM_C_PROTECTION("nulang.nopermto.cmds.protection", "use the protection command"),
         ERROR_NOPERM_C_REGION("nulang.nopermto.cmds.region", "use the region command"),
         ERROR_NOPERM_C_REGIONFLAG("nulang.nopermto.cmds.regionflag", "use the regionflag command"),
@@ -366,6 +367,12 @@ public final class Language {
 
         PLAYERS("nulang.players", "Players"),
 
+        PROFILE_EMPTY("nulang.profile.empty", "Nothing has been measured."),
+        PROFILE_RESULT("nulang.profile.result", "Profile of &a%1%&r over %2% seconds:"),
+        PROFILE_RUNNING("nulang.profile.running", "&cA profile is already running! Use &r/pa profile stop&c to end it."),
+        PROFILE_SAVED("nulang.profile.saved", "Profile saved to &e%1%&r"),
+        PROFILE_STARTED("nulang.profile.started", "Profiling &a%1%&r for %2% seconds..."),
+
         READY_LIST("nulang.ready.list", "Players: %1%"),
         READY_DONE("nulang.ready.done", "You have been flagged as ready!"),
 
@@ -399,6 +406,9 @@ public final class Language {
         RELOAD_DONE("nulang.reloaded", "Config reloaded!"),
         RELOAD_YMLS_DONE("nulang.ymls.reloaded", "Languages reloaded!"),
 
+        RESTORE_DONE("nulang.restore.done", "Arena &a%1%&r restored: %2% blocks in %3% ticks."),
+        RESTORE_PROGRESS("nulang.restore.progress", "Restoring arena &a%1%&r: %2% of %3% blocks..."),
+
         ROUND_DISPLAY("nulang.round.display", "Round #%1%: %2%"),
         ROUND_ADDED("nulang.round.added", "Added goal to round: &e%1%"),
         ROUND_REMOVED("nulang.round.removed", "Removed goal from round: &e%1%"),
@@ -702,6 +712,7 @@ public final class Language {
 
         private final String node;
         private String value;
+        private MessageTemplate template;
 
         public static MSG getByNode(final String node) {
             for (final MSG m : MSG.values()) {
@@ -723,6 +734,21 @@ public final class Language {
 
         public void setValue(final String sValue) {
             value = sValue;
+            template = null;
+        }
+
+        /**
+         * hand over the compiled value, compiling it on first use
+         *
+         * @return the message template
+         */
+        public MessageTemplate getTemplate() {
+            MessageTemplate result = template;
+            if (result == null) {
+                result = MessageTemplate.compile(value);
+                template = result;
+            }
+            return result;
         }
 
         @Override
@@ -875,11 +901,14 @@ public final class Language {
      * @return the node string
      */
     public static String parse(final Arena arena, final MSG message) {
-        if (arena != null && arena.getLanguage().get(message.getNode()) != null) {
-            arena.getDebugger().i("MSG: " + message.name());
-            return StringParser.colorize((String) arena.getLanguage().get(message.getNode()));
+        if (arena != null) {
+            final MessageTemplate template = arena.getMessageTemplate(message);
+            if (template != null) {
+                arena.getDebugger().i(() -> "MSG: " + message.name());
+                return template.render();
+            }
         }
-        return StringParser.colorize(message.toString());
+        return message.getTemplate().render();
     }
 
     /**
@@ -891,18 +920,13 @@ public final class Language {
      */
     public static String parse(final Arena arena, final MSG message, final String... args) {
         if (arena != null) {
-            arena.getDebugger().i("MSG: " + message.name());
-        }
-
-        String result = message.toString();
-        if (arena != null && arena.getLanguage().get(message.getNode()) != null) {
-            result = (String) arena.getLanguage().get(message.getNode());
-        }
-        int i = 0;
-        for (final String word : args) {
-            result = result.replace("%" + ++i + '%', word);
+            arena.getDebugger().i(() -> "MSG: " + message.name());
+            final MessageTemplate template = arena.getMessageTemplate(message);
+            if (template != null) {
+                return template.render(args);
+            }
         }
-        return StringParser.colorize(result);
+        return message.getTemplate().render(args);
     }
 
     /**
@@ -912,8 +936,8 @@ public final class Language {
      * @return the node string
      */
     public static String parse(final MSG message) {
-        debugger.i("MSG: " + message.name());
-        return StringParser.colorize(message.toString());
+        debugger.i(() -> "MSG: " + message.name());
+        return message.getTemplate().render();
     }
 
     /**
@@ -924,12 +948,7 @@ public final class Language {
      * @return the replaced node string
      */
     public static String parse(final MSG message, final String... args) {
-        debugger.i("MSG: " + message.name());
-        String result = message.toString();
-        int i = 0;
-        for (final String word : args) {
-            result = result.replace("%" + ++i + '%', word);
-        }
-        return StringParser.colorize(result);
+        debugger.i(() -> "MSG: " + message.name());
+        return message.getTemplate().render(args);
     }
 }
@@ -0,0 +1,101 @@
+package net.slipcor.pvparena.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <pre>
+ * Message Template class
+ * </pre>
+ * <p/>
+ * A language message split at its %1%, %2%, ... placeholders, with colorized text parts,
+ * so that it can be rendered without searching and replacing on every call
+ *
+ * @author slipcor
+ */
+
+public final class MessageTemplate {
+    private final String[] parts;
+    private final int[] indexes;
+    private final String[] placeholders;
+    private final int length;
+
+    private MessageTemplate(final String[] parts, final int[] indexes, final String[] placeholders) {
+        this.parts = parts;
+        this.indexes = indexes;
+        this.placeholders = placeholders;
+        int length = 0;
+        for (final String part : parts) {
+            length += part.length();
+        }
+        this.length = length;
+    }
+
+    /**
+     * split and colorize a message
+     *
+     * @param message the raw message
+     * @return the compiled template
+     */
+    public static MessageTemplate compile(final String message) {
+        final List<String> parts = new ArrayList<>();
+        final List<Integer> indexes = new ArrayList<>();
+        final List<String> placeholders = new ArrayList<>();
+
+        int start = 0;
+        int pos = message.indexOf('%');
+        while (pos >= 0) {
+            int end = pos + 1;
+            while (end < message.length() && Character.isDigit(message.charAt(end))) {
+                end++;
+            }
+            if (end > pos + 1 && end < message.length() && message.charAt(end) == '%') {
+                final int index = Integer.parseInt(message.substring(pos + 1, end));
+                if (index > 0) {
+                    parts.add(StringParser.colorize(message.substring(start, pos)));
+                    indexes.add(index - 1);
+                    placeholders.add(message.substring(pos, end + 1));
+                    start = end + 1;
+                    pos = message.indexOf('%', start);
+                    continue;
+                }
+            }
+            pos = message.indexOf('%', pos + 1);
+        }
+        parts.add(StringParser.colorize(message.substring(start)));
+
+        final int[] indexArray = new int[indexes.size()];
+        for (int i = 0; i < indexArray.length; i++) {
+            indexArray[i] = indexes.get(i);
+        }
+        return new MessageTemplate(parts.toArray(new String[0]), indexArray,
+                placeholders.toArray(new String[0]));
+    }
+
+    /**
+     * fill the placeholders. Missing arguments keep their placeholder, arguments containing
+     * color codes are colorized, just as if the whole message was colorized afterwards
+     *
+     * @param args the values for %1%, %2%, ...
+     * @return the rendered message
+     */
+    public String render(final String... args) {
+        if (indexes.length == 0) {
+            return parts[0];
+        }
+        final StringBuilder builder = new StringBuilder(length + 16 * indexes.length);
+        for (int i = 0; i < indexes.length; i++) {
+            builder.append(parts[i]);
+            final int index = indexes[i];
+            if (args == null || index >= args.length) {
+                builder.append(placeholders[i]);
+            } else if (args[index] != null && args[index].indexOf('&') >= 0) {
+                builder.append(StringParser.colorize(args[index]));
+            } else {
+                builder.append(args[index]);
+            }
+        }
+        builder.append(parts[indexes.length]);
+        return builder.toString();
+    }
+}
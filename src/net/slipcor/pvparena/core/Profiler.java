@@ -0,0 +1,292 @@
+package net.slipcor.pvparena.core;
+
+import net.slipcor.pvparena.PVPArena;
+import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.arena.ArenaPlayer;
+import net.slipcor.pvparena.core.Language.MSG;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventException;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityEvent;
+import org.bukkit.event.player.PlayerEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.text.SimpleDateFormat;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <pre>
+ * Profiler class
+ * </pre>
+ * <p/>
+ * measures the time spent in arena ticks, goal and module hooks and listeners, per arena,
+ * while a profiling session is running. Outside of a session, measuring costs one field read
+ *
+ * @author slipcor
+ */
+
+public final class Profiler {
+    public static final String NO_ARENA = "-";
+
+    private static final int TOP_LINES = 10;
+
+    private static volatile Session session;
+
+    private Profiler() {
+    }
+
+    /**
+     * @return the start time to hand over to {@link #stop}, 0 if no session is running
+     */
+    public static long start() {
+        return session == null ? 0L : System.nanoTime();
+    }
+
+    /**
+     * record the time since a start time
+     *
+     * @param arena   the arena, null if there is none
+     * @param section the section, usually the hook name
+     * @param name    the name, usually the goal, module or listener name
+     * @param start   the start time returned by {@link #start}
+     */
+    public static void stop(final Arena arena, final String section, final String name, final long start) {
+        if (start != 0L) {
+            record(arena, section, name, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * record a measured time. A session profiling one arena keeps the times of that arena
+     * and the times no arena could be found for
+     *
+     * @param arena   the arena, null if there is none
+     * @param section the section, usually the hook name
+     * @param name    the name, usually the goal, module or listener name
+     * @param nanos   the time, in nanoseconds
+     */
+    public static void record(final Arena arena, final String section, final String name, final long nanos) {
+        final Session current = session;
+        if (current == null || current.arena != null && arena != null && current.arena != arena) {
+            return;
+        }
+        current.counters
+                .computeIfAbsent(arena == null ? NO_ARENA : arena.getName(), k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(section, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(name, k -> new Counter())
+                .add(nanos);
+    }
+
+    /**
+     * count an occurrence, shown as a row without time
+     *
+     * @param arena   the arena, null if there is none
+     * @param section the section
+     * @param name    the name of what is counted
+     */
+    public static void count(final Arena arena, final String section, final String name) {
+        if (session != null) {
+            record(arena, section, name, 0L);
+        }
+    }
+
+    public static boolean isRunning() {
+        return session != null;
+    }
+
+    /**
+     * start a profiling session
+     *
+     * @param sender  the sender to report to
+     * @param arena   the arena to profile, null to profile everything
+     * @param seconds the seconds to profile
+     * @return false if a session is already running
+     */
+    public static synchronized boolean begin(final CommandSender sender, final Arena arena, final int seconds) {
+        if (session != null) {
+            return false;
+        }
+        final BukkitTask task = Bukkit.getScheduler().runTaskLater(PVPArena.instance, Profiler::end, seconds * 20L);
+        session = new Session(sender, arena, task);
+        return true;
+    }
+
+    /**
+     * end the profiling session, report the results and save them to a file
+     */
+    public static synchronized void end() {
+        final Session finished = session;
+        if (finished == null) {
+            return;
+        }
+        session = null;
+        finished.task.cancel();
+
+        final long seconds = Math.max(1, (System.currentTimeMillis() - finished.started) / 1000);
+        final List<Row> rows = new ArrayList<>();
+        for (final Map.Entry<String, ConcurrentMap<String, ConcurrentMap<String, Counter>>> arena : finished.counters.entrySet()) {
+            for (final Map.Entry<String, ConcurrentMap<String, Counter>> section : arena.getValue().entrySet()) {
+                for (final Map.Entry<String, Counter> name : section.getValue().entrySet()) {
+                    rows.add(new Row(arena.getKey(), section.getKey(), name.getKey(), name.getValue()));
+                }
+            }
+        }
+        rows.sort((a, b) -> Long.compare(b.nanos, a.nanos));
+
+        final String target = finished.arena == null ? "all" : finished.arena.getName();
+        Arena.pmsg(finished.sender, Language.parse(MSG.PROFILE_RESULT, target, String.valueOf(seconds)));
+        if (rows.isEmpty()) {
+            Arena.pmsg(finished.sender, Language.parse(MSG.PROFILE_EMPTY));
+            return;
+        }
+        for (final Row row : rows.subList(0, Math.min(TOP_LINES, rows.size()))) {
+            if (row.nanos == 0L) {
+                break; // only counters left
+            }
+            Arena.pmsg(finished.sender, String.format("%s %s %s: %d calls, %.2fms, avg %dus, max %dus",
+                    row.arena, row.section, row.name, row.calls, row.nanos / 1000000.0,
+                    row.nanos / row.calls / 1000, row.max / 1000));
+        }
+        for (final Row row : rows) {
+            if (row.nanos == 0L) {
+                Arena.pmsg(finished.sender, String.format("%s %s %s: %d",
+                        row.arena, row.section, row.name, row.calls));
+            }
+        }
+
+        final File folder = new File(PVPArena.instance.getDataFolder(), "profiles");
+        final File file = new File(folder, "profile-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date(finished.started)) + ".csv");
+        if (!folder.exists() && !folder.mkdirs()) {
+            PVPArena.instance.getLogger().warning("Could not create " + folder.getPath());
+            return;
+        }
+        try (PrintWriter writer = new PrintWriter(file, "UTF-8")) {
+            writer.println("arena,section,name,calls,total_ns,avg_ns,max_ns");
+            for (final Row row : rows) {
+                writer.println(row.arena + ',' + row.section + ',' + row.name + ',' + row.calls + ','
+                        + row.nanos + ',' + row.nanos / row.calls + ',' + row.max);
+            }
+        } catch (final IOException e) {
+            PVPArena.instance.getLogger().warning("Could not save " + file.getPath() + ": " + e.getMessage());
+            return;
+        }
+        Arena.pmsg(finished.sender, Language.parse(MSG.PROFILE_SAVED, file.getPath()));
+    }
+
+    /**
+     * register the event handlers of a listener, measuring the time spent in each of them,
+     * per arena of the player causing the event
+     *
+     * @param listener the listener
+     * @param plugin   the plugin to register for
+     */
+    public static void registerEvents(final Listener listener, final Plugin plugin) {
+        for (final Method method : listener.getClass().getDeclaredMethods()) {
+            final EventHandler handler = method.getAnnotation(EventHandler.class);
+            if (handler == null || method.getParameterTypes().length != 1
+                    || !Event.class.isAssignableFrom(method.getParameterTypes()[0])) {
+                continue;
+            }
+            final Class<? extends Event> eventClass = method.getParameterTypes()[0].asSubclass(Event.class);
+            final String name = listener.getClass().getSimpleName() + '.' + method.getName();
+            method.setAccessible(true);
+            Bukkit.getPluginManager().registerEvent(eventClass, listener, handler.priority(), (l, event) -> {
+                if (!eventClass.isInstance(event)) {
+                    return;
+                }
+                final long start = start();
+                try {
+                    method.invoke(l, event);
+                } catch (final InvocationTargetException e) {
+                    throw new EventException(e.getCause());
+                } catch (final IllegalAccessException e) {
+                    throw new EventException(e);
+                } finally {
+                    if (start != 0L) {
+                        stop(getArena(event), "listener", name, start);
+                    }
+                }
+            }, plugin, handler.ignoreCancelled());
+        }
+    }
+
+    /**
+     * @param event the event
+     * @return the arena of the player causing the event, null if there is none
+     */
+    private static Arena getArena(final Event event) {
+        final Player player;
+        if (event instanceof PlayerEvent) {
+            player = ((PlayerEvent) event).getPlayer();
+        } else if (event instanceof EntityEvent && ((EntityEvent) event).getEntity() instanceof Player) {
+            player = (Player) ((EntityEvent) event).getEntity();
+        } else if (event instanceof BlockBreakEvent) {
+            player = ((BlockBreakEvent) event).getPlayer();
+        } else if (event instanceof BlockPlaceEvent) {
+            player = ((BlockPlaceEvent) event).getPlayer();
+        } else {
+            return null;
+        }
+        return player == null || !player.isOnline() ? null : ArenaPlayer.parsePlayer(player).getArena();
+    }
+
+    private static final class Session {
+        private final CommandSender sender;
+        private final Arena arena;
+        private final BukkitTask task;
+        private final long started = System.currentTimeMillis();
+        private final ConcurrentMap<String, ConcurrentMap<String, ConcurrentMap<String, Counter>>> counters = new ConcurrentHashMap<>();
+
+        private Session(final CommandSender sender, final Arena arena, final BukkitTask task) {
+            this.sender = sender;
+            this.arena = arena;
+            this.task = task;
+        }
+    }
+
+    private static final class Counter {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+        private void add(final long time) {
+            calls.increment();
+            nanos.add(time);
+            max.accumulate(time);
+        }
+    }
+
+    private static final class Row {
+        private final String arena;
+        private final String section;
+        private final String name;
+        private final long calls;
+        private final long nanos;
+        private final long max;
+
+        private Row(final String arena, final String section, final String name, final Counter counter) {
+            this.arena = arena;
+            this.section = section;
+            this.name = name;
+            this.calls = Math.max(1, counter.calls.sum());
+            this.nanos = counter.nanos.sum();
+            this.max = counter.max.get();
+        }
+    }
+}
@@ -14,17 +14,15 @@ import net.slipcor.pvparena.core.Config.CFG;
 import net.slipcor.pvparena.core.Debug;
 import net.slipcor.pvparena.core.Language;
 import net.slipcor.pvparena.core.Language.MSG;
-import net.slipcor.pvparena.core.StringParser;
 import net.slipcor.pvparena.events.PAGoalEvent;
 import net.slipcor.pvparena.loadables.ArenaGoal;
 import net.slipcor.pvparena.loadables.ArenaModuleManager;
 import net.slipcor.pvparena.managers.SpawnManager;
 import net.slipcor.pvparena.runnables.EndRunnable;
+import net.slipcor.pvparena.runnables.ProximityRunnable;
 import org.bukkit.Bukkit;
-import org.bukkit.Location;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.*;
 
@@ -36,7 +34,9 @@ import java.util.*;
  * @author slipcor
  */
 
-public class GoalCheckPoints extends ArenaGoal {
+public class GoalCheckPoints extends ArenaGoal implements ProximityRunnable.Listener {
+
+    private Map<ProximityRunnable.Zone, Integer> zoneMap = new HashMap<>();
 
     public GoalCheckPoints() {
         super("CheckPoints");
@@ -107,54 +107,32 @@ public class GoalCheckPoints extends ArenaGoal {
     }
 
     /**
-     * return a hashset of players names being near a specified location
+     * score a fighter reaching a checkpoint
      *
-     * @param loc      the location to check
-     * @param distance the distance in blocks
-     * @return a set of player names
+     * @param zone   the checkpoint zone
+     * @param player the fighter
      */
-    private Set<String> checkLocationPresentPlayers(final Location loc, final int distance) {
-        final Set<String> result = new HashSet<>();
-
-        for (final ArenaPlayer p : this.arena.getFighters()) {
-            if (p.get().getLocation().getWorld().getName().equals(loc.getWorld().getName())) {
-                if (p.get().getLocation().distance(loc) > distance) {
-                    continue;
-                }
-
-                result.add(p.getName());
-            }
+    @Override
+    public void onEnter(final ProximityRunnable.Zone zone, final ArenaPlayer player) {
+        if (!this.arena.isFightInProgress() || this.arena.realEndRunner != null) {
+            return;
+        }
+        final Integer value = this.getZoneMap().get(zone);
+        if (value != null) {
+            this.arena.getDebugger().i(() -> player.getName() + " reached checkpoint " + value);
+            this.maybeAddScoreAndBroadCast(player.getName(), value);
         }
-
-        return result;
     }
 
-    private void checkMove() {
-
-        this.arena.getDebugger().i("------------------");
-        this.arena.getDebugger().i("  GCP checkMove();");
-        this.arena.getDebugger().i("------------------");
-
-        final int checkDistance = this.arena.getArenaConfig().getInt(CFG.GOAL_CHECKPOINTS_CLAIMRANGE);
-
-        for (final PASpawn spawn : SpawnManager.getPASpawnsStartingWith(this.arena, "checkpoint")) {
-            final PALocation paLoc = spawn.getLocation();
-            final Set<String> players = this.checkLocationPresentPlayers(paLoc.toLocation(),
-                    checkDistance);
-
-            this.arena.getDebugger().i("players: " + StringParser.joinSet(players, ", "));
-
-            // players now contains all players near the checkpoint
-
-            if (players.size() < 1) {
-                continue;
-            }
-            int value = Integer.parseInt(spawn.getName().substring(10));
-            for (String playerName : players) {
-                this.maybeAddScoreAndBroadCast(playerName, value);
-            }
+    @Override
+    public void onLeave(final ProximityRunnable.Zone zone, final ArenaPlayer player) {
+    }
 
+    private Map<ProximityRunnable.Zone, Integer> getZoneMap() {
+        if (this.zoneMap == null) {
+            this.zoneMap = new HashMap<>();
         }
+        return this.zoneMap;
     }
 
     private void maybeAddScoreAndBroadCast(final String playerName, int checkpoint) {
@@ -357,9 +335,13 @@ public class GoalCheckPoints extends ArenaGoal {
                     this.arena.getArenaConfig().getInt(CFG.GOAL_CHECKPOINTS_LIVES, 3));
         }
 
-        final CheckPointsMainRunnable cpMainRunner = new CheckPointsMainRunnable(this.arena, this);
+        final int checkDistance = this.arena.getArenaConfig().getInt(CFG.GOAL_CHECKPOINTS_CLAIMRANGE);
         final int tickInterval = this.arena.getArenaConfig().getInt(CFG.GOAL_CHECKPOINTS_TICKINTERVAL);
-        cpMainRunner.runTaskTimer(PVPArena.instance, tickInterval, tickInterval);
+        for (final PASpawn spawn : SpawnManager.getPASpawnsStartingWith(this.arena, "checkpoint")) {
+            final int value = Integer.parseInt(spawn.getName().substring(10));
+            this.getZoneMap().put(this.arena.watchProximity(spawn.getLocation().toLocation(),
+                    checkDistance, tickInterval, this), value);
+        }
     }
 
     private void reduceLivesCheckEndAndCommit(final Arena arena, final String player) {
@@ -379,6 +361,10 @@ public class GoalCheckPoints extends ArenaGoal {
     @Override
     public void reset(final boolean force) {
         this.getLifeMap().clear();
+        for (final ProximityRunnable.Zone zone : this.getZoneMap().keySet()) {
+            this.arena.unwatchProximity(zone);
+        }
+        this.getZoneMap().clear();
     }
 
     @Override
@@ -395,27 +381,4 @@ public class GoalCheckPoints extends ArenaGoal {
 
         return scores;
     }
-
-    private class CheckPointsMainRunnable extends BukkitRunnable {
-        private final Arena arena;
-        //private final Debug debug = new Debug(39);
-        private final GoalCheckPoints goal;
-
-        public CheckPointsMainRunnable(final Arena arena, final GoalCheckPoints goal) {
-            this.arena = arena;
-            this.goal = goal;
-            arena.getDebugger().i("CheckPointsMainRunnable constructor");
-        }
-
-        /**
-         * the run method, commit arena end
-         */
-        @Override
-        public void run() {
-            if (!this.arena.isFightInProgress() || this.arena.realEndRunner != null) {
-                this.cancel();
-            }
-            this.goal.checkMove();
-        }
-    }
 }
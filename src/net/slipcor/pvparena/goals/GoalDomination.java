@@ -18,13 +18,12 @@ import net.slipcor.pvparena.managers.SpawnManager;
 import net.slipcor.pvparena.managers.TeamManager;
 import net.slipcor.pvparena.runnables.CircleParticleRunnable;
 import net.slipcor.pvparena.runnables.EndRunnable;
+import net.slipcor.pvparena.runnables.ProximityRunnable;
 import org.bukkit.*;
 import org.bukkit.block.Block;
 import org.bukkit.command.CommandSender;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
 
@@ -36,12 +35,12 @@ import java.util.*;
  * @author slipcor
  */
 
-public class GoalDomination extends ArenaGoal {
+public class GoalDomination extends ArenaGoal implements ProximityRunnable.Listener {
 
     private static final int PRIORITY = 8;
     private static final int INTERVAL = 200;
 
-    private BukkitTask circleTask = null;
+    private CircleParticleRunnable circleRunner = null;
 
     public GoalDomination() {
         super("Domination");
@@ -51,8 +50,12 @@ public class GoalDomination extends ArenaGoal {
     private Map<Location, String> flagMap = new HashMap<>();
     private Map<Location, DominationRunnable> runnerMap = new HashMap<>();
     private Map<Location, PAClaimBar> flagBars = new HashMap<>();
+    private Map<Location, ProximityRunnable.Zone> flagZones = new HashMap<>();
+    private Map<ProximityRunnable.Zone, FlagPresence> flagPresence = new HashMap<>();
 
     private int announceOffset;
+    private int tickInterval = 1;
+    private int currentTick;
 
     @Override
     public String version() {
@@ -172,27 +175,43 @@ public class GoalDomination extends ArenaGoal {
     }
 
     /**
-     * return a hashset of players names being near a specified location, except
-     * one player
+     * return the names of the teams having a fighter near a flag
      *
-     * @param loc      the location to check
+     * @param loc      the flag location
      * @param distance the distance in blocks
-     * @return a set of player names
+     * @return a read-only set of team names
      */
     private Set<String> checkLocationPresentTeams(final Location loc, final int distance) {
-        final Set<String> result = new HashSet<>();
-        final Location flagCenter = Utils.getCenteredLocation(loc);
-
-        for (final ArenaPlayer p : this.arena.getFighters()) {
-
-            if (p.get().getLocation().distance(flagCenter) > distance) {
-                continue;
-            }
+        ProximityRunnable.Zone zone = this.getZoneMap().get(loc);
+        if (zone == null) {
+            // the arena proximity timer tells us when fighters come near the flag from now on
+            zone = this.arena.watchProximity(Utils.getCenteredLocation(loc), distance, 1, this);
+            this.getZoneMap().put(loc, zone);
+        }
+        final FlagPresence presence = this.getPresenceMap().get(zone);
+        return presence == null ? Collections.emptySet() : presence.getTeamNames();
+    }
 
-            result.add(p.getArenaTeam().getName());
+    /**
+     * count a fighter coming near a flag for their team
+     *
+     * @param zone   the flag zone
+     * @param player the fighter
+     */
+    @Override
+    public void onEnter(final ProximityRunnable.Zone zone, final ArenaPlayer player) {
+        final ArenaTeam team = player.getArenaTeam();
+        if (team != null) {
+            this.getPresenceMap().computeIfAbsent(zone, k -> new FlagPresence()).enter(player, team.getName());
         }
+    }
 
-        return result;
+    @Override
+    public void onLeave(final ProximityRunnable.Zone zone, final ArenaPlayer player) {
+        final FlagPresence presence = this.getPresenceMap().get(zone);
+        if (presence != null) {
+            presence.leave(player);
+        }
     }
 
     void checkMove() {
@@ -234,7 +253,7 @@ public class GoalDomination extends ArenaGoal {
 
             final Set<String> teams = this.checkLocationPresentTeams(loc, checkDistance);
 
-            this.arena.getDebugger().i("teams: " + StringParser.joinSet(teams, ", "));
+            this.arena.getDebugger().i(() -> "teams: " + StringParser.joinSet(teams, ", "));
 
             // teams now contains all teams near the flag
 
@@ -244,7 +263,6 @@ public class GoalDomination extends ArenaGoal {
                 if (this.getRunnerMap().containsKey(loc)) {
                     this.arena.getDebugger().i("flag is being (un)claimed! Cancelling!");
                     // cancel unclaiming/claiming if noone's near
-                    this.getRunnerMap().get(loc).cancel();
                     this.getRunnerMap().remove(loc);
                     this.barStop(loc);
                 }
@@ -285,8 +303,6 @@ public class GoalDomination extends ArenaGoal {
                                     this.arena, false, loc,
                                     this.getFlagMap().get(loc), this);
 
-                            domRunner.runTaskTimer(PVPArena.instance, INTERVAL, INTERVAL);
-
                             this.getRunnerMap().put(loc, domRunner);
                             this.barStart(loc, contestingMsg, ChatColor.WHITE, checkDistance);
                         }
@@ -297,7 +313,6 @@ public class GoalDomination extends ArenaGoal {
                             this.arena.getDebugger().i("      - being unclaimed. cancel!");
                             // it is being unclaimed
                             // cancel task!
-                            this.getRunnerMap().get(loc).cancel();
                             this.getRunnerMap().remove(loc);
                             this.barStop(loc);
                         } else {
@@ -321,7 +336,6 @@ public class GoalDomination extends ArenaGoal {
                     if (this.getRunnerMap().get(loc).isTaken()) {
                         this.arena.getDebugger().i("    - runnable is trying to score, abort");
 
-                        this.getRunnerMap().get(loc).cancel();
                         this.getRunnerMap().remove(loc);
                     } else {
                         this.arena.getDebugger().i("    - being unclaimed. continue.");
@@ -335,8 +349,6 @@ public class GoalDomination extends ArenaGoal {
                 this.arena.broadcast(unclaimingMsg);
                 final DominationRunnable running = new DominationRunnable(this.arena,
                         false, loc, this.getFlagMap().get(loc), this);
-
-                running.runTaskTimer(PVPArena.instance, INTERVAL, INTERVAL);
                 this.getRunnerMap().put(loc, running);
                 this.barStart(loc, unclaimingMsg, ChatColor.WHITE, checkDistance);
             } else {
@@ -366,7 +378,6 @@ public class GoalDomination extends ArenaGoal {
                     }
                     this.arena.getDebugger().i("  - more than one team or another team. cancel claim!");
                     // more than THE team that is claiming => cancel!
-                    this.getRunnerMap().get(loc).cancel();
                     this.getRunnerMap().remove(loc);
                     this.barStop(loc);
                 } else {
@@ -375,7 +386,7 @@ public class GoalDomination extends ArenaGoal {
                     if (teams.size() < 2) {
                         this.arena.getDebugger().i("  - just one team present");
                         for (final String sName : teams) {
-                            this.arena.getDebugger().i("TEAM " + sName + " IS CLAIMING "
+                            this.arena.getDebugger().i(() -> "TEAM " + sName + " IS CLAIMING "
                                     + loc);
                             final ArenaTeam team = this.arena.getTeam(sName);
                             String claimingMsg = Language.parse(this.arena, MSG.GOAL_DOMINATION_CLAIMING,
@@ -384,8 +395,6 @@ public class GoalDomination extends ArenaGoal {
 
                             final DominationRunnable running = new DominationRunnable(
                                     this.arena, true, loc, sName, this);
-
-                            running.runTaskTimer(PVPArena.instance, INTERVAL, INTERVAL);
                             this.getRunnerMap().put(loc, running);
                             this.barStart(loc, claimingMsg, team.getColor(), checkDistance);
                         }
@@ -456,7 +465,7 @@ public class GoalDomination extends ArenaGoal {
             arena.getDebugger().i("[DOM] already ending");
             return;
         }
-        arena.getDebugger().i("[DOM] committing end: " + sTeam);
+        arena.getDebugger().i(() -> "[DOM] committing end: " + sTeam);
         arena.getDebugger().i("win: " + true);
 
         String winteam = sTeam;
@@ -596,6 +605,20 @@ public class GoalDomination extends ArenaGoal {
         return this.flagMap;
     }
 
+    private Map<Location, ProximityRunnable.Zone> getZoneMap() {
+        if (this.flagZones == null) {
+            this.flagZones = new HashMap<>();
+        }
+        return this.flagZones;
+    }
+
+    private Map<ProximityRunnable.Zone, FlagPresence> getPresenceMap() {
+        if (this.flagPresence == null) {
+            this.flagPresence = new HashMap<>();
+        }
+        return this.flagPresence;
+    }
+
     private Map<Location, PAClaimBar> getBarMap() {
         if (this.flagBars == null) {
             this.flagBars = new HashMap<>();
@@ -666,7 +689,7 @@ public class GoalDomination extends ArenaGoal {
         this.getLifeMap().clear();
         for (final ArenaTeam team : this.arena.getTeams()) {
             if (!team.getTeamMembers().isEmpty()) {
-                this.arena.getDebugger().i("adding team " + team.getName());
+                this.arena.getDebugger().i(() -> "adding team " + team.getName());
                 // team is active
                 this.getLifeMap().put(team.getName(),
                         this.arena.getArenaConfig().getInt(CFG.GOAL_DOM_LIVES, 3));
@@ -677,20 +700,19 @@ public class GoalDomination extends ArenaGoal {
             this.takeFlag(spawn);
         }
 
-        final DominationMainRunnable domMainRunner = new DominationMainRunnable(this.arena, this);
-        final int tickInterval = this.arena.getArenaConfig().getInt(CFG.GOAL_DOM_TICKINTERVAL);
-        domMainRunner.runTaskTimer(PVPArena.instance, tickInterval, tickInterval);
+        this.tickInterval = Math.max(1, this.arena.getArenaConfig().getInt(CFG.GOAL_DOM_TICKINTERVAL));
 
         this.announceOffset = this.arena.getArenaConfig().getInt(CFG.GOAL_DOM_ANNOUNCEOFFSET);
 
         if(this.arena.getArenaConfig().getBoolean(CFG.GOAL_DOM_PARTICLECIRCLE)) {
-            this.circleTask = Bukkit.getScheduler().runTaskTimer(PVPArena.instance, new CircleParticleRunnable(this.arena, CFG.GOAL_DOM_CLAIMRANGE, this.getFlagMap()), 1L, 1L);
+            this.circleRunner = new CircleParticleRunnable(this.arena, CFG.GOAL_DOM_CLAIMRANGE, this.getFlagMap());
+            this.arena.addCircleEffect(this.circleRunner);
         }
     }
 
     private void reduceLivesCheckEndAndCommit(final Arena arena, final String team) {
 
-        arena.getDebugger().i("reducing lives of team " + team);
+        arena.getDebugger().i(() -> "reducing lives of team " + team);
         if (this.getLifeMap().get(team) != null) {
             final int score = arena.getArenaConfig().getInt(CFG.GOAL_DOM_TICKREWARD);
             final int iLives = this.getLifeMap().get(team) - score;
@@ -709,13 +731,21 @@ public class GoalDomination extends ArenaGoal {
 
     @Override
     public void reset(final boolean force) {
+        for (final PAClaimBar claimBar : this.getBarMap().values()) {
+            claimBar.stop();
+        }
         this.getBarMap().clear();
         this.getLifeMap().clear();
         this.getRunnerMap().clear();
         this.getFlagMap().clear();
-        if (this.circleTask != null) {
-            this.circleTask.cancel();
-            this.circleTask = null;
+        for (final ProximityRunnable.Zone zone : this.getZoneMap().values()) {
+            this.arena.unwatchProximity(zone);
+        }
+        this.getZoneMap().clear();
+        this.getPresenceMap().clear();
+        if (this.circleRunner != null) {
+            this.arena.removeCircleEffect(this.circleRunner);
+            this.circleRunner = null;
         }
     }
 
@@ -744,6 +774,20 @@ public class GoalDomination extends ArenaGoal {
         ColorUtils.setNewFlagColor(flagBlock, ChatColor.WHITE);
     }
 
+    @Override
+    public void tick(final int tick) {
+        this.currentTick = tick;
+        // claim and unclaim timers remove themselves when they are done
+        for (final DominationRunnable runner : new ArrayList<>(this.getRunnerMap().values())) {
+            if (runner.due <= tick) {
+                runner.run();
+            }
+        }
+        if (tick % this.tickInterval == 0 && this.arena.realEndRunner == null) {
+            this.checkMove();
+        }
+    }
+
     @Override
     public Map<String, Double> timedEnd(final Map<String, Double> scores) {
 
@@ -759,12 +803,40 @@ public class GoalDomination extends ArenaGoal {
         return scores;
     }
 
-    private static class DominationRunnable extends BukkitRunnable {
+    /**
+     * The fighters near a flag, counted per team. The team is remembered on entering, so a
+     * fighter leaving is taken off the team they were counted for
+     */
+    private static final class FlagPresence {
+        private final Map<ArenaPlayer, String> teams = new HashMap<>();
+        private final Map<String, Integer> counts = new HashMap<>();
+        private final Set<String> teamNames = Collections.unmodifiableSet(this.counts.keySet());
+
+        private void enter(final ArenaPlayer player, final String team) {
+            this.leave(player);
+            this.teams.put(player, team);
+            this.counts.merge(team, 1, Integer::sum);
+        }
+
+        private void leave(final ArenaPlayer player) {
+            final String team = this.teams.remove(player);
+            if (team != null) {
+                this.counts.computeIfPresent(team, (k, count) -> count > 1 ? count - 1 : null);
+            }
+        }
+
+        private Set<String> getTeamNames() {
+            return this.teamNames;
+        }
+    }
+
+    private static class DominationRunnable implements Runnable {
         private final boolean taken;
         private final Location loc;
         private final Arena arena;
         public final String team;
         private final GoalDomination domination;
+        private int due;
 
         /**
          * create a domination runnable
@@ -778,6 +850,7 @@ public class GoalDomination extends ArenaGoal {
             this.team = teamName;
             this.loc = loc2;
             this.domination = goal;
+            this.due = goal.currentTick + INTERVAL;
             arena.getDebugger().i("Domination constructor");
         }
 
@@ -787,7 +860,8 @@ public class GoalDomination extends ArenaGoal {
         @Override
         public void run() {
             this.arena.getDebugger().i("DominationRunnable commiting");
-            this.arena.getDebugger().i("team " + this.team + ", take: " + this.taken);
+            this.due += INTERVAL;
+            this.arena.getDebugger().i(() -> "team " + this.team + ", take: " + this.taken);
             if (this.taken) {
                 // claim a flag for the team
                 if (!this.domination.getFlagMap().containsKey(this.loc)) {
@@ -803,14 +877,12 @@ public class GoalDomination extends ArenaGoal {
                     this.domination.getFlagMap().put(this.loc, this.team);
 
                     // claim done. end timer
-                    this.cancel();
                     this.domination.getRunnerMap().remove(this.loc);
                 }
             } else {
                 // unclaim
                 this.arena.getDebugger().i("unclaimed");
                 this.takeFlag(this.arena, this.loc, "");
-                this.cancel();
                 this.domination.getRunnerMap().remove(this.loc);
                 this.domination.getFlagMap().remove(this.loc);
             }
@@ -836,26 +908,4 @@ public class GoalDomination extends ArenaGoal {
             return this.taken;
         }
     }
-
-    private static class DominationMainRunnable extends BukkitRunnable {
-        private final Arena arena;
-        private final GoalDomination domination;
-
-        public DominationMainRunnable(final Arena arena, final GoalDomination goal) {
-            this.arena = arena;
-            this.domination = goal;
-            arena.getDebugger().i("DominationMainRunnable constructor");
-        }
-
-        /**
-         * the run method, commit arena end
-         */
-        @Override
-        public void run() {
-            if (!this.arena.isFightInProgress() || this.arena.realEndRunner != null) {
-                this.cancel();
-            }
-            this.domination.checkMove();
-        }
-    }
 }
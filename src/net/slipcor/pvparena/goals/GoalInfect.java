@@ -684,14 +684,14 @@ public class GoalInfect extends ArenaGoal {
                 break;
             }
         }
-        this.arena.getTeams().add(infectedTeam);
+        this.arena.addTeam(infectedTeam);
     }
 
     @Override
     public void reset(final boolean force) {
         this.endRunner = null;
         this.getLifeMap().clear();
-        this.arena.getTeams().remove(this.arena.getTeam("infected"));
+        this.arena.removeTeam(this.arena.getTeam("infected"));
     }
 
     @Override
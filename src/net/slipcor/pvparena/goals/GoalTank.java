@@ -371,7 +371,7 @@ public class GoalTank extends ArenaGoal {
             }
         }
 
-        arena.getTeams().add(tankTeam);
+        arena.addTeam(tankTeam);
     }
 
     @Override
@@ -379,7 +379,7 @@ public class GoalTank extends ArenaGoal {
         endRunner = null;
         getLifeMap().clear();
         tanks.remove(arena);
-        arena.getTeams().remove(arena.getTeam("tank"));
+        arena.removeTeam(arena.getTeam("tank"));
     }
 
     @Override
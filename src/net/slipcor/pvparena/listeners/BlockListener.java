@@ -1,6 +1,5 @@
 package net.slipcor.pvparena.listeners;
 
-import net.slipcor.pvparena.PVPArena;
 import net.slipcor.pvparena.arena.Arena;
 import net.slipcor.pvparena.arena.ArenaPlayer;
 import net.slipcor.pvparena.arena.ArenaPlayer.Status;
@@ -17,8 +16,6 @@ import net.slipcor.pvparena.loadables.ArenaGoalManager;
 import net.slipcor.pvparena.loadables.ArenaModuleManager;
 import net.slipcor.pvparena.loadables.ArenaRegion.RegionProtection;
 import net.slipcor.pvparena.managers.ArenaManager;
-import net.slipcor.pvparena.runnables.DamageResetRunnable;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
@@ -34,8 +31,7 @@ import org.bukkit.event.hanging.HangingPlaceEvent;
 import org.bukkit.event.player.PlayerEvent;
 import org.bukkit.event.world.StructureGrowEvent;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
 
 import static java.util.Arrays.asList;
 
@@ -89,7 +85,7 @@ public class BlockListener implements Listener {
         if (event instanceof PlayerEvent) {
             final PlayerEvent e = (PlayerEvent) event;
 
-            final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(e.getPlayer().getName());
+            final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(e.getPlayer());
 
             if (aPlayer.getArena() != null && aPlayer.getArena() != arena) {
                 return false; // players in arenas should be caught by their arenas
@@ -111,10 +107,11 @@ public class BlockListener implements Listener {
             return;
         }
 
-        if (ArenaPlayer.parsePlayer(event.getPlayer().getName()).getStatus() == Status.LOST
-                || ArenaPlayer.parsePlayer(event.getPlayer().getName()).getStatus() == Status.WATCH
-                || ArenaPlayer.parsePlayer(event.getPlayer().getName()).getStatus() == Status.LOUNGE
-                || ArenaPlayer.parsePlayer(event.getPlayer().getName()).getStatus() == Status.READY) {
+        final Status status = ArenaPlayer.parsePlayer(event.getPlayer()).getStatus();
+        if (status == Status.LOST
+                || status == Status.WATCH
+                || status == Status.LOUNGE
+                || status == Status.READY) {
             event.setCancelled(true);
             return;
         }
@@ -123,15 +120,9 @@ public class BlockListener implements Listener {
                 .getArenaByRegionLocation(new PABlockLocation(event.getBlock()
                         .getLocation()));
 
-        final List<String> list = arena.getArenaConfig().getStringList(
-                CFG.LISTS_WHITELIST.getNode() + ".break",
-                new ArrayList<String>());
+        final Set<Material> whitelist = arena.getArenaConfig().getMaterialList(CFG.LISTS_WHITELIST, "break");
 
-        if (!list.isEmpty()
-                && !list.contains(String.valueOf(event.getBlock().getType()
-                .name()))
-                && !list.contains(String.valueOf(event.getBlock().getType()
-                .name()))) {
+        if (whitelist != null && !whitelist.contains(event.getBlock().getType())) {
             arena.msg(
                     event.getPlayer(),
                     Language.parse(arena, MSG.ERROR_WHITELIST_DISALLOWED,
@@ -147,13 +138,9 @@ public class BlockListener implements Listener {
             DEBUG.i("isprotected!", event.getPlayer());
             return;
         }
-        list.clear();
-        list.addAll(arena.getArenaConfig().getStringList(
-                CFG.LISTS_BLACKLIST.getNode() + ".break",
-                new ArrayList<String>()));
+        final Set<Material> blacklist = arena.getArenaConfig().getMaterialList(CFG.LISTS_BLACKLIST, "break");
 
-        if (list.contains(String.valueOf(event.getBlock().getType().name()))
-                || list.contains(String.valueOf(event.getBlock().getType().name()))) {
+        if (blacklist != null && blacklist.contains(event.getBlock().getType())) {
             arena.msg(
                     event.getPlayer(),
                     Language.parse(arena, MSG.ERROR_BLACKLIST_DISALLOWED,
@@ -167,17 +154,17 @@ public class BlockListener implements Listener {
         PACheck res = ArenaGoalManager.checkBreak(arena, event);
 
         if (res.hasError()) {
-            DEBUG.i("onBlockBreak cancelled by goal: " + res.getModName(), event.getPlayer());
+            DEBUG.i(() -> "onBlockBreak cancelled by goal: " + res.getModName(), event.getPlayer());
             return;
         }
 
         DEBUG.i("onBlockBreak !!!", event.getPlayer());
 
+        arena.recordBlock(event.getBlock());
         ArenaModuleManager.onBlockBreak(arena, event.getBlock());
 
 
-        Bukkit.getScheduler().scheduleSyncDelayedTask(PVPArena.instance,
-                new DamageResetRunnable(arena, event.getPlayer(), null), 1L);
+        arena.queueDamageReset(event.getPlayer(), null);
     }
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
@@ -192,6 +179,7 @@ public class BlockListener implements Listener {
             return;
         }
 
+        arena.recordBlock(event.getBlock());
         ArenaModuleManager.onBlockBreak(arena, event.getBlock());
     }
 
@@ -212,6 +200,7 @@ public class BlockListener implements Listener {
             return;
         }
 
+        arena.recordBlock(event.getBlock());
         ArenaModuleManager.onBlockBreak(arena, event.getBlock());
     }
 
@@ -236,6 +225,7 @@ public class BlockListener implements Listener {
             return;
         }
 
+        arena.recordBlock(event.getBlock());
         ArenaModuleManager.onBlockChange(arena, event.getBlock(),
                 event.getNewState());
     }
@@ -261,6 +251,7 @@ public class BlockListener implements Listener {
             return;
         }
 
+        arena.recordBlock(block);
         ArenaModuleManager.onBlockBreak(arena, event.getBlock());
 
         ArenaModuleManager.onBlockPlace(arena, block, Material.AIR);
@@ -285,6 +276,7 @@ public class BlockListener implements Listener {
             return;
         }
 
+        arena.recordBlock(event.getBlock());
         ArenaModuleManager.onBlockChange(arena, event.getBlock(),
                 event.getNewState());
     }
@@ -303,6 +295,7 @@ public class BlockListener implements Listener {
             return;
         }
 
+        arena.recordBlock(block);
         ArenaModuleManager.onBlockChange(arena, block, block.getState());
     }
 
@@ -333,6 +326,7 @@ public class BlockListener implements Listener {
                 return;
             }
 
+            arena.recordBlock(block.getBlock());
             ArenaModuleManager.onBlockChange(arena, block.getBlock(), block);
         }
     }
@@ -354,6 +348,7 @@ public class BlockListener implements Listener {
                 RegionProtection.FIRE))) {
             return;
         }
+        arena.recordBlock(event.getBlock());
         ArenaModuleManager.onBlockBreak(arena, event.getBlock());
     }
 
@@ -391,7 +386,8 @@ public class BlockListener implements Listener {
         }
         arena.getDebugger().i("block piston extend inside the arena");
         for (final Block block : event.getBlocks()) {
-
+            arena.recordBlock(block);
+            arena.recordBlock(block.getRelative(event.getDirection()));
             ArenaModuleManager.onBlockPiston(arena, block);
         }
     }
@@ -407,7 +403,7 @@ public class BlockListener implements Listener {
             return;
         }
 
-        final ArenaPlayer arenaPlayer = ArenaPlayer.parsePlayer(player.getName());
+        final ArenaPlayer arenaPlayer = ArenaPlayer.parsePlayer(player);
         if (asList(Status.LOST, Status.WATCH, Status.LOUNGE, Status.READY).contains(arenaPlayer.getStatus())) {
             event.setCancelled(true);
             return;
@@ -424,11 +420,9 @@ public class BlockListener implements Listener {
         }
 
 
-        List<String> list = arena.getArenaConfig().getStringList(
-                CFG.LISTS_WHITELIST.getNode() + ".place",
-                new ArrayList<>());
+        final Set<Material> whitelist = arena.getArenaConfig().getMaterialList(CFG.LISTS_WHITELIST, "place");
 
-        if (!list.isEmpty() && !list.contains(placedBlock.getType().name())) {
+        if (whitelist != null && !whitelist.contains(placedBlock.getType())) {
             arena.msg(player, Language.parse(arena, MSG.ERROR_WHITELIST_DISALLOWED, Language.parse(arena, MSG.GENERAL_PLACE)));
             event.setCancelled(true);
             arena.getDebugger().i("not on whitelist. DENY!");
@@ -439,12 +433,14 @@ public class BlockListener implements Listener {
             if (arena.isFightInProgress() && !isProtected(block.getLocation(), event, RegionProtection.TNT)
                     && block.getType() == Material.TNT) {
 
+                arena.recordBlock(block, event.getBlockReplacedState().getBlockData());
                 ArenaModuleManager.onBlockPlace(arena, block, event.getBlockReplacedState().getType());
                 event.setCancelled(false);
                 arena.getDebugger().i("we do not block TNT, so just return if it is TNT");
             } else if (arena.isFightInProgress() && !isProtected(block.getLocation(), event, RegionProtection.FIRE)
                     && block.getBlockData() instanceof Fire) {
 
+                arena.recordBlock(block, event.getBlockReplacedState().getBlockData());
                 ArenaModuleManager.onBlockPlace(arena, block, event.getBlockReplacedState().getType());
                 event.setCancelled(false);
                 arena.getDebugger().i("we do not block FIRE, so just return if it is FIRE");
@@ -452,11 +448,9 @@ public class BlockListener implements Listener {
             return;
         }
 
-        list = arena.getArenaConfig().getStringList(
-                CFG.LISTS_BLACKLIST.getNode() + ".place",
-                new ArrayList<>());
+        final Set<Material> blacklist = arena.getArenaConfig().getMaterialList(CFG.LISTS_BLACKLIST, "place");
 
-        if (list.contains(placedBlock.getType().name())) {
+        if (blacklist != null && blacklist.contains(placedBlock.getType())) {
             arena.msg(player, Language.parse(arena, MSG.ERROR_BLACKLIST_DISALLOWED, Language.parse(arena, MSG.GENERAL_PLACE)));
             event.setCancelled(true);
             arena.getDebugger().i("on blacklist. DENY!");
@@ -466,11 +460,12 @@ public class BlockListener implements Listener {
         PACheck res = ArenaGoalManager.checkPlace(arena, event);
 
         if (res.hasError()) {
-            DEBUG.i("onBlockPlace cancelled by goal: " + res.getModName(), player);
+            DEBUG.i(() -> "onBlockPlace cancelled by goal: " + res.getModName(), player);
             return;
         }
         arena.getDebugger().i("BlockPlace not cancelled!");
 
+        arena.recordBlock(block, event.getBlockReplacedState().getBlockData());
         ArenaModuleManager.onBlockPlace(arena, block, event.getBlockReplacedState().getType());
     }
 
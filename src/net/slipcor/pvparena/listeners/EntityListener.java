@@ -6,6 +6,7 @@ import net.slipcor.pvparena.arena.ArenaPlayer;
 import net.slipcor.pvparena.arena.ArenaPlayer.Status;
 import net.slipcor.pvparena.arena.ArenaTeam;
 import net.slipcor.pvparena.classes.PABlockLocation;
+import net.slipcor.pvparena.classes.PACombatContext;
 import net.slipcor.pvparena.core.Config.CFG;
 import net.slipcor.pvparena.core.Debug;
 import net.slipcor.pvparena.loadables.ArenaModuleManager;
@@ -13,10 +14,9 @@ import net.slipcor.pvparena.loadables.ArenaRegion;
 import net.slipcor.pvparena.loadables.ArenaRegion.RegionFlag;
 import net.slipcor.pvparena.loadables.ArenaRegion.RegionProtection;
 import net.slipcor.pvparena.managers.ArenaManager;
-import net.slipcor.pvparena.managers.SpawnManager;
 import net.slipcor.pvparena.managers.StatisticsManager;
-import net.slipcor.pvparena.runnables.DamageResetRunnable;
 import org.bukkit.Bukkit;
+import org.bukkit.block.Block;
 import org.bukkit.entity.*;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -64,7 +64,7 @@ public class EntityListener implements Listener {
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onCreatureSpawn(final CreatureSpawnEvent event) {
-        DEBUG.i("onCreatureSpawn: " + event.getSpawnReason().name());
+        DEBUG.i(() -> "onCreatureSpawn: " + event.getSpawnReason().name());
         final Set<SpawnReason> naturals = new HashSet<>();
         naturals.add(SpawnReason.CHUNK_GEN);
         naturals.add(SpawnReason.DEFAULT);
@@ -105,6 +105,9 @@ public class EntityListener implements Listener {
 
                 arena = ArenaManager.getArenaByRegionLocation(new PABlockLocation(event.getLocation()));
                 if (arena != null) {
+                    for (final Block block : event.blockList()) {
+                        arena.recordBlock(block);
+                    }
                     ArenaModuleManager.onEntityExplode(arena, event);
                 }
 
@@ -115,6 +118,9 @@ public class EntityListener implements Listener {
         if (!arena.getArenaConfig().getBoolean(CFG.PROTECT_ENABLED)
                 || !(event.getEntity() instanceof TNTPrimed)
                 && !(event.getEntity() instanceof Creeper)) {
+            for (final Block block : event.blockList()) {
+                arena.recordBlock(block);
+            }
             ArenaModuleManager.onEntityExplode(arena, event);
             return;
         }
@@ -129,19 +135,19 @@ public class EntityListener implements Listener {
         if ((!(entity instanceof Player))) {
             return; // no player
         }
-        final Arena arena = ArenaPlayer.parsePlayer(((Player) entity).getName())
+        final Arena arena = ArenaPlayer.parsePlayer((Player) entity)
                 .getArena();
         if (arena == null) {
             return;
         }
         final Player player = (Player) entity;
         arena.getDebugger().i("onEntityRegainHealth => fighing player", player);
-        arena.getDebugger().i("reason: " + event.getRegainReason());
+        arena.getDebugger().i(() -> "reason: " + event.getRegainReason());
         if (!arena.isFightInProgress()) {
             return;
         }
 
-        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
+        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player);
         final ArenaTeam team = aPlayer.getArenaTeam();
 
         if (team == null) {
@@ -162,10 +168,10 @@ public class EntityListener implements Listener {
         Entity eDamager = event.getDamager();
         final Entity eDamagee = event.getEntity();
 
-        DEBUG.i("onEntityDamageByEntity: cause: " + event.getCause().name()
+        DEBUG.i(() -> "onEntityDamageByEntity: cause: " + event.getCause().name()
                 + " : " + event.getDamager().toString() + " => "
                 + event.getEntity().toString());
-        DEBUG.i("damage: " + event.getDamage());
+        DEBUG.i(() -> "damage: " + event.getDamage());
 
         if (eDamager instanceof Projectile) {
             DEBUG.i("parsing projectile");
@@ -180,7 +186,7 @@ public class EntityListener implements Listener {
             DEBUG.i("=> " + eDamager);
         }
 
-        if (eDamager instanceof Player && ArenaPlayer.parsePlayer(((Player) eDamager).getName()).getStatus() == Status.LOST) {
+        if (eDamager instanceof Player && ArenaPlayer.parsePlayer((Player) eDamager).getStatus() == Status.LOST) {
             event.setCancelled(true);
             return;
         }
@@ -206,17 +212,18 @@ public class EntityListener implements Listener {
             return;
         }
 
-        final Arena arena = ArenaPlayer.parsePlayer(((Player) eDamagee).getName())
+        final Arena arena = ArenaPlayer.parsePlayer((Player) eDamagee)
                 .getArena();
         if (arena == null) {
             // defender no arena player => out
             return;
         }
         arena.getDebugger().i("onEntityDamageByEntity: fighting player");
+        final PACombatContext combat = arena.getCombatContext();
 
         if ((!(eDamager instanceof Player))) {
             // attacker no player => out!
-            if (arena.getArenaConfig().getBoolean(CFG.DAMAGE_FROMOUTSIDERS)) {
+            if (combat.isDamageFromOutsiders()) {
                 event.setCancelled(false);
             }
             return;
@@ -231,20 +238,15 @@ public class EntityListener implements Listener {
             return;
         }
 
-        boolean defTeam = false;
-        boolean attTeam = false;
-        final ArenaPlayer apDefender = ArenaPlayer.parsePlayer(defender.getName());
-        final ArenaPlayer apAttacker = ArenaPlayer.parsePlayer(attacker.getName());
-
-        for (ArenaTeam team : arena.getTeams()) {
-            defTeam = defTeam || team.getTeamMembers().contains(
-                    apDefender);
-            attTeam = attTeam || team.getTeamMembers().contains(
-                    apAttacker);
-        }
+        final ArenaPlayer apDefender = ArenaPlayer.parsePlayer(defender);
+        final ArenaPlayer apAttacker = ArenaPlayer.parsePlayer(attacker);
+        final int defSlot = combat.getTeamSlot(apDefender);
+        final int attSlot = combat.getTeamSlot(apAttacker);
+        final boolean defTeam = defSlot >= 0;
+        final boolean attTeam = attSlot >= 0;
 
         if (!defTeam || !attTeam || arena.realEndRunner != null) {
-            if (!attTeam && arena.getArenaConfig().getBoolean(CFG.DAMAGE_FROMOUTSIDERS)
+            if (!attTeam && combat.isDamageFromOutsiders()
                     && defTeam && arena.realEndRunner == null) {
                 // special case: attacker has no team (might not be in the arena)
                 event.setCancelled(false);
@@ -262,9 +264,7 @@ public class EntityListener implements Listener {
             // servers
         }
 
-        if ((!arena.getArenaConfig().getBoolean(CFG.PERMS_TEAMKILL))
-                && (apAttacker.getArenaTeam())
-                .equals(apDefender.getArenaTeam())) {
+        if (!combat.isDamageAllowed(attSlot, defSlot)) {
             // no team fights!
             arena.getDebugger().i("team hit, cancel!", attacker);
             arena.getDebugger().i("team hit, cancel!", defender);
@@ -289,12 +289,9 @@ public class EntityListener implements Listener {
             return;
         }
 
-        Bukkit.getScheduler().scheduleSyncDelayedTask(PVPArena.instance,
-                new DamageResetRunnable(arena, attacker, defender), 1L);
+        arena.queueDamageReset(attacker, defender);
 
-        if (arena.getArenaConfig().getInt(CFG.PROTECT_SPAWN) > 0
-                && SpawnManager.isNearSpawn(arena, defender, arena
-                .getArenaConfig().getInt(CFG.PROTECT_SPAWN))) {
+        if (combat.isNearSpawn(apDefender, defSlot, defender.getLocation())) {
             // spawn protection!
             arena.getDebugger().i("spawn protection! damage cancelled!", attacker);
             arena.getDebugger().i("spawn protection! damage cancelled!", defender);
@@ -312,7 +309,7 @@ public class EntityListener implements Listener {
 
         StatisticsManager.damage(arena, attacker, defender, event.getDamage());
 
-        if (arena.getArenaConfig().getBoolean(CFG.DAMAGE_BLOODPARTICLES)) {
+        if (combat.isBloodParticles()) {
             apDefender.showBloodParticles();
         }
     }
@@ -323,15 +320,15 @@ public class EntityListener implements Listener {
         final Entity eDamagee = event.getHitEntity();
 
 
-        if (eDamager instanceof Player && ArenaPlayer.parsePlayer(((Player) eDamager).getName()).getStatus() == Status.LOST) {
+        if (eDamager instanceof Player && ArenaPlayer.parsePlayer((Player) eDamager).getStatus() == Status.LOST) {
             return;
         }
 
         if(eDamager instanceof Player && eDamagee instanceof Player) {
             final Player attacker = (Player) eDamager;
             final Player defender = (Player) eDamagee;
-            final ArenaPlayer apDefender = ArenaPlayer.parsePlayer(defender.getName());
-            final ArenaPlayer apAttacker = ArenaPlayer.parsePlayer(attacker.getName());
+            final ArenaPlayer apDefender = ArenaPlayer.parsePlayer(defender);
+            final ArenaPlayer apAttacker = ArenaPlayer.parsePlayer(attacker);
             final Arena arena = apDefender.getArena();
 
             if (arena == null || apAttacker.getArena() == null || apDefender.getStatus() == Status.LOST || !arena.isFightInProgress()) {
@@ -347,19 +344,19 @@ public class EntityListener implements Listener {
     public void onEntityDamage(final EntityDamageEvent event) {
         final Entity entity = event.getEntity();
 
-        DEBUG.i("onEntityDamage: cause: " + event.getCause().name() + " : "
+        DEBUG.i(() -> "onEntityDamage: cause: " + event.getCause().name() + " : "
                 + event.getEntity().toString() + " => " + event.getEntity().getLocation());
 
         if (!(entity instanceof Player)) {
             return;
         }
 
-        if (ArenaPlayer.parsePlayer(((Player) entity).getName()).getStatus() == Status.LOST) {
+        if (ArenaPlayer.parsePlayer((Player) entity).getStatus() == Status.LOST) {
             event.setCancelled(true);
             return;
         }
 
-        final Arena arena = ArenaPlayer.parsePlayer(((Player) entity).getName())
+        final Arena arena = ArenaPlayer.parsePlayer((Player) entity)
                 .getArena();
         if (arena == null) {
             // defender no arena player => out
@@ -368,7 +365,7 @@ public class EntityListener implements Listener {
 
         final Player defender = (Player) entity;
 
-        final ArenaPlayer apDefender = ArenaPlayer.parsePlayer(defender.getName());
+        final ArenaPlayer apDefender = ArenaPlayer.parsePlayer(defender);
 
         if (arena.realEndRunner != null
                 || (!apDefender.getStatus().equals(Status.NULL) && !apDefender
@@ -388,23 +385,23 @@ public class EntityListener implements Listener {
 
     @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
     public void onEntityDamage(final EntityTargetLivingEntityEvent event) {
-        for (Arena arena : ArenaManager.getArenas()) {
-            if (arena.hasEntity(event.getEntity())) {
+        final Arena arena = ArenaManager.getArenaByEntity(event.getEntity());
+        if (arena == null) {
+            return;
+        }
 
-                Player player = arena.getEntityOwner(event.getEntity());
-                ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
+        Player player = arena.getEntityOwner(event.getEntity());
+        ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player);
 
-                if (event.getEntity().equals(player)) {
-                    event.setCancelled(true);
-                    return;
-                }
+        if (event.getEntity().equals(player)) {
+            event.setCancelled(true);
+            return;
+        }
 
-                if (!arena.getArenaConfig().getBoolean(CFG.PERMS_TEAMKILL)) {
-                    for (ArenaPlayer ap : aPlayer.getArenaTeam().getTeamMembers()) {
-                        if (event.getTarget().equals(ap.get())) {
-                            event.setCancelled(true);
-                        }
-                    }
+        if (!arena.getArenaConfig().getBoolean(CFG.PERMS_TEAMKILL)) {
+            for (ArenaPlayer ap : aPlayer.getArenaTeam().getTeamMembers()) {
+                if (event.getTarget().equals(ap.get())) {
+                    event.setCancelled(true);
                 }
             }
         }
@@ -412,11 +409,9 @@ public class EntityListener implements Listener {
 
     @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
     public void onEntityDeath(final EntityDeathEvent event) {
-        for (Arena arena : ArenaManager.getArenas()) {
-            if (arena.hasEntity(event.getEntity())) {
-
-                arena.removeEntity(event.getEntity());
-            }
+        final Arena arena = ArenaManager.getArenaByEntity(event.getEntity());
+        if (arena != null) {
+            arena.removeEntity(event.getEntity());
         }
     }
 
@@ -442,7 +437,7 @@ public class EntityListener implements Listener {
 
         final Collection<PotionEffect> pot = event.getPotion().getEffects();
         for (PotionEffect eff : pot) {
-            DEBUG.i('>' + eff.getType().getName());
+            DEBUG.i(() -> '>' + eff.getType().getName());
             if (TEAMEFFECT.containsKey(eff.getType())) {
                 affectTeam = TEAMEFFECT.get(eff.getType());
                 DEBUG.i(">" + affectTeam);
@@ -459,7 +454,7 @@ public class EntityListener implements Listener {
             return;
         }
 
-        DEBUG.i("legit player: " + shooter, shooter.getName());
+        DEBUG.i(() -> "legit player: " + shooter, shooter.getName());
 
         if (shooter.getArena() == null
                 || !shooter.getStatus().equals(Status.FIGHT)) {
@@ -474,10 +469,10 @@ public class EntityListener implements Listener {
         final Collection<LivingEntity> entities = event.getAffectedEntities();
         for (LivingEntity e : entities) {
             if (!(e instanceof Player)) {
-                DEBUG.i("skipping non-player "+e.getName());
+                DEBUG.i(() -> "skipping non-player "+e.getName());
                 continue;
             }
-            final ArenaPlayer damagee = ArenaPlayer.parsePlayer(((Player) e).getName());
+            final ArenaPlayer damagee = ArenaPlayer.parsePlayer((Player) e);
 
             if (damagee.getArena() == null || shooter.getArena() == null ||
                     (damagee.getArena() != shooter.getArena()) ||
@@ -487,7 +482,7 @@ public class EntityListener implements Listener {
 
                   this check should cover any of the entities not being in the same arena, or not arena at all
                  */
-                DEBUG.i("skipping "+e.getName());
+                DEBUG.i(() -> "skipping "+e.getName());
                 continue;
             }
 
@@ -499,7 +494,7 @@ public class EntityListener implements Listener {
                 // same team and the other team should be affected
                 // ==> cancel!
                 event.setIntensity(e, 0);
-                DEBUG.i("setting intensity to 0 for "+e.getName());
+                DEBUG.i(() -> "setting intensity to 0 for "+e.getName());
                 break;
             }
         }
@@ -7,6 +7,7 @@ import net.slipcor.pvparena.arena.ArenaPlayer.Status;
 import net.slipcor.pvparena.arena.ArenaTeam;
 import net.slipcor.pvparena.arena.PlayerState;
 import net.slipcor.pvparena.classes.PABlockLocation;
+import net.slipcor.pvparena.classes.PAChatSnapshot;
 import net.slipcor.pvparena.classes.PACheck;
 import net.slipcor.pvparena.classes.PASpawn;
 import net.slipcor.pvparena.commands.PAA_Setup;
@@ -24,6 +25,7 @@ import net.slipcor.pvparena.loadables.ArenaRegion;
 import net.slipcor.pvparena.loadables.ArenaRegion.RegionProtection;
 import net.slipcor.pvparena.loadables.ArenaRegion.RegionType;
 import net.slipcor.pvparena.managers.ArenaManager;
+import net.slipcor.pvparena.managers.ChatManager;
 import net.slipcor.pvparena.managers.InventoryManager;
 import net.slipcor.pvparena.managers.SpawnManager;
 import net.slipcor.pvparena.managers.TeamManager;
@@ -91,7 +93,7 @@ public class PlayerListener implements Listener {
             return false;
         }
 
-        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
+        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player);
 
         if ((aPlayer.getStatus() == Status.WATCH || aPlayer.getStatus() == Status.LOST) &&
                 arena.getArenaConfig().getBoolean(CFG.PERMS_SPECINTERACT)) {
@@ -126,7 +128,7 @@ public class PlayerListener implements Listener {
                 return false;
             }
         }
-        if (ArenaPlayer.parsePlayer(player.getName()).getStatus() == Status.LOST) {
+        if (ArenaPlayer.parsePlayer(player).getStatus() == Status.LOST) {
             DEBUG.i("cancelling because LOST", player);
             event.setCancelled(true);
             return true;
@@ -144,61 +146,12 @@ public class PlayerListener implements Listener {
             return;
         }
 
-        final Arena arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
-        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
-
-        if (arena == null) {
-            return; // no fighting player => OUT
-        }
-        final ArenaTeam team = aPlayer.getArenaTeam();
-        if (team == null ||
-                aPlayer.getStatus() == Status.DEAD && aPlayer.get() == null ||
-                aPlayer.getStatus() == Status.LOST ||
-                aPlayer.getStatus() == Status.WATCH) {
-            if (!arena.getArenaConfig().getBoolean(CFG.PERMS_SPECTALK)) {
-                event.setCancelled(true);
-            }
-            return; // no fighting player => OUT
+        // async thread: only read the snapshot published by the main thread
+        final PAChatSnapshot chat = ChatManager.getSnapshot(player);
+        if (chat == null) {
+            return; // no arena player => OUT
         }
-        arena.getDebugger().i("fighting player chatting!", player);
-        final String sTeam = team.getName();
-
-        if (!arena.getArenaConfig().getBoolean(CFG.CHAT_ONLYPRIVATE)) {
-            if (!arena.getArenaConfig().getBoolean(CFG.CHAT_ENABLED)) {
-                return; // no chat editing
-            }
-
-            if (aPlayer.isPublicChatting()) {
-                return; // player not privately chatting
-            }
-
-            String toGlobal = arena.getArenaConfig().getString(CFG.CHAT_TOGLOBAL);
-
-            if (!toGlobal.equalsIgnoreCase("none")) {
-                if (event.getMessage().toLowerCase().startsWith(
-                        toGlobal.toLowerCase())) {
-                    event.setMessage(event.getMessage().substring(toGlobal.length()));
-                    return;
-                }
-            }
-
-            arena.tellTeam(sTeam, event.getMessage(), team.getColor(),
-                    event.getPlayer());
-            event.setCancelled(true);
-            return;
-        }
-
-        if (arena.getArenaConfig().getBoolean(CFG.CHAT_ENABLED)
-                && !aPlayer.isPublicChatting()) {
-            arena.tellTeam(sTeam, event.getMessage(), team.getColor(),
-                    event.getPlayer());
-            event.setCancelled(true);
-            return;
-        }
-
-        arena.broadcastColored(event.getMessage(), team.getColor(),
-                event.getPlayer()); //
-        event.setCancelled(true);
+        chat.route(event);
     }
 
     @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
@@ -210,7 +163,7 @@ public class PlayerListener implements Listener {
             return;
         }
 
-        final Arena arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
+        final Arena arena = ArenaPlayer.parsePlayer(player).getArena();
         if (arena == null || player.isOp() || PVPArena.hasAdminPerms(player)
                 || PVPArena.hasCreatePerms(player, arena)) {
             return; // no fighting player => OUT
@@ -228,7 +181,7 @@ public class PlayerListener implements Listener {
             if ("*".equals(s) ||
                     ((wildcard || s.endsWith(" ")) && event.getMessage().toLowerCase().startsWith('/' + s)) ||
                     (!wildcard && event.getMessage().toLowerCase().startsWith('/' + s +' '))) {
-                arena.getDebugger().i("command allowed: " + s, player);
+                arena.getDebugger().i(() -> "command allowed: " + s, player);
                 return;
             }
         }
@@ -250,12 +203,12 @@ public class PlayerListener implements Listener {
 
         for (final String s : list) {
             if (event.getMessage().toLowerCase().startsWith('/' + s)) {
-                arena.getDebugger().i("command allowed: " + s, player);
+                arena.getDebugger().i(() -> "command allowed: " + s, player);
                 return;
             }
         }
 
-        arena.getDebugger().i("command blocked: " + event.getMessage(), player);
+        arena.getDebugger().i(() -> "command blocked: " + event.getMessage(), player);
         arena.msg(player,
                 Language.parse(arena, MSG.ERROR_COMMAND_BLOCKED, event.getMessage()));
         event.setCancelled(true);
@@ -266,7 +219,7 @@ public class PlayerListener implements Listener {
 
         final Player player = (Player) event.getWhoClicked();
 
-        final Arena arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
+        final Arena arena = ArenaPlayer.parsePlayer(player).getArena();
         if (arena == null || player.isOp() || PVPArena.hasAdminPerms(player)
                 || PVPArena.hasCreatePerms(player, arena)) {
             return; // no fighting player => OUT
@@ -275,7 +228,7 @@ public class PlayerListener implements Listener {
         PACheck res = ArenaGoalManager.checkCraft(arena, event);
 
         if (res.hasError()) {
-            DEBUG.i("onPlayerCraft cancelled by goal: " + res.getModName(), player);
+            DEBUG.i(() -> "onPlayerCraft cancelled by goal: " + res.getModName(), player);
             return;
         }
 
@@ -296,7 +249,7 @@ public class PlayerListener implements Listener {
             return;
         }
 
-        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
+        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player);
         final Arena arena = aPlayer.getArena();
         if (arena == null) {
             return; // no fighting player => OUT
@@ -311,7 +264,7 @@ public class PlayerListener implements Listener {
         PACheck res = ArenaGoalManager.checkDrop(arena, event);
 
         if (res.hasError()) {
-            DEBUG.i("onPlayerDropItem cancelled by goal: " + res.getModName(), player);
+            DEBUG.i(() -> "onPlayerDropItem cancelled by goal: " + res.getModName(), player);
             return;
         }
 
@@ -356,7 +309,7 @@ public class PlayerListener implements Listener {
     @EventHandler(priority = EventPriority.LOW)
     public void onPlayerDeath(final PlayerDeathEvent event) {
         final Player player = event.getEntity();
-        final Arena arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
+        final Arena arena = ArenaPlayer.parsePlayer(player).getArena();
         if (arena == null) {
             return;
         }
@@ -380,7 +333,7 @@ public class PlayerListener implements Listener {
             cause = (EntityDamageEvent) eEvent;
         }
 
-        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
+        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player);
         final ArenaTeam team = aPlayer.getArenaTeam();
 
         final String playerName = (team == null) ? player.getName() : team.colorizePlayer(player);
@@ -443,7 +396,7 @@ public class PlayerListener implements Listener {
 
         final Player player = (Player) event.getEntity();
 
-        final ArenaPlayer ap = ArenaPlayer.parsePlayer(player.getName());
+        final ArenaPlayer ap = ArenaPlayer.parsePlayer(player);
 
         if (ap.getStatus() == Status.READY || ap.getStatus() == Status.LOUNGE || ap.getArena() != null && !ap.getArena().getArenaConfig().getBoolean(CFG.PLAYER_HUNGER)) {
             event.setCancelled(true);
@@ -465,13 +418,13 @@ public class PlayerListener implements Listener {
             return;
         }
 
-        DEBUG.i("event pre cancelled: " + event.isCancelled(),
+        DEBUG.i(() -> "event pre cancelled: " + event.isCancelled(),
                 player);
 
         Arena arena = null;
 
         if (event.hasBlock()) {
-            DEBUG.i("block: " + event.getClickedBlock().getType().name(), player);
+            DEBUG.i(() -> "block: " + event.getClickedBlock().getType().name(), player);
 
             arena = ArenaManager.getArenaByRegionLocation(new PABlockLocation(
                     event.getClickedBlock().getLocation()));
@@ -499,7 +452,7 @@ public class PlayerListener implements Listener {
             return;
         }
 
-        arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
+        arena = ArenaPlayer.parsePlayer(player).getArena();
         if (arena == null) {
             DEBUG.i("returning: #4", player);
             ArenaManager.trySignJoin(event, player);
@@ -508,14 +461,14 @@ public class PlayerListener implements Listener {
 
         PACheck.handleInteract(arena, player, event, event.getClickedBlock());
 
-        arena.getDebugger().i("event post cancelled: " + event.isCancelled(),
+        arena.getDebugger().i(() -> "event post cancelled: " + event.isCancelled(),
                 player);
 
         //TODO: seriously, why?
         final boolean whyMe = arena.isFightInProgress()
                 && !PVPArena.instance.getAgm().allowsJoinInBattle(arena);
 
-        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
+        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player);
         final ArenaTeam team = aPlayer.getArenaTeam();
 
         if (aPlayer.getStatus() == Status.WATCH &&
@@ -549,7 +502,7 @@ public class PlayerListener implements Listener {
         if (event.getAction() == Action.LEFT_CLICK_BLOCK ||
                 event.getAction() == Action.RIGHT_CLICK_BLOCK) {
             final Block block = event.getClickedBlock();
-            arena.getDebugger().i("player team: " + team.getName(), player);
+            arena.getDebugger().i(() -> "player team: " + team.getName(), player);
             if (block.getState() instanceof Sign) {
                 arena.getDebugger().i("sign click!", player);
                 final Sign sign = (Sign) block.getState();
@@ -563,7 +516,7 @@ public class PlayerListener implements Listener {
                         arena.chooseClass(player, sign, sign.getLine(0));
                     }
                 } else {
-                    arena.getDebugger().i('|' + sign.getLine(0) + '|', player);
+                    arena.getDebugger().i(() -> '|' + sign.getLine(0) + '|', player);
                     arena.getDebugger().i(String.valueOf(arena.getClass(sign.getLine(0))),
                             player);
                     arena.getDebugger().i(String.valueOf(team), player);
@@ -582,7 +535,7 @@ public class PlayerListener implements Listener {
             arena.getDebugger().i("block click!", player);
 
             final Material mMat = arena.getReadyBlock();
-            arena.getDebugger().i("clicked " + block.getType().name() + ", is it " + mMat.name()
+            arena.getDebugger().i(() -> "clicked " + block.getType().name() + ", is it " + mMat.name()
                     + '?', player);
             if (block.getType() == mMat) {
                 arena.getDebugger().i("clicked ready block!", player);
@@ -611,7 +564,7 @@ public class PlayerListener implements Listener {
                 final boolean alreadyReady = aPlayer.getStatus() == Status.READY;
 
                 arena.getDebugger().i("===============", player);
-                arena.getDebugger().i("===== class: " + (aPlayer.getArenaClass() == null ? "null" : aPlayer.getArenaClass().getName()) + " =====", player);
+                arena.getDebugger().i(() -> "===== class: " + (aPlayer.getArenaClass() == null ? "null" : aPlayer.getArenaClass().getName()) + " =====", player);
                 arena.getDebugger().i("===============", player);
 
                 if (!arena.isFightInProgress()) {
@@ -677,7 +630,7 @@ public class PlayerListener implements Listener {
                     }
                 }
 
-                ArenaPlayer.parsePlayer(player.getName()).setStatus(
+                ArenaPlayer.parsePlayer(player).setStatus(
                         Status.FIGHT);
 
                 ArenaModuleManager.lateJoin(arena, player);
@@ -728,7 +681,7 @@ public class PlayerListener implements Listener {
 
     @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
     public void onPlayerItemConsume(final PlayerItemConsumeEvent event) {
-        ArenaPlayer arenaPlayer = ArenaPlayer.parsePlayer(event.getPlayer().getName());
+        ArenaPlayer arenaPlayer = ArenaPlayer.parsePlayer(event.getPlayer());
         if (arenaPlayer.getArena() != null && arenaPlayer.getStatus() != Status.FIGHT) {
             event.setCancelled(true);
         }
@@ -737,13 +690,13 @@ public class PlayerListener implements Listener {
     @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
     public void onPlayerJoin(final PlayerJoinEvent event) {
         final Player player = event.getPlayer();
+        // bind the fresh player handle, the previous one went stale on quit
+        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player);
 
         if (player.isDead()) {
             return;
         }
 
-        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
-
         aPlayer.setArena(null);
         // instantiate and/or reset a player. This fixes issues with leaving
         // players
@@ -765,7 +718,7 @@ public class PlayerListener implements Listener {
     @EventHandler(priority = EventPriority.HIGHEST)
     public void onPlayerKicked(final PlayerKickEvent event) {
         final Player player = event.getPlayer();
-        final Arena arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
+        final Arena arena = ArenaPlayer.parsePlayer(player).getArena();
         if (arena == null) {
             return; // no fighting player => OUT
         }
@@ -775,7 +728,7 @@ public class PlayerListener implements Listener {
     @EventHandler(priority = EventPriority.HIGHEST)
     public void onPlayerRespawn(final PlayerRespawnEvent event) {
         final Player player = event.getPlayer();
-        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
+        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player);
         // aPlayer.setArena(null);
         // instantiate and/or reset a player. This fixes issues with leaving
         // players and makes sure every player is an arenaplayer ^^
@@ -806,14 +759,14 @@ public class PlayerListener implements Listener {
             return;
         }
 
-        final Arena arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
+        final Arena arena = ArenaPlayer.parsePlayer(player).getArena();
 
         if (arena != null) {
 
             PACheck res = ArenaGoalManager.checkPickup(arena, event);
 
             if (res.hasError()) {
-                DEBUG.i("onPlayerPickupItem cancelled by goal: " + res.getModName(), player);
+                DEBUG.i(() -> "onPlayerPickupItem cancelled by goal: " + res.getModName(), player);
                 return;
             }
         }
@@ -829,17 +782,25 @@ public class PlayerListener implements Listener {
     @EventHandler(priority = EventPriority.HIGHEST)
     public void onPlayerQuit(final PlayerQuitEvent event) {
         final Player player = event.getPlayer();
-        final Arena arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
+        final Arena arena = ArenaPlayer.parsePlayer(player).getArena();
         if (arena == null) {
             return; // no fighting player => OUT
         }
         arena.playerLeave(player, CFG.TP_EXIT, false, true, false);
     }
 
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuitMonitor(final PlayerQuitEvent event) {
+        final Player player = event.getPlayer();
+        ArenaPlayer.unbindPlayer(player);
+        // other monitors might still parse the player, drop the handle once they are done
+        Bukkit.getScheduler().runTask(PVPArena.instance, () -> ArenaPlayer.unbindPlayer(player));
+    }
+
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onPlayerTeleport(final PlayerTeleportEvent event) {
         final Player player = event.getPlayer();
-        Arena arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
+        Arena arena = ArenaPlayer.parsePlayer(player).getArena();
 
         if (arena == null) {
             if (event.getTo() == null) {
@@ -868,7 +829,7 @@ public class PlayerListener implements Listener {
             }
         }
 
-        arena.getDebugger().i("onPlayerTeleport: fighting player '"
+        arena.getDebugger().i(() -> "onPlayerTeleport: fighting player '"
                 + event.getPlayer().getName() + "' (uncancel)", player);
         event.setCancelled(false); // fighting player - first recon NOT to
         // cancel!
@@ -877,16 +838,16 @@ public class PlayerListener implements Listener {
             return; // ignore spectators
         }
 
-        arena.getDebugger().i("aimed location: " + event.getTo(), player);
+        arena.getDebugger().i(() -> "aimed location: " + event.getTo(), player);
 
 
-        if (event.getCause() == PlayerTeleportEvent.TeleportCause.ENDER_PEARL && ArenaPlayer.parsePlayer(player.getName()).getStatus() != Status.FIGHT) {
+        if (event.getCause() == PlayerTeleportEvent.TeleportCause.ENDER_PEARL && ArenaPlayer.parsePlayer(player).getStatus() != Status.FIGHT) {
             arena.getDebugger().i("onPlayerTeleport: ender pearl when not fighting, cancelling!", player);
             event.setCancelled(true); // cancel and out
             return;
         }
 
-        if (ArenaPlayer.parsePlayer(player.getName()).isTelePass()
+        if (ArenaPlayer.parsePlayer(player).isTelePass()
                 || player.hasPermission("pvparena.telepass")) {
 
             maybeFixInvisibility(arena, player);
@@ -948,7 +909,7 @@ public class PlayerListener implements Listener {
     public void onPlayerVelocity(final PlayerVelocityEvent event) {
         final Player player = event.getPlayer();
 
-        final Arena arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
+        final Arena arena = ArenaPlayer.parsePlayer(player).getArena();
         if (arena == null) {
             return; // no fighting player or no powerups => OUT
         }
@@ -959,7 +920,7 @@ public class PlayerListener implements Listener {
     public void onPlayerVelocity(final ProjectileLaunchEvent event) {
         if (event.getEntity().getShooter() instanceof Player) {
             final Player player = (Player) event.getEntity().getShooter();
-            final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
+            final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player);
             final Arena arena = aPlayer.getArena();
             if (arena == null) {
                 return; // no fighting player => OUT
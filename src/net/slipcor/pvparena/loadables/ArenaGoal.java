@@ -465,6 +465,14 @@ public class ArenaGoal extends NCBLoadable implements IArenaCommandHandler {
     public void reset(final boolean force) {
     }
 
+    /**
+     * hook into the arena tick loop, called every tick while a fight is in progress
+     *
+     * @param tick the ticks the arena tick loop has been running
+     */
+    public void tick(final int tick) {
+    }
+
     /**
      * update the arena instance (should only be used on instanciation)
      *
@@ -10,6 +10,7 @@ import net.slipcor.pvparena.core.Config.CFG;
 import net.slipcor.pvparena.core.Debug;
 import net.slipcor.pvparena.core.Language;
 import net.slipcor.pvparena.core.Language.MSG;
+import net.slipcor.pvparena.core.Profiler;
 import net.slipcor.pvparena.goals.*;
 import net.slipcor.pvparena.ncloader.NCBLoader;
 import org.bukkit.configuration.file.YamlConfiguration;
@@ -40,6 +41,12 @@ public class ArenaGoalManager {
     private final NCBLoader<ArenaGoal> loader;
     private static final Debug DEBUG = new Debug(31);
 
+    /**
+     * the check results, one per hook, handed out again for every event. Callers read
+     * them before the next event of the same kind, all of it on the main thread
+     */
+    private static final Map<String, PACheck> RESULTS = new HashMap<>();
+
     /**
      * create an arena type instance
      *
@@ -76,6 +83,7 @@ public class ArenaGoalManager {
 
         for (final ArenaGoal type : types) {
             type.onThisLoad();
+            HookTable.scan(ArenaGoal.class, type.getClass());
             DEBUG.i("module ArenaType loaded: " + type.getName() + " (version "
                     + type.version() + ')');
         }
@@ -93,7 +101,9 @@ public class ArenaGoalManager {
     public String checkForMissingSpawns(final Arena arena,
                                         final Set<String> list) {
         for (final ArenaGoal type : arena.getGoals()) {
+            final long start = Profiler.start();
             final String error = type.checkForMissingSpawns(list);
+            Profiler.stop(arena, "checkForMissingSpawns", type.getName(), start);
             if (error != null) {
                 return error;
             }
@@ -101,59 +111,79 @@ public class ArenaGoalManager {
         return null;
     }
 
+    private static PACheck reuseResult(final String hook) {
+        final PACheck result = RESULTS.computeIfAbsent(hook, k -> new PACheck());
+        result.reset();
+        return result;
+    }
+
     public static PACheck checkBreak(Arena arena, BlockBreakEvent event) {
-        PACheck result = new PACheck();
-        for (final ArenaGoal type : arena.getGoals()) {
+        PACheck result = reuseResult("checkBreak");
+        for (final ArenaGoal type : arena.getGoals("checkBreak")) {
+            final long start = Profiler.start();
             result = type.checkBreak(result, arena, event);
+            Profiler.stop(arena, "checkBreak", type.getName(), start);
         }
         return result;
     }
 
     public static PACheck checkCraft(Arena arena, CraftItemEvent event) {
-        PACheck result = new PACheck();
-        for (final ArenaGoal type : arena.getGoals()) {
+        PACheck result = reuseResult("checkCraft");
+        for (final ArenaGoal type : arena.getGoals("checkCraft")) {
+            final long start = Profiler.start();
             result = type.checkCraft(result, arena, event);
+            Profiler.stop(arena, "checkCraft", type.getName(), start);
         }
         return result;
     }
 
     public static PACheck checkDrop(Arena arena, PlayerDropItemEvent event) {
-        PACheck result = new PACheck();
-        for (final ArenaGoal type : arena.getGoals()) {
+        PACheck result = reuseResult("checkDrop");
+        for (final ArenaGoal type : arena.getGoals("checkDrop")) {
+            final long start = Profiler.start();
             result = type.checkDrop(result, arena, event);
+            Profiler.stop(arena, "checkDrop", type.getName(), start);
         }
         return result;
     }
 
     public static PACheck checkInventory(Arena arena, InventoryClickEvent event) {
-        PACheck result = new PACheck();
-        for (final ArenaGoal type : arena.getGoals()) {
+        PACheck result = reuseResult("checkInventory");
+        for (final ArenaGoal type : arena.getGoals("checkInventory")) {
+            final long start = Profiler.start();
             result = type.checkInventory(result, arena, event);
+            Profiler.stop(arena, "checkInventory", type.getName(), start);
         }
         return result;
     }
 
     public static PACheck checkPickup(Arena arena, EntityPickupItemEvent event) {
-        PACheck result = new PACheck();
+        PACheck result = reuseResult("checkPickup");
         if (event.getEntity() instanceof Player) {
-            for (final ArenaGoal type : arena.getGoals()) {
+            for (final ArenaGoal type : arena.getGoals("checkPickup")) {
+                final long start = Profiler.start();
                 result = type.checkPickup(result, arena, event);
+                Profiler.stop(arena, "checkPickup", type.getName(), start);
             }
         }
         return result;
     }
 
     public static PACheck checkPlace(Arena arena, BlockPlaceEvent event) {
-        PACheck result = new PACheck();
-        for (final ArenaGoal type : arena.getGoals()) {
+        PACheck result = reuseResult("checkPlace");
+        for (final ArenaGoal type : arena.getGoals("checkPlace")) {
+            final long start = Profiler.start();
             result = type.checkPlace(result, arena, event);
+            Profiler.stop(arena, "checkPlace", type.getName(), start);
         }
         return result;
     }
 
     public void configParse(final Arena arena, final YamlConfiguration config) {
         for (final ArenaGoal type : arena.getGoals()) {
+            final long start = Profiler.start();
             type.configParse(config);
+            Profiler.stop(arena, "configParse", type.getName(), start);
         }
     }
 
@@ -189,14 +219,18 @@ public class ArenaGoalManager {
     public void initiate(final Arena arena, final Player player) {
         arena.getDebugger().i("initiating " + player.getName(), player);
         for (final ArenaGoal type : arena.getGoals()) {
+            final long start = Profiler.start();
             type.initate(player);
+            Profiler.stop(arena, "initate", type.getName(), start);
         }
     }
 
     public String ready(final Arena arena) {
         arena.getDebugger().i("AGM ready!?!");
         for (final ArenaGoal type : arena.getGoals()) {
+            final long start = Profiler.start();
             String error = type.ready();
+            Profiler.stop(arena, "ready", type.getName(), start);
             if (error != null) {
 
                 arena.getDebugger().i("type error:" + type.getName());
@@ -211,7 +245,9 @@ public class ArenaGoalManager {
             return;
         }
         for (final ArenaGoal type : arena.getGoals()) {
+            final long start = Profiler.start();
             type.refillInventory(player);
+            Profiler.stop(arena, "refillInventory", type.getName(), start);
         }
     }
 
@@ -222,26 +258,34 @@ public class ArenaGoalManager {
 
     public void reset(final Arena arena, final boolean force) {
         for (final ArenaGoal type : arena.getGoals()) {
+            final long start = Profiler.start();
             type.reset(force);
+            Profiler.stop(arena, "reset", type.getName(), start);
         }
     }
 
     public void setDefaults(final Arena arena, final YamlConfiguration config) {
         for (final ArenaGoal type : arena.getGoals()) {
+            final long start = Profiler.start();
             type.setDefaults(config);
+            Profiler.stop(arena, "setDefaults", type.getName(), start);
         }
     }
 
     public void setPlayerLives(final Arena arena, final int value) {
         for (final ArenaGoal type : arena.getGoals()) {
+            final long start = Profiler.start();
             type.setPlayerLives(value);
+            Profiler.stop(arena, "setPlayerLives", type.getName(), start);
         }
     }
 
     public void setPlayerLives(final Arena arena, final ArenaPlayer player,
                                final int value) {
         for (final ArenaGoal type : arena.getGoals()) {
+            final long start = Profiler.start();
             type.setPlayerLives(player, value);
+            Profiler.stop(arena, "setPlayerLives", type.getName(), start);
         }
     }
 
@@ -487,7 +531,9 @@ public class ArenaGoalManager {
 
     public void unload(final Arena arena, final Player player) {
         for (final ArenaGoal type : arena.getGoals()) {
+            final long start = Profiler.start();
             type.unload(player);
+            Profiler.stop(arena, "unload", type.getName(), start);
         }
     }
 
@@ -496,20 +542,26 @@ public class ArenaGoalManager {
             return;
         }
         for (final ArenaGoal type : arena.getGoals()) {
+            final long start = Profiler.start();
             type.disconnect(player);
+            Profiler.stop(arena, "disconnect", type.getName(), start);
         }
     }
 
     public static void lateJoin(final Arena arena, final Player player) {
         for (final ArenaGoal goal : arena.getGoals()) {
+            final long start = Profiler.start();
             goal.lateJoin(player);
+            Profiler.stop(arena, "lateJoin", goal.getName(), start);
         }
     }
 
     public static void onPlayerPickUp(final Arena arena, final EntityPickupItemEvent event) {
         if (event.getEntity() instanceof Player) {
             for (final ArenaGoal goal : arena.getGoals()) {
+                final long start = Profiler.start();
                 goal.onPlayerPickUp(event);
+                Profiler.stop(arena, "onPlayerPickUp", goal.getName(), start);
             }
         }
     }
@@ -425,6 +425,14 @@ public abstract class ArenaModule extends NCBLoadable implements IArenaCommandHa
     public void reset(final boolean force) {
     }
 
+    /**
+     * hook into the arena tick loop, called every tick while a fight is in progress
+     *
+     * @param tick the ticks the arena tick loop has been running
+     */
+    public void tick(final int tick) {
+    }
+
     /**
      * hook into an arena player being reset
      *
@@ -5,6 +5,7 @@ import net.slipcor.pvparena.arena.Arena;
 import net.slipcor.pvparena.arena.ArenaClass;
 import net.slipcor.pvparena.arena.ArenaTeam;
 import net.slipcor.pvparena.core.Debug;
+import net.slipcor.pvparena.core.Profiler;
 import net.slipcor.pvparena.modules.*;
 import net.slipcor.pvparena.ncloader.NCBLoader;
 import org.bukkit.Material;
@@ -63,14 +64,17 @@ public class ArenaModuleManager {
 
         for (final ArenaModule mod : mods) {
             mod.onThisLoad();
+            HookTable.scan(ArenaModule.class, mod.getClass());
             DEBUG.i("module ArenaModule loaded: "
                     + mod.getName() + " (version " + mod.version() + ')');
         }
     }
 
     public static void announce(final Arena arena, final String message, final String type) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getMods("announce")) {
+            final long start = Profiler.start();
             mod.announce(message, type);
+            Profiler.stop(arena, "announce", mod.getName(), start);
         }
     }
 
@@ -95,7 +99,9 @@ public class ArenaModuleManager {
 
     public static String checkForMissingSpawns(final Arena arena, final Set<String> list) {
         for (final ArenaModule mod : arena.getMods()) {
+            final long start = Profiler.start();
             String error = mod.checkForMissingSpawns(list);
+            Profiler.stop(arena, "checkForMissingSpawns", mod.getName(), start);
             if (error != null) {
                 return error;
             }
@@ -105,7 +111,9 @@ public class ArenaModuleManager {
 
     public static void choosePlayerTeam(final Arena arena, final Player player, final String coloredTeam) {
         for (final ArenaModule mod : arena.getMods()) {
+            final long start = Profiler.start();
             mod.choosePlayerTeam(player, coloredTeam);
+            Profiler.stop(arena, "choosePlayerTeam", mod.getName(), start);
         }
     }
 
@@ -120,86 +128,115 @@ public class ArenaModuleManager {
 
     public static void configParse(final Arena arena, final YamlConfiguration config) {
         for (final ArenaModule mod : arena.getMods()) {
+            final long start = Profiler.start();
             mod.configParse(config);
+            Profiler.stop(arena, "configParse", mod.getName(), start);
         }
     }
 
     public static void giveRewards(final Arena arena, final Player player) {
         for (final ArenaModule mod : arena.getMods()) {
+            final long start = Profiler.start();
             mod.giveRewards(player);
+            Profiler.stop(arena, "giveRewards", mod.getName(), start);
         }
     }
 
     public static void initiate(final Arena arena, final Player sender) {
         for (final ArenaModule mod : arena.getMods()) {
+            final long start = Profiler.start();
             mod.initiate(sender);
+            Profiler.stop(arena, "initiate", mod.getName(), start);
         }
     }
 
     public static void lateJoin(final Arena arena, final Player player) {
         for (final ArenaModule mod : arena.getMods()) {
+            final long start = Profiler.start();
             mod.lateJoin(player);
+            Profiler.stop(arena, "lateJoin", mod.getName(), start);
         }
     }
 
     public static void onBlockBreak(final Arena arena, final Block block) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getMods("onBlockBreak")) {
+            final long start = Profiler.start();
             mod.onBlockBreak(block);
+            Profiler.stop(arena, "onBlockBreak", mod.getName(), start);
         }
     }
 
     public static void onBlockChange(final Arena arena, final Block block, final BlockState state) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getMods("onBlockChange")) {
+            final long start = Profiler.start();
             mod.onBlockChange(block, state);
+            Profiler.stop(arena, "onBlockChange", mod.getName(), start);
         }
     }
 
     public static void onBlockPiston(final Arena arena, final Block block) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getMods("onBlockPiston")) {
+            final long start = Profiler.start();
             mod.onBlockPiston(block);
+            Profiler.stop(arena, "onBlockPiston", mod.getName(), start);
         }
     }
 
     public static void onBlockPlace(final Arena arena, final Block block, final Material mat) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getMods("onBlockPlace")) {
+            final long start = Profiler.start();
             mod.onBlockPlace(block, mat);
+            Profiler.stop(arena, "onBlockPlace", mod.getName(), start);
         }
     }
 
     public static void onEntityDamageByEntity(final Arena arena, final Player attacker,
                                               final Player defender, final EntityDamageByEntityEvent event) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getMods("onEntityDamageByEntity")) {
+            final long start = Profiler.start();
             mod.onEntityDamageByEntity(attacker, defender, event);
+            Profiler.stop(arena, "onEntityDamageByEntity", mod.getName(), start);
         }
     }
 
     public static void onProjectileHit(final Arena arena, final Player attacker, final Player defender, final ProjectileHitEvent event) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getMods("onProjectileHit")) {
+            final long start = Profiler.start();
             mod.onProjectileHit(attacker, defender, event);
+            Profiler.stop(arena, "onProjectileHit", mod.getName(), start);
         }
     }
 
     public static void onEntityExplode(final Arena arena, final EntityExplodeEvent event) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getMods("onEntityExplode")) {
+            final long start = Profiler.start();
             mod.onEntityExplode(event);
+            Profiler.stop(arena, "onEntityExplode", mod.getName(), start);
         }
     }
 
     public static void onEntityRegainHealth(final Arena arena, final EntityRegainHealthEvent event) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getMods("onEntityRegainHealth")) {
+            final long start = Profiler.start();
             mod.onEntityRegainHealth(event);
+            Profiler.stop(arena, "onEntityRegainHealth", mod.getName(), start);
         }
     }
 
     public static void onPaintingBreak(final Arena arena, final Hanging painting, final EntityType type) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getMods("onPaintingBreak")) {
+            final long start = Profiler.start();
             mod.onPaintingBreak(painting, type);
+            Profiler.stop(arena, "onPaintingBreak", mod.getName(), start);
         }
     }
 
     public static boolean onPlayerInteract(final Arena arena, final PlayerInteractEvent event) {
-        for (final ArenaModule mod : arena.getMods()) {
-            if (mod.onPlayerInteract(event)) {
+        for (final ArenaModule mod : arena.getMods("onPlayerInteract")) {
+            final long start = Profiler.start();
+            final boolean handled = mod.onPlayerInteract(event);
+            Profiler.stop(arena, "onPlayerInteract", mod.getName(), start);
+            if (handled) {
                 return true;
             }
         }
@@ -208,21 +245,27 @@ public class ArenaModuleManager {
 
     public static void onPlayerPickupItem(final Arena arena, final EntityPickupItemEvent event) {
         if (event.getEntity() instanceof Player) {
-            for (final ArenaModule mod : arena.getMods()) {
+            for (final ArenaModule mod : arena.getMods("onPlayerPickupItem")) {
+                final long start = Profiler.start();
                 mod.onPlayerPickupItem(event);
+                Profiler.stop(arena, "onPlayerPickupItem", mod.getName(), start);
             }
         }
     }
 
     public static void onPlayerVelocity(final Arena arena, final PlayerVelocityEvent event) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getMods("onPlayerVelocity")) {
+            final long start = Profiler.start();
             mod.onPlayerVelocity(event);
+            Profiler.stop(arena, "onPlayerVelocity", mod.getName(), start);
         }
     }
 
     public static void parseClassChange(Arena arena, Player player, ArenaClass aClass) {
         for (final ArenaModule mod : arena.getMods()) {
+            final long start = Profiler.start();
             mod.parseClassChange(player, aClass);
+            Profiler.stop(arena, "parseClassChange", mod.getName(), start);
         }
     }
 
@@ -231,8 +274,10 @@ public class ArenaModuleManager {
             return seconds;
         }
         Integer result = seconds;
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getMods("parseStartCountDown")) {
+            final long start = Profiler.start();
             result = mod.parseStartCountDown(result, message, global);
+            Profiler.stop(arena, "parseStartCountDown", mod.getName(), start);
         }
         return result;
     }
@@ -240,20 +285,26 @@ public class ArenaModuleManager {
     public static void parseJoin(final Arena arena, final Player sender,
                                  final ArenaTeam team) {
         for (final ArenaModule mod : arena.getMods()) {
+            final long start = Profiler.start();
             mod.parseJoin(sender, team);
+            Profiler.stop(arena, "parseJoin", mod.getName(), start);
         }
     }
 
     public static void parsePlayerDeath(final Arena arena, final Player player,
                                         final EntityDamageEvent cause) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getMods("parsePlayerDeath")) {
+            final long start = Profiler.start();
             mod.parsePlayerDeath(player, cause);
+            Profiler.stop(arena, "parsePlayerDeath", mod.getName(), start);
         }
     }
 
     public static void parsePlayerLeave(final Arena arena, final Player player, final ArenaTeam team) {
         for (final ArenaModule mod : arena.getMods()) {
+            final long start = Profiler.start();
             mod.parsePlayerLeave(player, team);
+            Profiler.stop(arena, "parsePlayerLeave", mod.getName(), start);
         }
     }
 
@@ -269,31 +320,41 @@ public class ArenaModuleManager {
 
     public static void reset(final Arena arena, final boolean force) {
         for (final ArenaModule mod : arena.getMods()) {
+            final long start = Profiler.start();
             mod.reset(force);
+            Profiler.stop(arena, "reset", mod.getName(), start);
         }
     }
 
     public static void resetPlayer(final Arena arena, final Player player, final boolean soft, final boolean force) {
         for (final ArenaModule mod : arena.getMods()) {
+            final long start = Profiler.start();
             mod.resetPlayer(player, soft, force);
+            Profiler.stop(arena, "resetPlayer", mod.getName(), start);
         }
     }
 
     public static void timedEnd(final Arena arena, final Set<String> result) {
         for (final ArenaModule mod : arena.getMods()) {
+            final long start = Profiler.start();
             mod.timedEnd(result);
+            Profiler.stop(arena, "timedEnd", mod.getName(), start);
         }
     }
 
     public static void tpPlayerToCoordName(final Arena arena, final Player player, final String place) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getMods("tpPlayerToCoordName")) {
+            final long start = Profiler.start();
             mod.tpPlayerToCoordName(player, place);
+            Profiler.stop(arena, "tpPlayerToCoordName", mod.getName(), start);
         }
     }
 
     public static void unload(final Arena arena, final Player player) {
         for (final ArenaModule mod : arena.getMods()) {
+            final long start = Profiler.start();
             mod.unload(player);
+            Profiler.stop(arena, "unload", mod.getName(), start);
         }
     }
 
@@ -16,7 +16,6 @@ import net.slipcor.pvparena.core.Language.MSG;
 import net.slipcor.pvparena.listeners.PlayerListener;
 import net.slipcor.pvparena.managers.ArenaManager;
 import net.slipcor.pvparena.managers.SpawnManager;
-import net.slipcor.pvparena.runnables.RegionRunnable;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -29,12 +28,9 @@ import org.bukkit.event.block.Action;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.entity.EntityDamageEvent.DamageCause;
 import org.bukkit.event.player.PlayerInteractEvent;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
 
-import static java.util.Arrays.asList;
-
 public class ArenaRegion {
 
     private static final Debug debug = new Debug(34);
@@ -42,7 +38,6 @@ public class ArenaRegion {
     private Arena arena;
     private String name;
     private RegionType type;
-    private BukkitTask runningTask;
     private final Set<RegionFlag> flags = new HashSet<>();
     private final Set<RegionProtection> protections = new HashSet<>();
     private final Map<String, Location> playerLocations = new HashMap<>();
@@ -262,8 +257,8 @@ public class ArenaRegion {
         this.shape = shape.clone();
         type = RegionType.CUSTOM;
         world = locs[0].getWorldName();
-        arena.addRegion(this);
         this.shape.initialize(this);
+        arena.addRegion(this);
     }
 
     /**
@@ -369,16 +364,7 @@ public class ArenaRegion {
     }
 
     public void initTimer() {
-
-        if (this.runningTask != null && !this.runningTask.isCancelled()) {
-            if (!asList(RegionType.JOIN, RegionType.WATCH, RegionType.LOUNGE).contains(this.type)) {
-                this.runningTask.cancel();
-            }
-        }
-
-        final RegionRunnable regionRunner = new RegionRunnable(this);
-        final int timer = this.arena.getArenaConfig().getInt(CFG.TIME_REGIONTIMER);
-        this.runningTask = regionRunner.runTaskTimer(PVPArena.instance, timer, timer);
+        arena.startRegionTimer(this);
     }
 
     public boolean isInNoWoolSet(final Block block) {
@@ -472,9 +458,7 @@ public class ArenaRegion {
             return;
         }
 
-        if(this.runningTask != null && !this.runningTask.isCancelled()) {
-            this.runningTask.cancel();
-        }
+        arena.stopRegionTimer(this);
     }
 
     public void saveToConfig() {
@@ -495,189 +479,154 @@ public class ArenaRegion {
         this.type = type;
     }
 
-    public void tick() {
-        for (final ArenaPlayer ap : arena.getEveryone()) {
-            if (ap.get() == null || ap.isTeleporting()) {
-                continue;
+    /**
+     * commit DEATH, WIN and LOSE flags for a player that entered or moved inside this region
+     *
+     * @param ap the player inside this region
+     * @return true if the match has been decided
+     */
+    public boolean tickFlags(final ArenaPlayer ap) {
+        if (flags.contains(RegionFlag.DEATH)) {
+            Arena.pmsg(ap.get(), Language.parse(arena, MSG.NOTICE_YOU_DEATH));
+            for (final ArenaGoal goal : arena.getGoals()) {
+                if (goal.getName().endsWith("DeathMatch")) {
+                    if (goal.lifeMap.containsKey(ap.getName())) {
+                        final int lives = goal.lifeMap.get(ap.getName()) + 1;
+                        goal.lifeMap.put(ap.getName(), lives);
+                    } else if (goal.getLifeMap().containsKey(ap.getArenaTeam().getName())) {
+                        final int lives = goal.lifeMap.get(ap.getArenaTeam().getName()) + 1;
+                        goal.lifeMap.put(ap.getArenaTeam().getName(), lives);
+                    }
+                }
             }
-            final PABlockLocation pLoc = new PABlockLocation(ap.get().getLocation());
-            if (flags.contains(RegionFlag.DEATH) && shape.contains(pLoc)) {
-                Arena.pmsg(ap.get(), Language.parse(arena, MSG.NOTICE_YOU_DEATH));
-                for (final ArenaGoal goal : arena.getGoals()) {
-                    if (goal.getName().endsWith("DeathMatch")) {
-                        if (goal.lifeMap.containsKey(ap.getName())) {
-                            final int lives = goal.lifeMap.get(ap.getName()) + 1;
-                            goal.lifeMap.put(ap.getName(), lives);
-                        } else if (goal.getLifeMap().containsKey(ap.getArenaTeam().getName())) {
-                            final int lives = goal.lifeMap.get(ap.getArenaTeam().getName()) + 1;
-                            goal.lifeMap.put(ap.getArenaTeam().getName(), lives);
-                        }
+            ap.get().setLastDamageCause(
+                    new EntityDamageEvent(ap.get(), DamageCause.CUSTOM,
+                            1003.0));
+            ap.get().damage(1000);
+        }
+        if (flags.contains(RegionFlag.WIN)) {
+            for (final ArenaTeam team : arena.getTeams()) {
+                if (!arena.isFreeForAll()
+                        && team.getTeamMembers().contains(ap)) {
+                    // skip winning team
+                    continue;
+                }
+                for (final ArenaPlayer ap2 : team.getTeamMembers()) {
+                    if (arena.isFreeForAll()
+                            && ap2.getName().equals(ap.getName())) {
+                        continue;
+                    }
+                    if (ap2.getStatus() == Status.FIGHT) {
+                        Bukkit.getWorld(world).strikeLightningEffect(
+                                ap2.get().getLocation());
+                        final EntityDamageEvent event = new EntityDamageEvent(
+                                ap2.get(), DamageCause.LIGHTNING, 10.0);
+                        PlayerListener.finallyKillPlayer(arena,
+                                ap2.get(), event);
                     }
                 }
-                ap.get().setLastDamageCause(
-                        new EntityDamageEvent(ap.get(), DamageCause.CUSTOM,
-                                1003.0));
-                ap.get().damage(1000);
+                return true;
             }
-            if (flags.contains(RegionFlag.WIN) && shape.contains(pLoc)) {
+        }
+        if (flags.contains(RegionFlag.LOSE)) {
+            if (arena.isFreeForAll()) {
+                if (ap.getStatus() == Status.FIGHT) {
+                    Bukkit.getWorld(world).strikeLightningEffect(
+                            ap.get().getLocation());
+                    final EntityDamageEvent event = new EntityDamageEvent(
+                            ap.get(), DamageCause.LIGHTNING, 10.0);
+                    PlayerListener
+                            .finallyKillPlayer(arena, ap.get(), event);
+                }
+            } else {
                 for (final ArenaTeam team : arena.getTeams()) {
-                    if (!arena.isFreeForAll()
-                            && team.getTeamMembers().contains(ap)) {
-                        // skip winning team
+                    if (!team.getTeamMembers().contains(ap)) {
+                        // skip winner
                         continue;
                     }
                     for (final ArenaPlayer ap2 : team.getTeamMembers()) {
-                        if (arena.isFreeForAll()
-                                && ap2.getName().equals(ap.getName())) {
-                            continue;
-                        }
                         if (ap2.getStatus() == Status.FIGHT) {
-                            Bukkit.getWorld(world).strikeLightningEffect(
-                                    ap2.get().getLocation());
+                            Bukkit.getWorld(world)
+                                    .strikeLightningEffect(
+                                            ap2.get().getLocation());
                             final EntityDamageEvent event = new EntityDamageEvent(
-                                    ap2.get(), DamageCause.LIGHTNING, 10.0);
+                                    ap2.get(), DamageCause.LIGHTNING,10.0);
                             PlayerListener.finallyKillPlayer(arena,
                                     ap2.get(), event);
                         }
                     }
-                    return;
-                }
-            }
-            if (flags.contains(RegionFlag.LOSE) && shape.contains(pLoc)) {
-                if (arena.isFreeForAll()) {
-                    if (ap.getStatus() == Status.FIGHT) {
-                        Bukkit.getWorld(world).strikeLightningEffect(
-                                ap.get().getLocation());
-                        final EntityDamageEvent event = new EntityDamageEvent(
-                                ap.get(), DamageCause.LIGHTNING, 10.0);
-                        PlayerListener
-                                .finallyKillPlayer(arena, ap.get(), event);
-                    }
-                } else {
-                    for (final ArenaTeam team : arena.getTeams()) {
-                        if (!team.getTeamMembers().contains(ap)) {
-                            // skip winner
-                            continue;
-                        }
-                        for (final ArenaPlayer ap2 : team.getTeamMembers()) {
-                            if (ap2.getStatus() == Status.FIGHT) {
-                                Bukkit.getWorld(world)
-                                        .strikeLightningEffect(
-                                                ap2.get().getLocation());
-                                final EntityDamageEvent event = new EntityDamageEvent(
-                                        ap2.get(), DamageCause.LIGHTNING,10.0);
-                                PlayerListener.finallyKillPlayer(arena,
-                                        ap2.get(), event);
-                            }
-                        }
-                        return;
-                    }
+                    return true;
                 }
             }
-            if (flags.contains(RegionFlag.NOCAMP)) {
-                if (shape.contains(pLoc)) {
-                    final Location loc = playerLocations.get(ap.getName());
-                    if (loc == null) {
-                        Arena.pmsg(ap.get(),
-                                Language.parse(arena, MSG.NOTICE_YOU_NOCAMP));
-                    } else {
-                        if (loc.distance(ap.get().getLocation()) < 3) {
-                            ap.get().setLastDamageCause(
-                                    new EntityDamageEvent(ap.get(),
-                                            DamageCause.CUSTOM, arena.getArenaConfig().getInt(CFG.DAMAGE_SPAWNCAMP)));
-                            ap.get().damage(
-                                    arena.getArenaConfig().getInt(
-                                            CFG.DAMAGE_SPAWNCAMP));
-                        }
-                    }
-                    playerLocations.put(ap.getName(), ap.get()
-                            .getLocation().getBlock().getLocation());
-                } else {
-                    playerLocations.remove(ap.getName());
-                }
-            }
-            if (type == RegionType.BATTLE) {
-                if (ap.getStatus() != Status.FIGHT) {
-                    continue;
-                }
-
-                boolean found = false;
-
-                for (final ArenaRegion region : arena.getRegionsByType(RegionType.BATTLE)) {
-                    if (region.shape.contains(pLoc)) {
-                        found = true;
-                        break;
-                    }
-                }
-
-                if (!found) {
-                    debug.i("escape due to '!found' #1");
-                    debug.i("location: "+pLoc.toString());
-                    Arena.pmsg(ap.get(), Language.parse(arena, MSG.NOTICE_YOU_ESCAPED));
-                    if (arena.getArenaConfig().getBoolean(
-                            CFG.GENERAL_LEAVEDEATH)) {
-                        ap.get().setLastDamageCause(
-                                new EntityDamageEvent(ap.get(),
-                                        DamageCause.CUSTOM, 1004.0));
-                        // ap.get().setHealth(0);
-                        ap.get().damage(1000);
-                    } else {
-                        arena.playerLeave(ap.get(), CFG.TP_EXIT, false, false, false);
-                    }
-                }
-            } else if (type == RegionType.WATCH) {
-
-                if (ap.getStatus() != Status.WATCH) {
-                    continue;
-                }
-                Set<ArenaRegion> regions = arena.getRegionsByType(RegionType.WATCH);
-
-                boolean found = false;
-
-                for (ArenaRegion region : regions) {
-                    if (region.getShape().contains(pLoc)) {
-                        found = true;
-                        break;
-                    }
-                }
-
-                if (!found) {
-                    debug.i("escape due to '!found' #2");
-                    Arena.pmsg(ap.get(), Language.parse(arena, MSG.NOTICE_YOU_ESCAPED));
-                    debug.i("location: "+pLoc.toString());
-                    arena.playerLeave(ap.get(), CFG.TP_EXIT, false, false, false);
-                }
-            } else if (type == RegionType.LOUNGE) {
-                if (ap.getStatus() != Status.READY
-                        && ap.getStatus() != Status.LOUNGE) {
-                    continue;
-                }
-
-                debug.i("LOUNGE TICK");
-                Set<ArenaRegion> regions = arena.getRegionsByType(RegionType.LOUNGE);
-
-                boolean found = false;
+        }
+        return false;
+    }
 
-                for (ArenaRegion region : regions) {
-                    if (region.getShape().contains(pLoc)) {
-                        found = true;
-                        break;
-                    }
-                }
+    /**
+     * commit the NOCAMP flag, every tick, as standing still is what we punish
+     *
+     * @param ap     the player to check
+     * @param inside whether the player is inside this region
+     */
+    public void tickNoCamp(final ArenaPlayer ap, final boolean inside) {
+        if (!inside) {
+            playerLocations.remove(ap.getName());
+            return;
+        }
+        final Location loc = playerLocations.get(ap.getName());
+        if (loc == null) {
+            Arena.pmsg(ap.get(),
+                    Language.parse(arena, MSG.NOTICE_YOU_NOCAMP));
+        } else {
+            if (loc.distance(ap.get().getLocation()) < 3) {
+                final int damage = arena.getArenaConfig().getInt(CFG.DAMAGE_SPAWNCAMP);
+                ap.get().setLastDamageCause(
+                        new EntityDamageEvent(ap.get(),
+                                DamageCause.CUSTOM, damage));
+                ap.get().damage(damage);
+            }
+        }
+        playerLocations.put(ap.getName(), ap.get()
+                .getLocation().getBlock().getLocation());
+    }
 
-                if (!found) {
-                    debug.i("escape due to '!found' #3");
-                    Arena.pmsg(ap.get(), Language.parse(arena, MSG.NOTICE_YOU_ESCAPED));
-                    debug.i("location: "+pLoc.toString());
-                    arena.playerLeave(ap.get(), CFG.TP_EXIT, false, false, false);
-                }
+    /**
+     * commit a player that left every region of this region's type
+     *
+     * @param ap the escaping player
+     */
+    public void tickEscape(final ArenaPlayer ap) {
+        if (type == RegionType.BATTLE) {
+            debug.i("escape due to '!found' #1");
+            debug.i(() -> "location: " + new PABlockLocation(ap.get().getLocation()));
+            Arena.pmsg(ap.get(), Language.parse(arena, MSG.NOTICE_YOU_ESCAPED));
+            if (arena.getArenaConfig().getBoolean(
+                    CFG.GENERAL_LEAVEDEATH)) {
+                ap.get().setLastDamageCause(
+                        new EntityDamageEvent(ap.get(),
+                                DamageCause.CUSTOM, 1004.0));
+                // ap.get().setHealth(0);
+                ap.get().damage(1000);
+            } else {
+                arena.playerLeave(ap.get(), CFG.TP_EXIT, false, false, false);
             }
+        } else if (type == RegionType.WATCH || type == RegionType.LOUNGE) {
+            debug.i(() -> "escape due to '!found' " + (type == RegionType.WATCH ? "#2" : "#3"));
+            Arena.pmsg(ap.get(), Language.parse(arena, MSG.NOTICE_YOU_ESCAPED));
+            debug.i(() -> "location: " + new PABlockLocation(ap.get().getLocation()));
+            arena.playerLeave(ap.get(), CFG.TP_EXIT, false, false, false);
         }
+    }
+
+    /**
+     * force players standing in this join region into the arena
+     */
+    public void tickJoin() {
         if (arena.getArenaConfig().getBoolean(CFG.JOIN_FORCE)
-                && type == RegionType.JOIN && !arena.isFightInProgress()
+                && !arena.isFightInProgress()
                 && !arena.isLocked()) {
             for (final Player p : Bukkit.getOnlinePlayers()) {
-                final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(p.getName());
+                final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(p);
                 if (aPlayer.getArena() != null) {
                     continue;
                 }
@@ -707,6 +656,7 @@ public class ArenaRegion {
 
             locs[0].setY(shape.getCenter().getY() - (height >> 1));
             locs[1].setY(locs[0].getY() + height);
+            ArenaManager.indexRegion(this);
 
             return Language.parse(arena, MSG.REGION_HEIGHT, value);
         }
@@ -727,6 +677,7 @@ public class ArenaRegion {
             locs[1].setX(loc.getX() + radius);
             locs[1].setY(loc.getY() + radius);
             locs[1].setZ(loc.getZ() + radius);
+            ArenaManager.indexRegion(this);
 
             return Language.parse(arena, MSG.REGION_RADIUS, value);
         }
@@ -0,0 +1,100 @@
+package net.slipcor.pvparena.loadables;
+
+import net.slipcor.pvparena.ncloader.NCBLoadable;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <pre>Hook Table class</pre>
+ * <p/>
+ * Lists, per hook, the goals or modules of an arena that override it, so that events
+ * skip the loadables only inheriting the empty default. Which hooks a class overrides is
+ * found by reflection once, when the class is loaded
+ *
+ * @author slipcor
+ */
+
+public final class HookTable<T extends NCBLoadable> {
+    private static final Map<Class<?>, Set<String>> OVERRIDES = new ConcurrentHashMap<>();
+
+    private final Class<?> base;
+    private final Map<String, List<T>> tables = new HashMap<>();
+    private Collection<T> source;
+
+    /**
+     * create a hook table
+     *
+     * @param base the class declaring the hooks, ArenaGoal or ArenaModule
+     */
+    public HookTable(final Class<?> base) {
+        this.base = base;
+    }
+
+    /**
+     * find the hooks a loadable class overrides
+     *
+     * @param base the class declaring the hooks
+     * @param type the loadable class
+     */
+    public static void scan(final Class<?> base, final Class<?> type) {
+        OVERRIDES.computeIfAbsent(type, k -> findOverrides(base, type));
+    }
+
+    private static Set<String> findOverrides(final Class<?> base, final Class<?> type) {
+        final Set<String> result = new HashSet<>();
+        for (Class<?> current = type; current != null && current != base
+                && base.isAssignableFrom(current); current = current.getSuperclass()) {
+            for (final Method method : current.getDeclaredMethods()) {
+                if (Modifier.isStatic(method.getModifiers()) || method.isSynthetic()) {
+                    continue;
+                }
+                try {
+                    base.getMethod(method.getName(), method.getParameterTypes());
+                    result.add(method.getName());
+                } catch (final NoSuchMethodException e) {
+                    // not a hook
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * get the loadables overriding a hook
+     *
+     * @param hook      the hook method name
+     * @param loadables the goals or modules of the arena, in their current state
+     * @return the loadables overriding the hook, in iteration order of the given ones
+     */
+    public List<T> get(final String hook, final Collection<T> loadables) {
+        if (loadables != source) {
+            // another round, with other goals
+            tables.clear();
+            source = loadables;
+        }
+        List<T> result = tables.get(hook);
+        if (result == null) {
+            result = new ArrayList<>();
+            for (final T loadable : loadables) {
+                scan(base, loadable.getClass());
+                if (OVERRIDES.get(loadable.getClass()).contains(hook)) {
+                    result.add(loadable);
+                }
+            }
+            result = result.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(result);
+            tables.put(hook, result);
+        }
+        return result;
+    }
+
+    /**
+     * forget the tables, after goals or modules were added or removed
+     */
+    public void invalidate() {
+        tables.clear();
+        source = null;
+    }
+}
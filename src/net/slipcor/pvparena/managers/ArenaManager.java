@@ -4,6 +4,7 @@ import net.slipcor.pvparena.PVPArena;
 import net.slipcor.pvparena.arena.Arena;
 import net.slipcor.pvparena.classes.PABlockLocation;
 import net.slipcor.pvparena.classes.PACheck;
+import net.slipcor.pvparena.classes.PARegionIndex;
 import net.slipcor.pvparena.commands.AbstractArenaCommand;
 import net.slipcor.pvparena.commands.PAA_Edit;
 import net.slipcor.pvparena.commands.PAA_Setup;
@@ -23,12 +24,15 @@ import org.bukkit.block.Block;
 import org.bukkit.block.Sign;
 import org.bukkit.command.CommandSender;
 import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.player.PlayerInteractEvent;
 
 import java.io.File;
 import java.util.*;
+import java.util.function.Predicate;
 
 /**
  * <pre>
@@ -44,6 +48,10 @@ import java.util.*;
 public final class ArenaManager {
     private static final Map<String, Arena> ARENAS = new HashMap<>();
     private static final Debug DEBUG = new Debug(24);
+    private static final PARegionIndex REGION_INDEX = new PARegionIndex();
+    private static final Map<UUID, Arena> ENTITIES = new HashMap<>();
+    // arenas which are only created when they are first looked up by name
+    private static final Map<String, ArenaSource> LAZY = new HashMap<>();
 
     private static final Map<String, Arena> DEF_VALUES = new HashMap<>();
     private static final Map<String, List<String>> DEF_LISTS = new HashMap<>();
@@ -75,16 +83,11 @@ public final class ArenaManager {
      * @param name the arena name to load
      * @return the loaded module name if something is missing, null otherwise
      */
-    private static String checkForMissingGoals(final String name) {
+    private static String checkForMissingGoals(final String name, final Config cfg) {
         DEBUG.i("check for missing goals: " + name);
-        final File file = new File(PVPArena.instance.getDataFolder() + "/arenas/"
-                + name + ".yml");
-        if (!file.exists()) {
+        if (cfg == null) {
             return name + " (file does not exist)";
         }
-        final Config cfg = new Config(file);
-
-        cfg.load();
         final List<String> list = cfg.getStringList(CFG.LISTS_GOALS.getNode(),
                 new ArrayList<String>());
 
@@ -144,12 +147,12 @@ public final class ArenaManager {
     }
 
     /**
-     * count the arenas
+     * count the arenas, including the ones not loaded yet
      *
      * @return the arena count
      */
     public static int count() {
-        return ARENAS.size();
+        return ARENAS.size() + LAZY.size();
     }
 
     /**
@@ -167,19 +170,34 @@ public final class ArenaManager {
         if (arena != null) {
             return arena;
         }
-        for (final Map.Entry<String, Arena> stringArenaEntry2 : ARENAS.entrySet()) {
-            if (stringArenaEntry2.getKey().endsWith(sName)) {
-                return stringArenaEntry2.getValue();
-            }
+        if (LAZY.containsKey(sName)) {
+            return loadLazy(sName);
+        }
+        Arena result = findArena(key -> key.endsWith(sName));
+        if (result == null) {
+            result = findArena(key -> key.startsWith(sName));
+        }
+        if (result == null) {
+            result = findArena(key -> key.contains(sName));
         }
-        for (final Map.Entry<String, Arena> stringArenaEntry1 : ARENAS.entrySet()) {
-            if (stringArenaEntry1.getKey().startsWith(sName)) {
-                return stringArenaEntry1.getValue();
+        return result;
+    }
+
+    /**
+     * find the first arena whose name matches, loading it if it was not loaded yet
+     *
+     * @param matcher the test on the lower case arena name
+     * @return an arena instance if found, null otherwise
+     */
+    private static Arena findArena(final Predicate<String> matcher) {
+        for (final Map.Entry<String, Arena> entry : ARENAS.entrySet()) {
+            if (matcher.test(entry.getKey())) {
+                return entry.getValue();
             }
         }
-        for (final Map.Entry<String, Arena> stringArenaEntry : ARENAS.entrySet()) {
-            if (stringArenaEntry.getKey().contains(sName)) {
-                return stringArenaEntry.getValue();
+        for (final String key : LAZY.keySet()) {
+            if (matcher.test(key)) {
+                return loadLazy(key);
             }
         }
         return null;
@@ -194,6 +212,9 @@ public final class ArenaManager {
         if (arena != null) {
             return arena;
         }
+        if (LAZY.containsKey(sName)) {
+            return loadLazy(sName);
+        }
         return ARENAS.entrySet().stream()
                 .filter(e -> name.equalsIgnoreCase(e.getKey()))
                 .findFirst()
@@ -208,14 +229,12 @@ public final class ArenaManager {
      * @return an arena instance if found, null otherwise
      */
     public static Arena getArenaByRegionLocation(final PABlockLocation location) {
-        for (final Arena arena : ARENAS.values()) {
-            if (arena.isLocked()) {
+        for (final ArenaRegion region : REGION_INDEX.getCandidates(location)) {
+            if (region.getArena().isLocked()) {
                 continue;
             }
-            for (final ArenaRegion region : arena.getRegions()) {
-                if (region.getShape().contains(location)) {
-                    return arena;
-                }
+            if (region.getShape().contains(location)) {
+                return region.getArena();
             }
         }
         return null;
@@ -223,15 +242,13 @@ public final class ArenaManager {
 
     public static Arena getArenaByProtectedRegionLocation(
             final PABlockLocation location, final RegionProtection regionProtection) {
-        for (final Arena arena : ARENAS.values()) {
-            if (!arena.getArenaConfig().getBoolean(CFG.PROTECT_ENABLED)) {
+        for (final ArenaRegion region : REGION_INDEX.getCandidates(location)) {
+            if (!region.getArena().getArenaConfig().getBoolean(CFG.PROTECT_ENABLED)) {
                 continue;
             }
-            for (final ArenaRegion region : arena.getRegions()) {
-                if (region.getShape().contains(location)
-                        && region.getProtections().contains(regionProtection)) {
-                    return arena;
-                }
+            if (region.getProtections().contains(regionProtection)
+                    && region.getShape().contains(location)) {
+                return region.getArena();
             }
         }
         return null;
@@ -240,19 +257,71 @@ public final class ArenaManager {
     public static Set<Arena> getArenasByRegionLocation(
             final PABlockLocation location) {
         final Set<Arena> result = new HashSet<>();
-        for (final Arena arena : ARENAS.values()) {
-            if (arena.isLocked()) {
+        for (final ArenaRegion region : REGION_INDEX.getCandidates(location)) {
+            if (region.getArena().isLocked() || result.contains(region.getArena())) {
                 continue;
             }
-            for (final ArenaRegion region : arena.getRegions()) {
-                if (region.getShape().contains(location)) {
-                    result.add(arena);
-                }
+            if (region.getShape().contains(location)) {
+                result.add(region.getArena());
             }
         }
         return result;
     }
 
+    /**
+     * add a region to the location index, or refresh it after it has been moved or resized
+     *
+     * @param region the region to index
+     */
+    public static void indexRegion(final ArenaRegion region) {
+        final Arena arena = region.getArena();
+        if (arena != null) {
+            arena.refreshRegionTimer();
+        }
+        if (arena == null || ARENAS.get(arena.getName().toLowerCase()) != arena) {
+            return; // arena not loaded yet, it will be indexed by loadArena
+        }
+        REGION_INDEX.add(region);
+    }
+
+    /**
+     * remove a region from the location index
+     *
+     * @param region the region to remove
+     */
+    public static void unindexRegion(final ArenaRegion region) {
+        REGION_INDEX.remove(region);
+    }
+
+    /**
+     * search the arena that spawned an entity
+     *
+     * @param entity the entity to find
+     * @return the arena instance if the entity belongs to one, null otherwise
+     */
+    public static Arena getArenaByEntity(final Entity entity) {
+        return ENTITIES.get(entity.getUniqueId());
+    }
+
+    /**
+     * add an arena spawned entity to the entity index
+     *
+     * @param uuid  the entity UUID
+     * @param arena the arena owning the entity
+     */
+    public static void indexEntity(final UUID uuid, final Arena arena) {
+        ENTITIES.put(uuid, arena);
+    }
+
+    /**
+     * remove an entity from the entity index
+     *
+     * @param uuid the entity UUID
+     */
+    public static void unindexEntity(final UUID uuid) {
+        ENTITIES.remove(uuid);
+    }
+
     /**
      * return the arenas
      *
@@ -271,6 +340,9 @@ public final class ArenaManager {
         for (final Arena arena : ARENAS.values()) {
             return arena;
         }
+        for (final String key : LAZY.keySet()) {
+            return loadLazy(key);
+        }
         return null;
     }
 
@@ -280,7 +352,33 @@ public final class ArenaManager {
      * @return a string with all arena names joined with comma
      */
     public static String getNames() {
-        return StringParser.joinSet(ARENAS.keySet(), ", ");
+        final Set<String> names = new HashSet<>(ARENAS.keySet());
+        names.addAll(LAZY.keySet());
+        return StringParser.joinSet(names, ", ");
+    }
+
+    /**
+     * get the names of all arenas, including the ones not loaded yet, without loading them
+     *
+     * @return the arena names, sorted
+     */
+    public static SortedSet<String> getArenaNames() {
+        final SortedSet<String> names = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (final Arena arena : ARENAS.values()) {
+            names.add(arena.getName());
+        }
+        for (final ArenaSource source : LAZY.values()) {
+            names.add(source.name);
+        }
+        return names;
+    }
+
+    /**
+     * @param name the arena name
+     * @return true if the arena will only be loaded on first use
+     */
+    public static boolean isLazy(final String name) {
+        return LAZY.containsKey(name.toLowerCase());
     }
 
     public static Map<String, List<String>> getShortcutDefinitions() {
@@ -300,28 +398,53 @@ public final class ArenaManager {
             final File path = new File(PVPArena.instance.getDataFolder().getPath(),
                     "arenas");
             final File[] file = path.listFiles();
+            final List<ArenaSource> sources = new ArrayList<>();
             for (File aFile : file) {
                 if (!aFile.isDirectory() && aFile.getName().contains(".yml")) {
                     String sName = aFile.getName().replace("config_", "");
                     sName = sName.replace(".yml", "");
-                    final String error = checkForMissingGoals(sName);
-                    if (error == null) {
-                        DEBUG.i("arena: " + sName);
-                        if (!ARENAS.containsKey(sName.toLowerCase())) {
-                            Arena arena = new Arena(sName);
-                            loadArena(arena);
-                        }
-                    } else {
-                        PVPArena.instance.getLogger().warning(Language.parse(MSG.ERROR_GOAL_NOTFOUND, error, StringParser.joinSet(PVPArena.instance.getAgm().getAllGoalNames(), ", ")));
-                        PVPArena.instance.getLogger().warning(Language.parse(MSG.GOAL_INSTALLING, error));
+                    if (!ARENAS.containsKey(sName.toLowerCase())) {
+                        sources.add(new ArenaSource(sName));
                     }
                 }
             }
+
+            // parse the files in parallel, only creating the arenas needs the main thread
+            sources.parallelStream().forEach(ArenaSource::read);
+
+            final boolean lazy = PVPArena.instance.getConfig().getBoolean("lazy_load");
+            LAZY.clear();
+            for (final ArenaSource source : sources) {
+                if (source.config == null) {
+                    PVPArena.instance.getLogger().warning("Could not read arena config " + source.file.getPath() + ", arena skipped");
+                    continue;
+                }
+                final String error = checkForMissingGoals(source.name, source.config);
+                if (error != null) {
+                    PVPArena.instance.getLogger().warning(Language.parse(MSG.ERROR_GOAL_NOTFOUND, error, StringParser.joinSet(PVPArena.instance.getAgm().getAllGoalNames(), ", ")));
+                    PVPArena.instance.getLogger().warning(Language.parse(MSG.GOAL_INSTALLING, error));
+                    continue;
+                }
+                DEBUG.i("arena: " + source.name);
+                if (lazy && source.isIdle()) {
+                    DEBUG.i("arena " + source.name + " will be loaded on first use");
+                    LAZY.put(source.name.toLowerCase(), source);
+                    continue;
+                }
+                loadArena(source.create());
+            }
         } catch (final Exception e) {
             e.printStackTrace();
         }
     }
 
+    private static Arena loadLazy(final String name) {
+        final ArenaSource source = LAZY.remove(name);
+        DEBUG.i("loading arena on first use: " + source.name);
+        final Arena arena = source.create();
+        return loadArena(arena) ? arena : null;
+    }
+
     /**
      * Backwards compatible arena loading
      *
@@ -332,6 +455,9 @@ public final class ArenaManager {
         DEBUG.i("loading arena " + configFile);
         final Arena arena = new Arena(configFile);
         ARENAS.put(arena.getName().toLowerCase(), arena);
+        for (final ArenaRegion region : arena.getRegions()) {
+            REGION_INDEX.add(region);
+        }
     }
 
     /**
@@ -351,13 +477,26 @@ public final class ArenaManager {
             return false;
         }
 
-        ARENAS.put(arena.getName().toLowerCase(), arena);
+        final Arena previous = ARENAS.put(arena.getName().toLowerCase(), arena);
+        if (previous != null && previous != arena) {
+            for (final ArenaRegion region : previous.getRegions()) {
+                REGION_INDEX.remove(region);
+            }
+        }
+        for (final ArenaRegion region : arena.getRegions()) {
+            REGION_INDEX.add(region);
+        }
         return true;
     }
 
     public static void removeArena(final Arena arena, final boolean deleteConfig) {
         arena.stop(true);
         ARENAS.remove(arena.getName().toLowerCase());
+        for (final ArenaRegion region : arena.getRegions()) {
+            REGION_INDEX.remove(region);
+            arena.stopRegionTimer(region);
+        }
+        ENTITIES.values().removeIf(entityArena -> entityArena == arena);
         if (deleteConfig) {
             arena.getArenaConfig().delete();
         }
@@ -388,17 +527,17 @@ public final class ArenaManager {
                 if ("[arena]".equalsIgnoreCase(sign.getLine(0))) {
                     final String sName = sign.getLine(1).toLowerCase();
                     String[] newArgs = new String[0];
-                    final Arena arena = ARENAS.get(sName);
-                    if (sign.getLine(2) != null
-                            && arena.getTeam(sign.getLine(2)) != null) {
-                        newArgs = new String[1];
-                        newArgs[0] = sign.getLine(2);
-                    }
+                    final Arena arena = getArenaByExactName(sName);
                     if (arena == null) {
                         Arena.pmsg(player,
                                 Language.parse(MSG.ERROR_ARENA_NOTFOUND, sName));
                         return;
                     }
+                    if (sign.getLine(2) != null
+                            && arena.getTeam(sign.getLine(2)) != null) {
+                        newArgs = new String[1];
+                        newArgs[0] = sign.getLine(2);
+                    }
                     final AbstractArenaCommand command = new PAG_Join();
                     command.commit(arena, player, newArgs);
                 }
@@ -413,6 +552,12 @@ public final class ArenaManager {
                 sum++;
             }
         }
+        for (final ArenaSource source : LAZY.values()) {
+            // not loaded yet => no fight in progress
+            if (!source.isLocked()) {
+                sum++;
+            }
+        }
         return sum;
     }
 
@@ -422,6 +567,11 @@ public final class ArenaManager {
                 return a;
             }
         }
+        for (final Map.Entry<String, ArenaSource> entry : LAZY.entrySet()) {
+            if (!entry.getValue().isLocked()) {
+                return loadLazy(entry.getKey());
+            }
+        }
         return null;
     }
 
@@ -452,7 +602,7 @@ public final class ArenaManager {
 
             boolean error = false;
             for (final String arena : strings) {
-                if (!ARENAS.containsKey(arena.toLowerCase())) {
+                if (!ARENAS.containsKey(arena.toLowerCase()) && !isLazy(arena)) {
                     PVPArena.instance.getLogger().warning("Arena not found: " + arena);
                     DEBUG.i("Arena not found: " + arena);
                     error = true;
@@ -662,9 +812,9 @@ public final class ArenaManager {
             for (final String arenaName : defs) {
                 if (found) {
                     // we just found it, this is the one!
-                    final Arena nextArena = ARENAS.get(arenaName.toLowerCase());
+                    final Arena nextArena = getArenaByExactName(arenaName);
 
-                    if (nextArena.isLocked()) {
+                    if (nextArena == null || nextArena.isLocked()) {
                         continue;
                     }
 
@@ -679,8 +829,8 @@ public final class ArenaManager {
         }
         // get the first available!
         for (final String arenaName : defs) {
-            final Arena arena = ARENAS.get(arenaName.toLowerCase());
-            if (arena.isFightInProgress() || arena.isLocked()) {
+            final Arena arena = getArenaByExactName(arenaName);
+            if (arena == null || arena.isFightInProgress() || arena.isLocked()) {
                 continue;
             }
 
@@ -706,4 +856,62 @@ public final class ArenaManager {
         }
         return result;
     }
+
+    /**
+     * The files of an arena, read before the arena is created
+     */
+    private static final class ArenaSource {
+        private final String name;
+        private final File file;
+        private Config config;
+        private YamlConfiguration language;
+
+        private ArenaSource(final String name) {
+            this.name = name;
+            file = new File(PVPArena.instance.getDataFolder() + "/arenas/" + name + ".yml");
+        }
+
+        /**
+         * parse the arena config and language, without touching the server
+         */
+        private void read() {
+            if (!file.exists()) {
+                return;
+            }
+            final Config result = new Config(file);
+            if (!result.preload()) {
+                return;
+            }
+            config = result;
+            final Object langName = config.getUnsafe("general.lang");
+            if (langName == null || "none".equals(langName)) {
+                return;
+            }
+            final YamlConfiguration lang = new YamlConfiguration();
+            try {
+                lang.load(new File(PVPArena.instance.getDataFolder(), (String) langName));
+                language = lang;
+            } catch (final Exception e) {
+                // the arena reports it when it is created
+            }
+        }
+
+        /**
+         * @return true if the arena is disabled
+         */
+        private boolean isLocked() {
+            return !config.getBoolean(CFG.GENERAL_ENABLED);
+        }
+
+        /**
+         * @return true if the arena is disabled or has never been played
+         */
+        private boolean isIdle() {
+            return !config.getBoolean(CFG.GENERAL_ENABLED) || !StatisticsManager.hasBeenPlayed(name);
+        }
+
+        private Arena create() {
+            return new Arena(name, config, language);
+        }
+    }
 }
@@ -0,0 +1,51 @@
+package net.slipcor.pvparena.managers;
+
+import net.slipcor.pvparena.classes.PAChatSnapshot;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <pre>Chat Manager class</pre>
+ * <p/>
+ * Provides static methods to find the chat snapshot of a chatting player. Arenas publish
+ * a new snapshot from the main thread whenever their players change, async chat threads
+ * only read the published ones
+ *
+ * @author slipcor
+ */
+
+public final class ChatManager {
+    private static final Map<UUID, PAChatSnapshot> SNAPSHOTS = new ConcurrentHashMap<>();
+
+    private ChatManager() {}
+
+    /**
+     * replace the chat snapshot of an arena, main thread only
+     *
+     * @param previous the snapshot published before, null if there is none
+     * @param next     the new snapshot
+     */
+    public static void publish(final PAChatSnapshot previous, final PAChatSnapshot next) {
+        for (final UUID uuid : next.getPlayers()) {
+            SNAPSHOTS.put(uuid, next);
+        }
+        if (previous == null) {
+            return;
+        }
+        for (final UUID uuid : previous.getPlayers()) {
+            // players who left, unless they already joined another arena
+            SNAPSHOTS.remove(uuid, previous);
+        }
+    }
+
+    /**
+     * @param player the chatting player
+     * @return the chat snapshot of the arena the player is part of, null if there is none
+     */
+    public static PAChatSnapshot getSnapshot(final Player player) {
+        return SNAPSHOTS.get(player.getUniqueId());
+    }
+}
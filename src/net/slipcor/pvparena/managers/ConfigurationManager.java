@@ -289,7 +289,7 @@ public final class ConfigurationManager {
             for (final Map.Entry<String, Object> stringObjectEntry : tempMap.entrySet()) {
                 final ArenaTeam team = new ArenaTeam(stringObjectEntry.getKey(),
                         (String) stringObjectEntry.getValue());
-                arena.getTeams().add(team);
+                arena.addTeam(team);
                 arena.getDebugger().i("added team " + team.getName() + " => "
                         + team.getColorCodeString());
             }
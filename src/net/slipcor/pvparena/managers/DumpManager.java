@@ -0,0 +1,401 @@
+package net.slipcor.pvparena.managers;
+
+import net.slipcor.pvparena.PVPArena;
+import net.slipcor.pvparena.core.Debug;
+import net.slipcor.pvparena.statistics.StorageFiles;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.util.io.BukkitObjectInputStream;
+import org.bukkit.util.io.BukkitObjectOutputStream;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32;
+
+/**
+ * <pre>Dump Manager class</pre>
+ * <p/>
+ * Provides static methods to keep the player dumps, the state players had before joining,
+ * so they get it back after a crash. The dumps live in memory and are appended to
+ * dumps/players.journal by a writer thread, every record carrying a checksum. Records
+ * queued while the writer is busy are written and synced together, and the journal is
+ * compacted to one record per player once it grew too much
+ *
+ * @author slipcor
+ */
+
+public final class DumpManager {
+    private static final Debug DEBUG = new Debug(29);
+
+    private static final byte OP_PUT = 1;
+    private static final byte OP_REMOVE = 2;
+
+    private static final byte ITEM_EMPTY = 0;
+    private static final byte ITEM_PLAIN = 1;
+    private static final byte ITEM_META = 2;
+
+    private static final int COMPACT_FACTOR = 4;
+    private static final int COMPACT_MINIMUM = 256;
+
+    /**
+     * the dumps, main thread only
+     */
+    private static final Map<String, byte[]> DUMPS = new HashMap<>();
+    /**
+     * the players with a dump from before the journal, main thread only
+     */
+    private static final Set<String> LEGACY = new HashSet<>();
+
+    private static final Queue<Record> PENDING = new ConcurrentLinkedQueue<>();
+    private static final AtomicBoolean SCHEDULED = new AtomicBoolean();
+    /**
+     * the records of the journal file, writer thread only once initialized
+     */
+    private static final Map<String, Record> RECORDS = new LinkedHashMap<>();
+    private static int records;
+
+    private static File file;
+    private static ExecutorService writer;
+
+    private DumpManager() {}
+
+    /**
+     * read the journal and start the writer thread
+     */
+    public static void initialize() {
+        if (writer != null) {
+            shutdown();
+        }
+        final File folder = new File(PVPArena.instance.getDataFolder(), "dumps");
+        file = new File(folder, "players.journal");
+
+        DUMPS.clear();
+        LEGACY.clear();
+        RECORDS.clear();
+        PENDING.clear();
+        records = 0;
+
+        final File[] legacyFiles = folder.listFiles((dir, fileName) -> fileName.endsWith(".yml"));
+        if (legacyFiles != null) {
+            for (final File legacyFile : legacyFiles) {
+                LEGACY.add(legacyFile.getName().substring(0, legacyFile.getName().length() - 4));
+            }
+        }
+
+        try {
+            if (!load()) {
+                PVPArena.instance.getLogger().warning("player dump journal was damaged, kept the valid records");
+                compact();
+            } else if (needsCompaction()) {
+                compact();
+            }
+        } catch (final IOException e) {
+            PVPArena.instance.getLogger().warning("could not read player dumps: " + e.getMessage());
+            e.printStackTrace();
+        }
+        DEBUG.i("loaded " + DUMPS.size() + " player dumps, " + LEGACY.size() + " legacy dumps");
+
+        writer = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "PVP Arena dump writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * write the pending records, compact the journal and wait for the writer thread to finish
+     */
+    public static void shutdown() {
+        if (writer == null) {
+            return;
+        }
+        writer.execute(() -> {
+            flush();
+            try {
+                if (records > RECORDS.size()) {
+                    compact();
+                }
+            } catch (final IOException e) {
+                e.printStackTrace();
+            }
+        });
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(30, TimeUnit.SECONDS)) {
+                PVPArena.instance.getLogger().warning("dump writer did not finish in time");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+    }
+
+    /**
+     * store the dump of a player, replacing the one there is
+     *
+     * @param playerName the player name
+     * @param data       the encoded dump
+     */
+    public static void put(final String playerName, final byte[] data) {
+        DUMPS.put(playerName, data);
+        append(OP_PUT, playerName, data);
+    }
+
+    /**
+     * @param playerName the player name
+     * @return the encoded dump of the player, null if there is none
+     */
+    public static byte[] get(final String playerName) {
+        return DUMPS.get(playerName);
+    }
+
+    /**
+     * drop the dump of a player
+     *
+     * @param playerName the player name
+     */
+    public static void remove(final String playerName) {
+        if (DUMPS.remove(playerName) != null) {
+            append(OP_REMOVE, playerName, new byte[0]);
+        }
+    }
+
+    /**
+     * @param playerName the player name
+     * @return true if the player has a dump file from before the journal
+     */
+    public static boolean hasLegacy(final String playerName) {
+        return LEGACY.contains(playerName);
+    }
+
+    /**
+     * forget a dump file from before the journal, after it has been read or dropped
+     *
+     * @param playerName the player name
+     */
+    public static void removeLegacy(final String playerName) {
+        if (LEGACY.remove(playerName)) {
+            new File(file.getParentFile(), playerName + ".yml").delete();
+        }
+    }
+
+    /**
+     * write items, every slot with its material and amount, or serialized with
+     * {@link BukkitObjectOutputStream} if the item has meta data
+     *
+     * @param out   the stream to write to
+     * @param items the items, may be null
+     * @throws IOException if an item can't be serialized
+     */
+    public static void writeItems(final DataOutputStream out, final ItemStack[] items) throws IOException {
+        if (items == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(items.length);
+        for (final ItemStack item : items) {
+            if (item == null || item.getType() == Material.AIR) {
+                out.writeByte(ITEM_EMPTY);
+            } else if (!item.hasItemMeta()) {
+                out.writeByte(ITEM_PLAIN);
+                out.writeUTF(item.getType().name());
+                out.writeByte(item.getAmount());
+            } else {
+                final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (BukkitObjectOutputStream objects = new BukkitObjectOutputStream(bytes)) {
+                    objects.writeObject(item);
+                }
+                out.writeByte(ITEM_META);
+                out.writeInt(bytes.size());
+                bytes.writeTo(out);
+            }
+        }
+    }
+
+    /**
+     * read items written by {@link #writeItems}
+     *
+     * @param in the stream to read from
+     * @return the items, null if null was written
+     * @throws IOException if an item can't be read
+     */
+    public static ItemStack[] readItems(final DataInputStream in) throws IOException {
+        final int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        final ItemStack[] items = new ItemStack[length];
+        for (int i = 0; i < length; i++) {
+            final byte kind = in.readByte();
+            if (kind == ITEM_PLAIN) {
+                final Material material = Material.getMaterial(in.readUTF());
+                final int amount = in.readByte();
+                items[i] = material == null ? null : new ItemStack(material, amount);
+            } else if (kind == ITEM_META) {
+                final byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                try (BukkitObjectInputStream objects = new BukkitObjectInputStream(new ByteArrayInputStream(bytes))) {
+                    items[i] = (ItemStack) objects.readObject();
+                } catch (final ClassNotFoundException e) {
+                    throw new IOException("invalid item in slot " + i, e);
+                }
+            }
+        }
+        return items;
+    }
+
+    private static void append(final byte op, final String playerName, final byte[] data) {
+        if (writer == null) {
+            return;
+        }
+        final Record record;
+        try {
+            record = new Record(op, playerName, data);
+        } catch (final IOException e) {
+            e.printStackTrace();
+            return;
+        }
+        PENDING.add(record);
+        if (SCHEDULED.compareAndSet(false, true)) {
+            writer.execute(DumpManager::flush);
+        }
+    }
+
+    /**
+     * write every pending record with one write and one sync, runs on the writer thread
+     */
+    private static void flush() {
+        // records queued from now on schedule the next flush
+        SCHEDULED.set(false);
+        final ByteArrayOutputStream batch = new ByteArrayOutputStream();
+        int count = 0;
+        Record record;
+        while ((record = PENDING.poll()) != null) {
+            batch.write(record.bytes, 0, record.bytes.length);
+            track(record);
+            count++;
+        }
+        if (count == 0) {
+            return;
+        }
+        try {
+            try (FileOutputStream out = new FileOutputStream(file, true)) {
+                batch.writeTo(out);
+                out.getFD().sync();
+            }
+            records += count;
+            if (needsCompaction()) {
+                compact();
+            }
+        } catch (final IOException e) {
+            PVPArena.instance.getLogger().warning("could not write player dumps: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    private static boolean needsCompaction() {
+        return records > COMPACT_MINIMUM && records > RECORDS.size() * COMPACT_FACTOR;
+    }
+
+    private static void compact() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (final Record record : RECORDS.values()) {
+            out.write(record.bytes, 0, record.bytes.length);
+        }
+        StorageFiles.replace(file, out.toByteArray());
+        records = RECORDS.size();
+    }
+
+    /**
+     * @return false if the journal ends with a damaged record
+     */
+    private static boolean load() throws IOException {
+        if (!file.exists()) {
+            return true;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            while (true) {
+                final int length;
+                try {
+                    length = in.readInt();
+                } catch (final EOFException e) {
+                    return true;
+                }
+                final byte[] body;
+                try {
+                    final long checksum = in.readInt() & 0xFFFFFFFFL;
+                    if (length < 0 || length > file.length()) {
+                        return false;
+                    }
+                    body = new byte[length];
+                    in.readFully(body);
+                    if (checksum(body) != checksum) {
+                        return false;
+                    }
+                } catch (final EOFException e) {
+                    // a record cut short by a crash
+                    return false;
+                }
+
+                final DataInputStream reader = new DataInputStream(new ByteArrayInputStream(body));
+                final byte op = reader.readByte();
+                final String playerName = reader.readUTF();
+                final byte[] data = new byte[reader.available()];
+                reader.readFully(data);
+                if (op == OP_PUT) {
+                    DUMPS.put(playerName, data);
+                } else {
+                    DUMPS.remove(playerName);
+                }
+                track(new Record(op, playerName, data));
+                records++;
+            }
+        }
+    }
+
+    private static void track(final Record record) {
+        if (record.op == OP_PUT) {
+            RECORDS.put(record.playerName, record);
+        } else {
+            RECORDS.remove(record.playerName);
+        }
+    }
+
+    private static long checksum(final byte[] body) {
+        final CRC32 crc = new CRC32();
+        crc.update(body, 0, body.length);
+        return crc.getValue();
+    }
+
+    /**
+     * A journal record: length, checksum and body, the body holding operation, player name and dump
+     */
+    private static final class Record {
+        private final byte op;
+        private final String playerName;
+        private final byte[] bytes;
+
+        private Record(final byte op, final String playerName, final byte[] data) throws IOException {
+            this.op = op;
+            this.playerName = playerName;
+
+            final ByteArrayOutputStream body = new ByteArrayOutputStream();
+            final DataOutputStream bodyOut = new DataOutputStream(body);
+            bodyOut.writeByte(op);
+            bodyOut.writeUTF(playerName);
+            bodyOut.write(data);
+
+            final ByteArrayOutputStream record = new ByteArrayOutputStream(body.size() + 8);
+            final DataOutputStream out = new DataOutputStream(record);
+            out.writeInt(body.size());
+            out.writeInt((int) checksum(body.toByteArray()));
+            body.writeTo(out);
+            this.bytes = record.toByteArray();
+        }
+    }
+}
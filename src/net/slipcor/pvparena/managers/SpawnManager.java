@@ -9,6 +9,7 @@ import net.slipcor.pvparena.classes.PABlock;
 import net.slipcor.pvparena.classes.PABlockLocation;
 import net.slipcor.pvparena.classes.PALocation;
 import net.slipcor.pvparena.classes.PASpawn;
+import net.slipcor.pvparena.classes.PASpawnIndex;
 import net.slipcor.pvparena.core.Config;
 import net.slipcor.pvparena.core.Config.CFG;
 import net.slipcor.pvparena.core.Debug;
@@ -246,16 +247,14 @@ public final class SpawnManager {
 
         if (arena.isFreeForAll()) {
             if ("free".equals(teamNName)) {
-                locations = getPASpawnsStartingWith(arena, "spawn");
                 total_locations = getPASpawnsStartingWith(arena, "spawn");
             } else {
-                locations = getPASpawnsStartingWith(arena, teamNName);
                 total_locations = getPASpawnsStartingWith(arena, teamNName);
             }
         } else {
-            locations = getPASpawnsStartingWith(arena, teamNName + "spawn");
             total_locations = getPASpawnsStartingWith(arena, teamNName + "spawn");
         }
+        locations = new HashSet<>(total_locations);
 
         if (locations == null || locations.size() < 1) {
             arena.getDebugger().i("null or less than 1! -> OUT!");
@@ -338,96 +337,43 @@ public final class SpawnManager {
     }
 
     public static Set<PABlockLocation> getBlocksStartingWith(final Arena arena, final String name) {
-        final Set<PABlockLocation> result = new HashSet<>();
-
-        for (final PABlock block : arena.getBlocks()) {
-            if (block.getName().startsWith(name)) {
-                result.add(block.getLocation());
-            }
-        }
-
-        return result;
+        return arena.getBlocksByName().getLocationsStartingWith(name);
     }
 
     public static Set<PABlockLocation> getBlocksContaining(final Arena arena, final String name) {
-        final Set<PABlockLocation> result = new HashSet<>();
-
-        for (final PABlock block : arena.getBlocks()) {
-            if (block.getName().contains(name)) {
-                result.add(block.getLocation());
-            }
-        }
-
-        return result;
+        return arena.getBlocksByName().getLocationsContaining(name);
     }
 
     public static Set<PABlock> getPABlocksContaining(final Arena arena, final String name) {
-        final Set<PABlock> result = new HashSet<>();
-
-        for (final PABlock block : arena.getBlocks()) {
-            if (block.getName().contains(name)) {
-                result.add(block);
-            }
-        }
-
-        return result;
+        return arena.getBlocksByName().getContaining(name);
     }
 
     public static Set<PALocation> getSpawnsContaining(final Arena arena, final String name) {
-        final Set<PALocation> result = new HashSet<>();
-
-        for (final PASpawn spawn : arena.getSpawns()) {
-            if (spawn.getName().contains(name)) {
-                result.add(spawn.getLocation());
-            }
-        }
-
-        return result;
+        return arena.getSpawnsByName().getLocationsContaining(name);
     }
 
     public static Set<PALocation> getSpawnsStartingWith(final Arena arena, final String name) {
-        final Set<PALocation> result = new HashSet<>();
-
-        for (final PASpawn spawn : arena.getSpawns()) {
-            if (spawn.getName().startsWith(name)) {
-                result.add(spawn.getLocation());
-            }
-        }
-
-        return result;
+        return arena.getSpawnsByName().getLocationsStartingWith(name);
     }
 
     public static Set<PASpawn> getPASpawnsStartingWith(final Arena arena, final String name) {
-        final Set<PASpawn> result = new HashSet<>();
-
-        for (final PASpawn spawn : arena.getSpawns()) {
-            if (spawn.getName().startsWith(name)) {
-                result.add(spawn);
-            }
-        }
-
-        return result;
+        return arena.getSpawnsByName().getStartingWith(name);
     }
 
     public static PABlockLocation getBlockByExactName(final Arena arena, final String name) {
-        for (final PABlock spawn : arena.getBlocks()) {
-            if (spawn.getName().equals(name)) {
-                return spawn.getLocation();
-            }
-        }
-        return null;
+        final PABlock block = arena.getBlocksByName().get(name);
+        return block == null ? null : block.getLocation();
     }
 
     public static PALocation getSpawnByExactName(final Arena arena, final String name) {
-        for (final PASpawn spawn : arena.getSpawns()) {
-            if (spawn.getName().equals(name)) {
-                return spawn.getLocation().add(
-                        PVPArena.instance.getConfig().getDouble("x-offset", 0.5),
-                        PVPArena.instance.getConfig().getDouble("y-offset", 0.5),
-                        PVPArena.instance.getConfig().getDouble("z-offset", 0.5));
-            }
-        }
-        return null;
+        final PASpawn spawn = arena.getSpawnsByName().get(name);
+        if (spawn == null) {
+            return null;
+        }
+        return spawn.getLocation().add(
+                PVPArena.instance.getConfig().getDouble("x-offset", 0.5),
+                PVPArena.instance.getConfig().getDouble("y-offset", 0.5),
+                PVPArena.instance.getConfig().getDouble("z-offset", 0.5));
     }
 
     public static PABlockLocation getRegionCenter(final Arena arena) {
@@ -596,21 +542,19 @@ public final class SpawnManager {
             return false;
         }
 
-        final Set<PALocation> spawns = new HashSet<>();
+        final PASpawnIndex spawns;
 
         if (arena.getArenaConfig().getBoolean(CFG.GENERAL_CLASSSPAWN)) {
-            spawns.addAll(SpawnManager.getSpawnsContaining(arena, team.getName() + aPlayer.getArenaClass().getName() + "spawn"));
+            spawns = arena.getSpawnIndex(team.getName() + aPlayer.getArenaClass().getName() + "spawn", true);
         } else if (arena.isFreeForAll()) {
-            spawns.addAll(SpawnManager.getSpawnsStartingWith(arena, "spawn"));
+            spawns = arena.getSpawnIndex("spawn", false);
         } else {
-            spawns.addAll(SpawnManager.getSpawnsStartingWith(arena, team.getName() + "spawn"));
+            spawns = arena.getSpawnIndex(team.getName() + "spawn", false);
         }
 
-        for (final PALocation loc : spawns) {
-            if (loc.getDistanceSquared(new PALocation(player.getLocation())) <= diff * diff) {
-                arena.getDebugger().i("found near spawn: " + loc, player);
-                return true;
-            }
+        if (spawns.isWithin(player.getLocation(), diff)) {
+            arena.getDebugger().i("found near spawn", player);
+            return true;
         }
         return false;
     }
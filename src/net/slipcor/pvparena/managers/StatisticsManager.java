@@ -4,23 +4,27 @@ import net.slipcor.pvparena.PVPArena;
 import net.slipcor.pvparena.arena.Arena;
 import net.slipcor.pvparena.arena.ArenaPlayer;
 import net.slipcor.pvparena.classes.PAStatMap;
+import net.slipcor.pvparena.classes.PAStatRanking;
 import net.slipcor.pvparena.core.Debug;
 import net.slipcor.pvparena.core.Language;
 import net.slipcor.pvparena.core.Language.MSG;
 import net.slipcor.pvparena.events.PADeathEvent;
 import net.slipcor.pvparena.events.PAKillEvent;
+import net.slipcor.pvparena.statistics.LogStatisticsStorage;
+import net.slipcor.pvparena.statistics.StatisticsRecord;
+import net.slipcor.pvparena.statistics.StatisticsStorage;
+import net.slipcor.pvparena.statistics.YamlStatisticsStorage;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
-import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.Map;
-import java.util.stream.Collectors;
-
-import static java.util.Comparator.reverseOrder;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <pre>Statistics Manager class</pre>
@@ -33,8 +37,11 @@ import static java.util.Comparator.reverseOrder;
 
 public final class StatisticsManager {
     private static final Debug DEBUG = new Debug(28);
-    private static File playersFile;
-    private static YamlConfiguration config;
+    private static final Map<String, Map<String, StatisticsRecord>> STORED = new HashMap<>();
+    private static final Map<String, StatisticsRecord> DIRTY = new LinkedHashMap<>();
+    private static final Map<String, PAStatRanking> RANKINGS = new HashMap<>();
+    private static StatisticsStorage storage;
+    private static ExecutorService writer;
 
     private StatisticsManager() {}
 
@@ -124,29 +131,29 @@ public final class StatisticsManager {
      */
     public static void damage(final Arena arena, final Entity entity, final Player defender, final double dmg) {
 
-        arena.getDebugger().i("adding damage to player " + defender.getName(), defender);
-
+        // capturing debug suppliers would allocate on every hit
+        final boolean debug = arena.getDebugger().isEnabled();
+        if (debug) {
+            arena.getDebugger().i("adding damage to player " + defender.getName(), defender);
+        }
 
         if (entity instanceof Player) {
             final Player attacker = (Player) entity;
-            arena.getDebugger().i("attacker is player: " + attacker.getName(), defender);
+            if (debug) {
+                arena.getDebugger().i("attacker is player: " + attacker.getName(), defender);
+            }
             if (arena.hasPlayer(attacker)) {
-                arena.getDebugger().i("attacker is in the arena, adding damage!", defender);
-                final ArenaPlayer apAttacker = ArenaPlayer.parsePlayer(attacker.getName());
-                final int maxdamage = apAttacker.getStatistics(arena).getStat(Type.MAXDAMAGE);
-                apAttacker.getStatistics(arena).incStat(Type.DAMAGE, (int) dmg);
-                if (dmg > maxdamage) {
-                    apAttacker.getStatistics(arena).setStat(Type.MAXDAMAGE, (int) dmg);
+                if (debug) {
+                    arena.getDebugger().i("attacker is in the arena, adding damage!", defender);
                 }
+                final PAStatMap attackerStats = ArenaPlayer.parsePlayer(attacker).getStatistics(arena);
+                attackerStats.incStat(Type.DAMAGE, (int) dmg);
+                attackerStats.maxStat(Type.MAXDAMAGE, (int) dmg);
             }
         }
-        final ArenaPlayer apDefender = ArenaPlayer.parsePlayer(defender.getName());
-
-        final int maxdamage = apDefender.getStatistics(arena).getStat(Type.MAXDAMAGETAKE);
-        apDefender.getStatistics(arena).incStat(Type.DAMAGETAKE, (int) dmg);
-        if (dmg > maxdamage) {
-            apDefender.getStatistics(arena).setStat(Type.MAXDAMAGETAKE, (int) dmg);
-        }
+        final PAStatMap defenderStats = ArenaPlayer.parsePlayer(defender).getStatistics(arena);
+        defenderStats.incStat(Type.DAMAGETAKE, (int) dmg);
+        defenderStats.maxStat(Type.MAXDAMAGETAKE, (int) dmg);
     }
 
     /**
@@ -159,18 +166,8 @@ public final class StatisticsManager {
     public static String[] getStatsValuesForBoard(final Arena arena, final Type statType) {
         DEBUG.i("getting stats values: " + (arena == null ? "global" : arena.getName()) + " sorted by " + statType);
 
-        if (arena == null) {
-            return ArenaPlayer.getAllArenaPlayers().stream()
-                    .map(ap -> (statType == Type.NULL) ? ap.getName() : String.valueOf(ap.getTotalStatistics(statType)))
-                    .sorted(reverseOrder())
-                    .limit(8)
-                    .toArray(String[]::new);
-        }
-
-        return arena.getFighters().stream()
-                .map(ap -> (statType == Type.NULL) ? ap.getName() : String.valueOf(ap.getStatistics().getStat(statType)))
-                .sorted(reverseOrder())
-                .limit(8)
+        return getStats(arena, statType, 8).entrySet().stream()
+                .map(entry -> (statType == Type.NULL) ? entry.getKey() : String.valueOf(entry.getValue()))
                 .toArray(String[]::new);
     }
 
@@ -178,18 +175,35 @@ public final class StatisticsManager {
      * Get stats map for a given stat type
      * @param arena the arena to check
      * @param statType the kind of stat
-     * @return A map with player name and stat value
+     * @return A map with player name and stat value, best first
      */
     public static Map<String, Integer> getStats(final Arena arena, final Type statType) {
+        return getStats(arena, statType, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Get the best stats for a given stat type
+     * @param arena the arena to check, null for global stats
+     * @param statType the kind of stat
+     * @param max the maximum amount of players
+     * @return A map with player name and stat value, best first
+     */
+    public static Map<String, Integer> getStats(final Arena arena, final Type statType, final int max) {
         DEBUG.i("getting stats: " + (arena == null ? "global" : arena.getName()) + " sorted by " + statType);
 
-        if (arena == null) {
-            return ArenaPlayer.getAllArenaPlayers().stream()
-                    .collect(Collectors.toMap(ArenaPlayer::getName, ap -> ap.getTotalStatistics(statType)));
+        final PAStatRanking ranking = RANKINGS.get(arena == null ? null : arena.getName());
+        if (ranking == null) {
+            return new LinkedHashMap<>();
         }
+        return ranking.getTop(statType, max);
+    }
 
-        return arena.getFighters().stream()
-                .collect(Collectors.toMap(ArenaPlayer::getName, ap -> ap.getStatistics().getStat(statType)));
+    /**
+     * @param arenaName the arena name, null for the ranking over all arenas
+     * @return the ranking of the arena, created if needed
+     */
+    public static PAStatRanking getRanking(final String arenaName) {
+        return RANKINGS.computeIfAbsent(arenaName, k -> new PAStatRanking());
     }
 
     /**
@@ -216,24 +230,42 @@ public final class StatisticsManager {
         if (!PVPArena.instance.getConfig().getBoolean("stats")) {
             return;
         }
-        config = new YamlConfiguration();
-        playersFile = new File(PVPArena.instance.getDataFolder(), "players.yml");
-        if (!playersFile.exists()) {
-            try {
-                playersFile.createNewFile();
-                Arena.pmsg(Bukkit.getConsoleSender(), Language.parse(MSG.STATS_FILE_DONE));
-            } catch (final Exception e) {
-                Arena.pmsg(Bukkit.getConsoleSender(), Language.parse(MSG.ERROR_STATS_FILE));
-                e.printStackTrace();
+        if (storage != null) {
+            shutdown();
+        }
+        final File playersFile = new File(PVPArena.instance.getDataFolder(), "players.yml");
+
+        if ("log".equalsIgnoreCase(PVPArena.instance.getConfig().getString("stats_storage", "yml"))) {
+            storage = new LogStatisticsStorage(
+                    new File(PVPArena.instance.getDataFolder(), "players.log"), playersFile);
+        } else {
+            if (!playersFile.exists()) {
+                try {
+                    playersFile.createNewFile();
+                    Arena.pmsg(Bukkit.getConsoleSender(), Language.parse(MSG.STATS_FILE_DONE));
+                } catch (final Exception e) {
+                    Arena.pmsg(Bukkit.getConsoleSender(), Language.parse(MSG.ERROR_STATS_FILE));
+                    e.printStackTrace();
+                }
             }
+            storage = new YamlStatisticsStorage(playersFile);
         }
 
+        STORED.clear();
+        DIRTY.clear();
         try {
-            config.load(playersFile);
+            for (final StatisticsRecord record : storage.load()) {
+                STORED.computeIfAbsent(record.getArena(), k -> new HashMap<>()).put(record.getNode(), record);
+            }
         } catch (final Exception e) {
             Arena.pmsg(Bukkit.getConsoleSender(), Language.parse(MSG.ERROR_STATS_FILE));
             e.printStackTrace();
         }
+        writer = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "PVP Arena statistics writer");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     /**
@@ -254,96 +286,129 @@ public final class StatisticsManager {
                 final PAKillEvent kEvent = new PAKillEvent(arena, attacker);
                 Bukkit.getPluginManager().callEvent(kEvent);
 
-                ArenaPlayer.parsePlayer(attacker.getName()).addKill();
+                ArenaPlayer.parsePlayer(attacker).addKill();
             }
         }
-        ArenaPlayer.parsePlayer(defender.getName()).addDeath();
+        ArenaPlayer.parsePlayer(defender).addDeath();
     }
 
+    /**
+     * hand over the changed statistics to the writer thread
+     */
     public static void save() {
-        if (config == null) {
+        if (storage == null || DIRTY.isEmpty()) {
             return;
         }
+        final List<StatisticsRecord> batch = new ArrayList<>(DIRTY.values());
+        DIRTY.clear();
+        final StatisticsStorage target = storage;
+        DEBUG.i("saving " + batch.size() + " statistics");
+        writer.execute(() -> {
+            try {
+                target.write(batch);
+            } catch (final IOException e) {
+                PVPArena.instance.getLogger().warning("could not save statistics: " + e.getMessage());
+                e.printStackTrace();
+                if (PVPArena.instance.isEnabled()) {
+                    // try again with the next save, unless newer values are waiting already
+                    Bukkit.getScheduler().runTask(PVPArena.instance, () -> {
+                        for (final StatisticsRecord record : batch) {
+                            DIRTY.putIfAbsent(record.getKey(), record);
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    /**
+     * write the pending statistics and wait for the writer thread to finish
+     */
+    public static void shutdown() {
+        if (storage == null) {
+            return;
+        }
+        save();
+        final StatisticsStorage target = storage;
+        writer.execute(() -> {
+            try {
+                target.close();
+            } catch (final IOException e) {
+                e.printStackTrace();
+            }
+        });
+        writer.shutdown();
         try {
-            config.save(playersFile);
-        } catch (final IOException e) {
-            e.printStackTrace();
+            if (!writer.awaitTermination(30, TimeUnit.SECONDS)) {
+                PVPArena.instance.getLogger().warning("statistics writer did not finish in time");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
+        storage = null;
+        writer = null;
+    }
+
+    /**
+     * check if an arena has been played, without loading it
+     *
+     * @param arenaName the arena name
+     * @return true if players have statistics in the arena, or if statistics are disabled
+     */
+    public static boolean hasBeenPlayed(final String arenaName) {
+        if (!PVPArena.instance.getConfig().getBoolean("stats")) {
+            return true;
+        }
+        if (storage == null) {
+            initialize();
+        }
+        final Map<String, StatisticsRecord> records = STORED.get(arenaName);
+        return records != null && !records.isEmpty();
     }
 
     public static void loadStatistics(final Arena arena) {
         if (!PVPArena.instance.getConfig().getBoolean("stats")) {
             return;
         }
-        if (config == null) {
+        if (storage == null) {
             initialize();
         }
-        if (config.getConfigurationSection(arena.getName()) == null) {
+        final Map<String, StatisticsRecord> records = STORED.get(arena.getName());
+        if (records == null) {
             return;
         }
 
         arena.getDebugger().i("loading statistics!");
-        boolean foundBroken = false;
-        for (final String playerID : config.getConfigurationSection(arena.getName()).getKeys(false)) {
-
+        for (final StatisticsRecord record : records.values()) {
+            final String playerName = record.getPlayerName();
 
-            String playerName = null;
+            arena.getDebugger().i("loading stats: " + playerName);
 
-            if (config.getConfigurationSection(arena.getName()).contains(playerID+".name")) {
-                playerName = config.getConfigurationSection(arena.getName()).getString(playerID+".name");
+            if (playerName == null) {
+                continue;
             }
 
-            arena.getDebugger().i("loading stats: " + playerName);
-
             final ArenaPlayer aPlayer;
 
             try {
-                if(playerName != null) {
-                    aPlayer = ArenaPlayer.addPlayer(playerName);
-                } else {
-                    continue;
-                }
-
+                aPlayer = ArenaPlayer.addPlayer(playerName);
             } catch (IllegalArgumentException e) {
-                PVPArena.instance.getLogger().warning("invalid player ID: " + playerID);
+                PVPArena.instance.getLogger().warning("invalid player ID: " + record.getNode());
                 continue;
             }
 
-            for (final Type ttt : Type.values()) {
-                aPlayer.setStatistic(arena.getName(), ttt, 0);
-            }
-
-            final int losses = config.getInt(arena.getName() + '.' + playerID + ".losses", 0);
-            aPlayer.addStatistic(arena.getName(), Type.LOSSES, losses);
-
-            final int wins = config.getInt(arena.getName() + '.' + playerID + ".wins", 0);
-            aPlayer.addStatistic(arena.getName(), Type.WINS, wins);
-
-            final int kills = config.getInt(arena.getName() + '.' + playerID + ".kills", 0);
-            aPlayer.addStatistic(arena.getName(), Type.KILLS, kills);
-
-            final int deaths = config.getInt(arena.getName() + '.' + playerID + ".deaths", 0);
-            aPlayer.addStatistic(arena.getName(), Type.DEATHS, deaths);
-
-            final int damage = config.getInt(arena.getName() + '.' + playerID + ".damage", 0);
-            aPlayer.addStatistic(arena.getName(), Type.DAMAGE, damage);
-
-            final int maxdamage = config.getInt(arena.getName() + '.' + playerID + ".maxdamage", 0);
-            aPlayer.addStatistic(arena.getName(), Type.MAXDAMAGE, maxdamage);
-
-            final int damagetake = config.getInt(arena.getName() + '.' + playerID + ".damagetake", 0);
-            aPlayer.addStatistic(arena.getName(), Type.DAMAGETAKE, damagetake);
-
-            final int maxdamagetake = config.getInt(arena.getName() + '.' + playerID + ".maxdamagetake", 0);
-            aPlayer.addStatistic(arena.getName(), Type.MAXDAMAGETAKE, maxdamagetake);
-        }
-        if (foundBroken) {
-            save();
+            aPlayer.getStatistics(arena.getName()).setStats(record.getStats());
         }
     }
 
+    /**
+     * mark the statistics of a player as changed, they are written with the next save
+     *
+     * @param arena   the arena to update
+     * @param aPlayer the player to update
+     */
     public static void update(final Arena arena, final ArenaPlayer aPlayer) {
-        if (config == null) {
+        if (storage == null) {
             return;
         }
 
@@ -357,33 +422,13 @@ public final class StatisticsManager {
 
         }
 
-        final int losses = map.getStat(Type.LOSSES);
-        config.set(arena.getName() + '.' + node + ".losses", losses);
+        final StatisticsRecord record = new StatisticsRecord(arena.getName(), node, aPlayer.getName(), map.getStats());
 
-        final int wins = map.getStat(Type.WINS);
-        config.set(arena.getName() + '.' + node + ".wins", wins);
-
-        final int kills = map.getStat(Type.KILLS);
-        config.set(arena.getName() + '.' + node + ".kills", kills);
-
-        final int deaths = map.getStat(Type.DEATHS);
-        config.set(arena.getName() + '.' + node + ".deaths", deaths);
-
-        final int damage = map.getStat(Type.DAMAGE);
-        config.set(arena.getName() + '.' + node + ".damage", damage);
-
-        final int maxdamage = map.getStat(Type.MAXDAMAGE);
-        config.set(arena.getName() + '.' + node + ".maxdamage", maxdamage);
-
-        final int damagetake = map.getStat(Type.DAMAGETAKE);
-        config.set(arena.getName() + '.' + node + ".damagetake", damagetake);
-
-        final int maxdamagetake = map.getStat(Type.MAXDAMAGETAKE);
-        config.set(arena.getName() + '.' + node + ".maxdamagetake", maxdamagetake);
-
-        if (!node.equals(aPlayer.getName())) {
-            config.set(arena.getName() + '.' + node + ".playerName", aPlayer.getName());
+        final Map<String, StatisticsRecord> records = STORED.computeIfAbsent(arena.getName(), k -> new HashMap<>());
+        if (record.sameAs(records.get(node))) {
+            return;
         }
-
+        records.put(node, record);
+        DIRTY.put(record.getKey(), record);
     }
 }
@@ -44,7 +44,7 @@ public final class TabManager {
 
             arena = ArenaManager.getArenaByExactName(firstArg);
 
-            if (arena == null && ArenaManager.getArenas().size() == 1) {
+            if (arena == null && ArenaManager.count() == 1) {
                 // still no arena, get the only arena
 
                 arena = ArenaManager.getFirst();
@@ -72,9 +72,8 @@ public final class TabManager {
             } else if(args.length == 1) {
                 // else, if only one arg, suggest arena names and global commands
 
-                matches.addAll(ArenaManager.getArenas().stream()
-                        .filter(a -> startsWithIgnoreCase(a.getName(), firstArg))
-                        .map(Arena::getName)
+                matches.addAll(ArenaManager.getArenaNames().stream()
+                        .filter(name -> startsWithIgnoreCase(name, firstArg))
                         .collect(Collectors.toList()));
 
                 addCommandsStartingWithPrefix(matches, sender, arena, globalCommands, firstArg);
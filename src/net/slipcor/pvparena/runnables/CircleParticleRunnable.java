@@ -1,61 +1,144 @@
 package net.slipcor.pvparena.runnables;
 
 import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.arena.ArenaTeam;
 import net.slipcor.pvparena.classes.PABlock;
 import net.slipcor.pvparena.core.ColorUtils;
 import net.slipcor.pvparena.core.Config;
-import net.slipcor.pvparena.core.Utils;
 import org.bukkit.*;
+import org.bukkit.entity.Player;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+/**
+ * <pre>Arena Runnable class "CircleParticle"</pre>
+ * <p/>
+ * Draws a rotating particle around every flag and beacon block, colored by the team
+ * owning it. It is rendered by the arena {@link EffectsRunnable}
+ *
+ * @author slipcor
+ */
+
 public class CircleParticleRunnable implements Runnable {
+    private static final String[] BLOCK_PREFIXES = {"flag", "beacon"};
+    private static final int STEP_DEGREES = 10;
+    private static final int STEPS = 360 / STEP_DEGREES;
+    // particles further away would not be sent by the server either
+    private static final double VIEW_DISTANCE = 32;
+    private static final Particle.DustOptions WHITE = new Particle.DustOptions(Color.WHITE, 1);
+
     private Map<Location, String> flagMap;
     private final Arena arena;
     private double radius;
     private int i = 0;
 
+    private final double[] offsetX = new double[STEPS];
+    private final double[] offsetZ = new double[STEPS];
+    private final Map<PABlock, Flag> flags = new HashMap<>();
+    private final Map<String, Particle.DustOptions> dustOptions = new HashMap<>();
+
     public CircleParticleRunnable(Arena arena, Config.CFG config, Map<Location, String> flagMap) {
         this.arena = arena;
         this.flagMap = flagMap;
         this.radius = arena.getArenaConfig().getInt(config, 3);
+        for (int step = 0; step < STEPS; step++) {
+            this.offsetX[step] = this.radius * Math.cos(Math.toRadians(step * STEP_DEGREES));
+            this.offsetZ[step] = this.radius * Math.sin(Math.toRadians(step * STEP_DEGREES));
+        }
     }
 
-    private Color getDustColor(Location flagLocation) {
-        if(this.flagMap.containsKey(flagLocation)) {
-            ChatColor teamColor = this.arena.getTeam(this.flagMap.get(flagLocation)).getColor();
-            return ColorUtils.getDyeColorFromChatColor(teamColor).getColor();
+    private Particle.DustOptions getDustOptions(Location flagLocation) {
+        final String teamName = this.flagMap.get(flagLocation);
+        if (teamName == null) {
+            return WHITE;
         }
-        return Color.WHITE;
+        Particle.DustOptions result = this.dustOptions.get(teamName);
+        if (result == null) {
+            final ArenaTeam team = this.arena.getTeam(teamName);
+            if (team == null) {
+                return WHITE;
+            }
+            result = new Particle.DustOptions(ColorUtils.getDyeColorFromChatColor(team.getColor()).getColor(), 1);
+            this.dustOptions.put(teamName, result);
+        }
+        return result;
     }
 
     @Override
     public void run() {
+        this.render(1);
+    }
 
-        for (PABlock spawn : this.arena.getBlocks()) {
-            if (spawn.getName().startsWith("flag") || spawn.getName().startsWith("beacon")) {
-                final Location flagCenter = Utils.getCenteredLocation(spawn.getLocation().toLocation());
-                final double x = flagCenter.getX() + this.radius * Math.cos(Math.toRadians(this.i));
-                final double y = flagCenter.getY();
-                final double z = flagCenter.getZ() + this.radius * Math.sin(Math.toRadians(this.i));
-
-                final Color dustColor = this.getDustColor(spawn.getLocation().toLocation());
-
-                Bukkit.getWorld(this.arena.getWorld()).spawnParticle(
-                        Particle.REDSTONE,
-                        x, y, z,
-                        0, // count
-                        1, 1, 1, // offsets (colors)
-                        1, // extra (lighting)
-                        new Particle.DustOptions(dustColor, 1)
-                );
+    /**
+     * draw one frame, to the players close enough to see it
+     *
+     * @param ticks the ticks since the last frame, to keep the rotation speed
+     */
+    public void render(final int ticks) {
+        final World world = Bukkit.getWorld(this.arena.getWorld());
+        if (world != null) {
+            final List<Player> players = world.getPlayers();
+            final double[] positions = new double[players.size() * 3];
+            for (int p = 0; p < players.size(); p++) {
+                final Location loc = players.get(p).getLocation();
+                positions[p * 3] = loc.getX();
+                positions[p * 3 + 1] = loc.getY();
+                positions[p * 3 + 2] = loc.getZ();
+            }
+            final int step = this.i / STEP_DEGREES;
+
+            for (final String prefix : BLOCK_PREFIXES) {
+                for (PABlock spawn : this.arena.getBlocksByName().getStartingWith(prefix)) {
+                    Flag flag = this.flags.get(spawn);
+                    if (flag == null) {
+                        flag = new Flag(spawn);
+                        this.flags.put(spawn, flag);
+                    }
+                    final double x = flag.x + this.offsetX[step];
+                    final double y = flag.y;
+                    final double z = flag.z + this.offsetZ[step];
+
+                    final Particle.DustOptions dust = this.getDustOptions(flag.location);
+
+                    for (int p = 0; p < players.size(); p++) {
+                        final double dx = positions[p * 3] - x;
+                        final double dy = positions[p * 3 + 1] - y;
+                        final double dz = positions[p * 3 + 2] - z;
+                        if (dx * dx + dy * dy + dz * dz > VIEW_DISTANCE * VIEW_DISTANCE) {
+                            continue;
+                        }
+                        players.get(p).spawnParticle(
+                                Particle.REDSTONE,
+                                x, y, z,
+                                0, // count
+                                1, 1, 1, // offsets (colors)
+                                1, // extra (lighting)
+                                dust
+                        );
+                    }
+                }
             }
         }
 
-        this.i += 10;
+        this.i = (this.i + STEP_DEGREES * ticks) % 360;
+    }
+
+    /**
+     * The block location and center of a flag block
+     */
+    private static final class Flag {
+        private final Location location;
+        private final double x;
+        private final double y;
+        private final double z;
 
-        if (this.i >= 360) {
-            this.i = 0;
+        private Flag(final PABlock block) {
+            this.location = block.getLocation().toLocation();
+            this.x = this.location.getBlockX() + 0.5;
+            this.y = this.location.getBlockY() + 0.5;
+            this.z = this.location.getBlockZ() + 0.5;
         }
     }
 }
@@ -2,58 +2,117 @@ package net.slipcor.pvparena.runnables;
 
 import net.slipcor.pvparena.arena.Arena;
 import net.slipcor.pvparena.core.Config.CFG;
+import net.slipcor.pvparena.core.Profiler;
 import net.slipcor.pvparena.managers.InventoryManager;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 /**
  * <pre>Arena Runnable class "DamageReset"</pre>
  * <p/>
- * An arena timer to reset people's armor / weapon
+ * An arena timer to reset people's armor / weapon. One timer runs per arena, hits and
+ * block breaks queue their players and the queue is drained on the next tick, so
+ * several hits of the same player only lead to one reset
  *
  * @author slipcor
  * @version v0.9.8
  */
 
 public class DamageResetRunnable implements Runnable {
+    private static final int IDLE_TICKS = 20;
 
     private final Arena arena;
-    private final Player attacker;
-    private final Player defender;
+    private final Set<Player> attackers = new LinkedHashSet<>();
+    private final Set<Player> defenders = new LinkedHashSet<>();
+    private int idle;
+    private long queued;
+    private long coalesced;
 
-    public DamageResetRunnable(final Arena arena, final Player attacker, final Player defender) {
+    /**
+     * create a damage reset runnable
+     *
+     * @param arena the arena we are running in
+     */
+    public DamageResetRunnable(final Arena arena) {
         this.arena = arena;
-        this.attacker = attacker;
-        this.defender = defender;
+        arena.getDebugger().i("DamageResetRunnable constructor");
+    }
+
+    /**
+     * queue a reset for the next tick
+     *
+     * @param attacker the player whose weapon to reset, may be null
+     * @param defender the player whose armor to reset, may be null
+     */
+    public void queue(final Player attacker, final Player defender) {
+        if (attacker != null) {
+            count(attackers.add(attacker));
+        }
+        if (defender != null) {
+            count(defenders.add(defender));
+        }
+        idle = 0;
+    }
+
+    /**
+     * count a queued reset, for the debug log and for /pa profile
+     *
+     * @param added false if the reset was merged into an already pending one
+     */
+    private void count(final boolean added) {
+        queued++;
+        Profiler.count(arena, "damagereset", "queued");
+        if (!added) {
+            coalesced++;
+            Profiler.count(arena, "damagereset", "coalesced");
+        }
     }
 
     @SuppressWarnings("deprecation")
     @Override
     public void run() {
+        if (attackers.isEmpty() && defenders.isEmpty()) {
+            if (++idle >= IDLE_TICKS) {
+                arena.getDebugger().i("DamageResetRunnable idle: " + queued + " resets queued, "
+                        + coalesced + " coalesced");
+                arena.stopDamageReset();
+            }
+            return;
+        }
+
         if (!arena.getArenaConfig().getBoolean(CFG.DAMAGE_WEAPONS)) {
-            try {
-                if (InventoryManager.receivesDamage(attacker.getItemInHand())) {
-                    attacker.getItemInHand().setDurability((short) 0);
-                    attacker.updateInventory();
+            for (final Player attacker : attackers) {
+                try {
+                    if (InventoryManager.receivesDamage(attacker.getItemInHand())) {
+                        attacker.getItemInHand().setDurability((short) 0);
+                        attacker.updateInventory();
+                    }
+                } catch (final Exception e) {
                 }
-            } catch (final Exception e) {
             }
         }
+        attackers.clear();
 
         if (!arena.getArenaConfig().getBoolean(CFG.DAMAGE_ARMOR)) {
-            try {
-                final ItemStack[] items = defender.getInventory().getArmorContents();
+            for (final Player defender : defenders) {
+                try {
+                    final ItemStack[] items = defender.getInventory().getArmorContents();
 
-                for (final ItemStack is : items) {
-                    if (is == null || !is.getType().name().endsWith("_HELMET")) {
-                        continue;
+                    for (final ItemStack is : items) {
+                        if (is == null || !is.getType().name().endsWith("_HELMET")) {
+                            continue;
+                        }
+                        is.setDurability((short) 0);
                     }
-                    is.setDurability((short) 0);
+                    defender.updateInventory();
+                } catch (final Exception e) {
                 }
-                defender.updateInventory();
-            } catch (final Exception e) {
             }
         }
+        defenders.clear();
     }
 
 }
@@ -0,0 +1,81 @@
+package net.slipcor.pvparena.runnables;
+
+import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.classes.PAClaimBar;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * <pre>Arena Runnable class "Effects"</pre>
+ * <p/>
+ * An arena timer to draw visual effects. One timer runs per arena, it renders the particle
+ * circles and updates the claim bars once per frame, the frame length being the
+ * effects timer setting
+ *
+ * @author slipcor
+ */
+
+public class EffectsRunnable implements Runnable {
+    private final Arena arena;
+    private final int period;
+    private final Set<CircleParticleRunnable> circles = new LinkedHashSet<>();
+    private final Set<PAClaimBar> bars = new LinkedHashSet<>();
+    private long tick;
+
+    /**
+     * create an effects runnable
+     *
+     * @param arena  the arena we are running in
+     * @param period the ticks between two frames
+     */
+    public EffectsRunnable(final Arena arena, final int period) {
+        this.arena = arena;
+        this.period = period;
+        arena.getDebugger().i("EffectsRunnable constructor");
+    }
+
+    public void addCircle(final CircleParticleRunnable circle) {
+        circles.add(circle);
+    }
+
+    public void removeCircle(final CircleParticleRunnable circle) {
+        circles.remove(circle);
+    }
+
+    public void addBar(final PAClaimBar bar) {
+        bars.add(bar);
+    }
+
+    public void removeBar(final PAClaimBar bar) {
+        bars.remove(bar);
+    }
+
+    /**
+     * @return the ticks this timer has been running, to time the claim bars
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    public boolean isEmpty() {
+        return circles.isEmpty() && bars.isEmpty();
+    }
+
+    @Override
+    public void run() {
+        tick += period;
+        if (isEmpty()) {
+            arena.stopEffects();
+            return;
+        }
+        for (final CircleParticleRunnable circle : circles) {
+            circle.render(period);
+        }
+        // bars remove themselves when they are done
+        for (final PAClaimBar bar : new ArrayList<>(bars)) {
+            bar.update(tick);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package net.slipcor.pvparena.runnables;
+
+import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.arena.ArenaPlayer;
+import net.slipcor.pvparena.classes.PAGrid;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.*;
+
+/**
+ * <pre>Arena Runnable class "Proximity"</pre>
+ * <p/>
+ * An arena timer to track which fighters are near points of interest, like flags and
+ * checkpoints. One timer runs per arena, it reads the fighter positions once per tick into
+ * a grid, and tells the watching goals when players enter or leave a zone
+ *
+ * @author slipcor
+ */
+
+public class ProximityRunnable implements Runnable {
+    private final Arena arena;
+    private final Set<Zone> zones = new LinkedHashSet<>();
+    private final Map<String, Map<Long, List<Position>>> grid = new HashMap<>();
+    private long tick;
+
+    /**
+     * Gets notified when fighters enter or leave a zone
+     */
+    public interface Listener {
+        void onEnter(Zone zone, ArenaPlayer player);
+
+        void onLeave(Zone zone, ArenaPlayer player);
+    }
+
+    /**
+     * A sphere around a point of interest and the fighters inside of it
+     */
+    public static final class Zone {
+        private final String world;
+        private final double x;
+        private final double y;
+        private final double z;
+        private final double radius;
+        private final int period;
+        private final Listener listener;
+        private final Set<ArenaPlayer> inside = new LinkedHashSet<>();
+
+        private Zone(final Location center, final double radius, final int period, final Listener listener) {
+            this.world = center.getWorld().getName();
+            this.x = center.getX();
+            this.y = center.getY();
+            this.z = center.getZ();
+            this.radius = radius;
+            this.period = Math.max(1, period);
+            this.listener = listener;
+        }
+
+        /**
+         * @return a read-only view of the fighters inside the zone
+         */
+        public Set<ArenaPlayer> getPlayers() {
+            return Collections.unmodifiableSet(inside);
+        }
+    }
+
+    /**
+     * create a proximity runnable
+     *
+     * @param arena the arena we are running in
+     */
+    public ProximityRunnable(final Arena arena) {
+        this.arena = arena;
+        arena.getDebugger().i("ProximityRunnable constructor");
+    }
+
+    /**
+     * start watching a zone
+     *
+     * @param center   the zone center
+     * @param radius   the zone radius, inclusive
+     * @param period   the ticks between two checks of the zone
+     * @param listener the listener to notify, may be null
+     * @return the zone
+     */
+    public Zone watch(final Location center, final double radius, final int period, final Listener listener) {
+        final Zone zone = new Zone(center, radius, period, listener);
+        zones.add(zone);
+        return zone;
+    }
+
+    public void unwatch(final Zone zone) {
+        zones.remove(zone);
+    }
+
+    public boolean isEmpty() {
+        return zones.isEmpty();
+    }
+
+    @Override
+    public void run() {
+        tick++;
+        if (zones.isEmpty()) {
+            arena.stopProximity();
+            return;
+        }
+
+        boolean snapshot = false;
+        // listeners may stop watching zones
+        for (final Zone zone : new ArrayList<>(zones)) {
+            if (tick % zone.period != 0 || !zones.contains(zone)) {
+                continue;
+            }
+            if (!snapshot) {
+                takeSnapshot();
+                snapshot = true;
+            }
+            update(zone);
+        }
+    }
+
+    private void takeSnapshot() {
+        grid.clear();
+        for (final ArenaPlayer ap : arena.getFighters()) {
+            final Player player = ap.get();
+            if (player == null) {
+                continue;
+            }
+            final Location loc = player.getLocation();
+            final Position position = new Position(ap, loc.getX(), loc.getY(), loc.getZ());
+            grid.computeIfAbsent(loc.getWorld().getName(), k -> new HashMap<>())
+                    .computeIfAbsent(PAGrid.key(PAGrid.cell(position.x), PAGrid.cell(position.z)), k -> new ArrayList<>())
+                    .add(position);
+        }
+    }
+
+    private void update(final Zone zone) {
+        final Set<ArenaPlayer> now = new LinkedHashSet<>();
+        final Map<Long, List<Position>> cells = grid.get(zone.world);
+        if (cells != null) {
+            final double maxSquared = zone.radius * zone.radius;
+            for (int cx = PAGrid.cell(zone.x - zone.radius); cx <= PAGrid.cell(zone.x + zone.radius); cx++) {
+                for (int cz = PAGrid.cell(zone.z - zone.radius); cz <= PAGrid.cell(zone.z + zone.radius); cz++) {
+                    final List<Position> positions = cells.get(PAGrid.key(cx, cz));
+                    if (positions == null) {
+                        continue;
+                    }
+                    for (final Position position : positions) {
+                        final double dx = position.x - zone.x;
+                        final double dy = position.y - zone.y;
+                        final double dz = position.z - zone.z;
+                        if (dx * dx + dy * dy + dz * dz <= maxSquared) {
+                            now.add(position.player);
+                        }
+                    }
+                }
+            }
+        }
+
+        final Iterator<ArenaPlayer> iterator = zone.inside.iterator();
+        while (iterator.hasNext()) {
+            final ArenaPlayer player = iterator.next();
+            if (!now.contains(player)) {
+                iterator.remove();
+                if (zone.listener != null) {
+                    zone.listener.onLeave(zone, player);
+                }
+            }
+        }
+        for (final ArenaPlayer player : now) {
+            if (zone.inside.add(player) && zone.listener != null) {
+                zone.listener.onEnter(zone, player);
+            }
+        }
+    }
+
+    private static final class Position {
+        private final ArenaPlayer player;
+        private final double x;
+        private final double y;
+        private final double z;
+
+        private Position(final ArenaPlayer player, final double x, final double y, final double z) {
+            this.player = player;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+    }
+}
@@ -1,43 +1,184 @@
 package net.slipcor.pvparena.runnables;
 
 import net.slipcor.pvparena.PVPArena;
+import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.arena.ArenaPlayer;
+import net.slipcor.pvparena.arena.ArenaPlayer.Status;
+import net.slipcor.pvparena.classes.PABlockLocation;
 import net.slipcor.pvparena.loadables.ArenaRegion;
+import net.slipcor.pvparena.loadables.ArenaRegion.RegionFlag;
 import net.slipcor.pvparena.loadables.ArenaRegion.RegionType;
-import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
 
-import static java.util.Arrays.asList;
+import java.util.*;
 
 /**
  * <pre>
  * Arena Runnable class "Region"
  * </pre>
  * <p/>
- * An arena timer to commit region specific checks
+ * An arena timer to commit region specific checks. One timer runs per arena, it
+ * looks up the regions containing each player once, and only commits DEATH, WIN,
+ * LOSE and escape checks when a player changed block, status or regions
  *
  * @author slipcor
  * @version v0.9.9
  */
 
-public class RegionRunnable extends BukkitRunnable {
-    private final ArenaRegion region;
-//	private final static Debug DEBUG = new Debug(49);
-//	private int iID;
+public class RegionRunnable implements Runnable {
+    private final Arena arena;
+    private final Set<ArenaRegion> regions = new LinkedHashSet<>();
+    private final Map<ArenaPlayer, PlayerRegions> players = new HashMap<>();
+    private int revision;
+    private int tickCount;
 
     /**
      * create a region runnable
      *
-     * @param paRegion the region we are running in
+     * @param arena the arena we are running in
      */
-    public RegionRunnable(final ArenaRegion paRegion) {
-        region = paRegion;
-        region.getArena().getDebugger().i("RegionRunnable constructor: " + paRegion.getRegionName());
+    public RegionRunnable(final Arena arena) {
+        this.arena = arena;
+        arena.getDebugger().i("RegionRunnable constructor");
     }
 
     /**
-     * the run method, commit arena end
+     * add a region to the timer
+     *
+     * @param region the region to tick
+     */
+    public void activate(final ArenaRegion region) {
+        if (regions.add(region)) {
+            arena.getDebugger().i("RegionRunnable activate: " + region.getRegionName());
+            invalidate();
+        }
+    }
+
+    /**
+     * remove a region from the timer
+     *
+     * @param region the region to stop ticking
+     * @return true if no region is left to tick
+     */
+    public boolean deactivate(final ArenaRegion region) {
+        if (regions.remove(region)) {
+            arena.getDebugger().i("RegionRunnable deactivate: " + region.getRegionName());
+            invalidate();
+        }
+        return regions.isEmpty();
+    }
+
+    public boolean isActive(final ArenaRegion region) {
+        return regions.contains(region);
+    }
+
+    /**
+     * forget the cached player regions, they are looked up again on the next tick
+     */
+    public void invalidate() {
+        revision++;
+    }
+
+    /**
+     * the run method, commit region checks
      */
     @Override
     public void run() {
+        final List<ArenaRegion> ticking = new ArrayList<>(regions.size());
+        for (final ArenaRegion region : regions) {
+            if (shouldTick(region)) {
+                ticking.add(region);
+            }
+        }
+        if (ticking.isEmpty()) {
+            return;
+        }
+        tickCount++;
+
+        for (final ArenaPlayer ap : arena.getEveryone()) {
+            final Player player = ap.get();
+            if (player == null || ap.isTeleporting()) {
+                continue;
+            }
+
+            PlayerRegions state = players.get(ap);
+            if (state == null) {
+                state = new PlayerRegions();
+                players.put(ap, state);
+            }
+            state.seen = tickCount;
+
+            final Location loc = player.getLocation();
+            if (state.update(loc, ap.getStatus(), revision)) {
+                state.inside.clear();
+                final PABlockLocation pLoc = new PABlockLocation(loc);
+                for (final ArenaRegion region : arena.getRegions()) {
+                    if (region.getShape() != null && region.getShape().contains(pLoc)) {
+                        state.inside.add(region);
+                    }
+                }
+                if (commitChanged(ap, state.inside, ticking)) {
+                    // the match has been decided
+                    break;
+                }
+            }
+
+            for (final ArenaRegion region : ticking) {
+                if (region.getFlags().contains(RegionFlag.NOCAMP)) {
+                    region.tickNoCamp(ap, state.inside.contains(region));
+                }
+            }
+        }
+
+        players.values().removeIf(state -> state.seen != tickCount);
+
+        for (final ArenaRegion region : ticking) {
+            if (region.getType() == RegionType.JOIN) {
+                region.tickJoin();
+            }
+        }
+    }
+
+    private boolean commitChanged(final ArenaPlayer ap, final Set<ArenaRegion> inside,
+                                  final List<ArenaRegion> ticking) {
+        for (final ArenaRegion region : ticking) {
+            if (inside.contains(region) && region.tickFlags(ap)) {
+                return true;
+            }
+        }
+
+        final RegionType escapeType;
+        if (ap.getStatus() == Status.FIGHT) {
+            escapeType = RegionType.BATTLE;
+        } else if (ap.getStatus() == Status.WATCH) {
+            escapeType = RegionType.WATCH;
+        } else if (ap.getStatus() == Status.READY || ap.getStatus() == Status.LOUNGE) {
+            escapeType = RegionType.LOUNGE;
+        } else {
+            return false;
+        }
+
+        ArenaRegion escaped = null;
+        for (final ArenaRegion region : ticking) {
+            if (region.getType() == escapeType) {
+                escaped = region;
+                break;
+            }
+        }
+        if (escaped == null) {
+            return false;
+        }
+        for (final ArenaRegion region : inside) {
+            if (region.getType() == escapeType) {
+                return false;
+            }
+        }
+        escaped.tickEscape(ap);
+        return false;
+    }
+
+    private boolean shouldTick(final ArenaRegion region) {
         /*
 		 * J - is a join region
 		 * I - is a fight in progress?
@@ -48,47 +189,47 @@ public class RegionRunnable extends BukkitRunnable {
 		 * 0 1 - 1 : no join region, game, tick for other region type
 		 * 1 0 - 1 : join region! no game! tick so ppl can join!
 		 * 1 1 - 1 : join region! game! tick so ppl can join!
-		 * /
-		if (
-			!region.getType().equals(RegionType.JOIN) &&
-			!region.getArena().isFightInProgress() &&
-			!region.getType().equals(RegionType.WATCH)) {
-			Bukkit.getScheduler().cancelTask(iID);
-		} else {
-			region.tick();
-		}*/
-
-
+		 */
         if (region.getType() == RegionType.JOIN) {
             // join region
-            if (region.getArena().isFightInProgress()) {
-                if (PVPArena.instance.getAgm().allowsJoinInBattle(region.getArena())) {
-                    // ingame: only tick if allowed
-                    region.getArena().getDebugger().i("tick 1: " + region.getRegionName());
-                    region.tick();
-                } else {
-                    region.getArena().getDebugger().i("notick 1: " + region.getRegionName());
-                    // otherwise: no tick! No cancelling for join regions!
-                    // Bukkit.getScheduler().cancelTask(iID);
-                }
-            } else {
-                // not running. JOIN!
-
-                region.getArena().getDebugger().i("tick 2: " + region.getRegionName());
-                region.tick();
+            if (arena.isFightInProgress()) {
+                // ingame: only tick if allowed
+                return PVPArena.instance.getAgm().allowsJoinInBattle(arena);
             }
-        } else if (asList(RegionType.WATCH, RegionType.LOUNGE).contains(region.getType())) {
-            // always tick for WATCH & LOUNGE regions!
-            region.getArena().getDebugger().i("tick 3: " + region.getRegionName());
-            region.tick();
-        } else if (region.getArena().isFightInProgress()) {
-            // if ingame, always tick for other kinds of things!
-            //region.getArena().getDebugger().i("tick 4: " + region.getRegionName());
-            region.tick();
-        } else {
-            // not ingame; ignore!
-            region.getArena().getDebugger().i("notick 5: " + region.getRegionName());
+            // not running. JOIN!
+            return true;
         }
+        // always tick for WATCH & LOUNGE regions, otherwise only if ingame
+        return region.getType() == RegionType.WATCH || region.getType() == RegionType.LOUNGE
+                || arena.isFightInProgress();
+    }
 
+    private static final class PlayerRegions {
+        private final Set<ArenaRegion> inside = new HashSet<>();
+        private String world;
+        private int x;
+        private int y;
+        private int z;
+        private Status status;
+        private int revision = -1;
+        private int seen;
+
+        private boolean update(final Location loc, final Status status, final int revision) {
+            final String world = loc.getWorld().getName();
+            final int x = loc.getBlockX();
+            final int y = loc.getBlockY();
+            final int z = loc.getBlockZ();
+            if (this.revision == revision && this.status == status
+                    && this.x == x && this.y == y && this.z == z && world.equals(this.world)) {
+                return false;
+            }
+            this.world = world;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.status = status;
+            this.revision = revision;
+            return true;
+        }
     }
 }
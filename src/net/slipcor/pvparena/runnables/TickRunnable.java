@@ -0,0 +1,210 @@
+package net.slipcor.pvparena.runnables;
+
+import net.slipcor.pvparena.PVPArena;
+import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.core.Profiler;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.logging.Level;
+
+/**
+ * <pre>Arena Runnable class "Tick"</pre>
+ * <p/>
+ * The arena tick loop. One timer runs per arena and dispatches the arena timers as
+ * phases, in the order of {@link Phase}, each one at its own period. Every phase has a
+ * timing budget, phases going over it are counted and logged, and cosmetic phases are
+ * put off to the next tick when the phases before them went over budget
+ *
+ * @author slipcor
+ */
+
+public class TickRunnable extends BukkitRunnable {
+
+    /**
+     * The arena timers, in the order they run within a tick
+     */
+    public enum Phase {
+        DAMAGE(250, true, false),
+        REGIONS(2000, false, false),
+        SPAWNCAMP(500, true, false),
+        PROXIMITY(1000, true, false),
+        GOALS(2000, true, false),
+        MODULES(1000, true, false),
+        EFFECTS(1000, true, true),
+        RESTORE(50000, false, true);
+
+        private final long budget;
+        private final boolean match;
+        private final boolean deferrable;
+
+        Phase(final int budgetMicros, final boolean match, final boolean deferrable) {
+            this.budget = budgetMicros * 1000L;
+            this.match = match;
+            this.deferrable = deferrable;
+        }
+
+        /**
+         * @return the time a phase may take per tick, in nanoseconds
+         */
+        public long getBudget() {
+            return budget;
+        }
+
+        /**
+         * @return true if the phase only lives for one match, and is dropped on arena reset
+         */
+        public boolean isMatchPhase() {
+            return match;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final Arena arena;
+    private final Entry[] entries = new Entry[PHASES.length];
+    private final long[] nanos = new long[PHASES.length];
+    private final long[] runs = new long[PHASES.length];
+    private final long[] overruns = new long[PHASES.length];
+    private int tick;
+
+    /**
+     * create an arena tick loop
+     *
+     * @param arena the arena we are running in
+     */
+    public TickRunnable(final Arena arena) {
+        this.arena = arena;
+        arena.getDebugger().i("TickRunnable constructor");
+    }
+
+    /**
+     * add a phase, replacing the task of the phase if there is one
+     *
+     * @param phase  the phase
+     * @param task   the task to run
+     * @param delay  the ticks to wait before the first run
+     * @param period the ticks between two runs
+     */
+    public void schedule(final Phase phase, final Runnable task, final int delay, final int period) {
+        entries[phase.ordinal()] = new Entry(task, tick + Math.max(1, delay), Math.max(1, period));
+    }
+
+    /**
+     * remove a phase
+     *
+     * @param phase the phase
+     * @return true if no phase is left to run
+     */
+    public boolean unschedule(final Phase phase) {
+        entries[phase.ordinal()] = null;
+        return isEmpty();
+    }
+
+    /**
+     * remove the phases which only live for one match
+     *
+     * @return true if no phase is left to run
+     */
+    public boolean unscheduleMatchPhases() {
+        for (final Phase phase : PHASES) {
+            if (phase.isMatchPhase()) {
+                entries[phase.ordinal()] = null;
+            }
+        }
+        return isEmpty();
+    }
+
+    public boolean isScheduled(final Phase phase) {
+        return entries[phase.ordinal()] != null;
+    }
+
+    public boolean isEmpty() {
+        for (final Entry entry : entries) {
+            if (entry != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the ticks this loop has been running
+     */
+    public int getTick() {
+        return tick;
+    }
+
+    /**
+     * @param phase the phase
+     * @return the nanoseconds spent running the phase
+     */
+    public long getNanos(final Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    /**
+     * @param phase the phase
+     * @return the times the phase has been run
+     */
+    public long getRuns(final Phase phase) {
+        return runs[phase.ordinal()];
+    }
+
+    /**
+     * @param phase the phase
+     * @return the times the phase went over its budget
+     */
+    public long getOverruns(final Phase phase) {
+        return overruns[phase.ordinal()];
+    }
+
+    @Override
+    public void run() {
+        tick++;
+        boolean overBudget = false;
+        for (final Phase phase : PHASES) {
+            final Entry entry = entries[phase.ordinal()];
+            if (entry == null || entry.next > tick) {
+                continue;
+            }
+            if (overBudget && phase.deferrable) {
+                // try again next tick
+                continue;
+            }
+            entry.next = tick + entry.period;
+
+            final long start = System.nanoTime();
+            try {
+                entry.task.run();
+            } catch (final RuntimeException e) {
+                // one failing phase must not stop the later ones
+                PVPArena.instance.getLogger().log(Level.SEVERE, "Arena " + arena.getName()
+                        + ": tick phase " + phase.name() + " failed", e);
+            }
+            final long took = System.nanoTime() - start;
+
+            Profiler.record(arena, "tick", phase.name(), took);
+            final int index = phase.ordinal();
+            nanos[index] += took;
+            runs[index]++;
+            if (took > phase.budget) {
+                overruns[index]++;
+                overBudget = true;
+                arena.getDebugger().i("TickRunnable phase " + phase.name() + " took "
+                        + took / 1000 + "us, budget " + phase.budget / 1000 + "us");
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final Runnable task;
+        private final int period;
+        private int next;
+
+        private Entry(final Runnable task, final int next, final int period) {
+            this.task = task;
+            this.next = next;
+            this.period = period;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package net.slipcor.pvparena.statistics;
+
+import net.slipcor.pvparena.managers.StatisticsManager.Type;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A storage for large servers, appending changed records to players.log instead of rewriting
+ * every statistic. The log is compacted to one line per record once it grew too much.
+ * When there is no log yet, the statistics of an existing players.yml are taken over
+ */
+public class LogStatisticsStorage implements StatisticsStorage {
+    private static final char SEPARATOR = '\t';
+    private static final int COMPACT_FACTOR = 4;
+    private static final int COMPACT_MINIMUM = 1024;
+
+    private final File file;
+    private final File legacyFile;
+    private final Map<String, StatisticsRecord> records = new LinkedHashMap<>();
+    private int lines;
+
+    /**
+     * @param file       the log file
+     * @param legacyFile the YAML file to take over if the log does not exist yet
+     */
+    public LogStatisticsStorage(final File file, final File legacyFile) {
+        this.file = file;
+        this.legacyFile = legacyFile;
+    }
+
+    @Override
+    public Collection<StatisticsRecord> load() throws IOException {
+        this.records.clear();
+        this.lines = 0;
+
+        if (!this.file.exists()) {
+            if (this.legacyFile != null && this.legacyFile.exists()) {
+                for (final StatisticsRecord record : new YamlStatisticsStorage(this.legacyFile).load()) {
+                    this.records.put(record.getKey(), record);
+                }
+                this.compact();
+            }
+            return new ArrayList<>(this.records.values());
+        }
+
+        boolean broken = false;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new FileInputStream(this.file), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                this.lines++;
+                final StatisticsRecord record = parse(line);
+                if (record == null) {
+                    broken = true;
+                } else {
+                    // later lines overrule earlier ones
+                    this.records.put(record.getKey(), record);
+                }
+            }
+        }
+        if (!broken && this.file.length() > 0) {
+            try (RandomAccessFile raf = new RandomAccessFile(this.file, "r")) {
+                raf.seek(raf.length() - 1);
+                broken = raf.read() != '\n';
+            }
+        }
+        // rewrite a damaged log, so the next append does not continue a broken line
+        if (broken || this.needsCompaction()) {
+            this.compact();
+        }
+        return new ArrayList<>(this.records.values());
+    }
+
+    @Override
+    public void write(final Collection<StatisticsRecord> records) throws IOException {
+        final StringBuilder builder = new StringBuilder();
+        for (final StatisticsRecord record : records) {
+            format(builder, record);
+            this.records.put(record.getKey(), record);
+        }
+
+        try (FileOutputStream out = new FileOutputStream(this.file, true)) {
+            out.write(builder.toString().getBytes(StandardCharsets.UTF_8));
+            out.getFD().sync();
+        }
+        this.lines += records.size();
+
+        if (this.needsCompaction()) {
+            this.compact();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.lines > this.records.size()) {
+            this.compact();
+        }
+    }
+
+    private boolean needsCompaction() {
+        return this.lines > COMPACT_MINIMUM && this.lines > this.records.size() * COMPACT_FACTOR;
+    }
+
+    private void compact() throws IOException {
+        final StringBuilder builder = new StringBuilder();
+        for (final StatisticsRecord record : this.records.values()) {
+            format(builder, record);
+        }
+        StorageFiles.replace(this.file, builder.toString().getBytes(StandardCharsets.UTF_8));
+        this.lines = this.records.size();
+    }
+
+    private static void format(final StringBuilder builder, final StatisticsRecord record) {
+        builder.append(record.getArena()).append(SEPARATOR)
+                .append(record.getNode()).append(SEPARATOR)
+                .append(record.getPlayerName() == null ? "" : record.getPlayerName());
+        for (final Type type : Type.values()) {
+            if (type != Type.NULL) {
+                builder.append(SEPARATOR).append(record.getStat(type));
+            }
+        }
+        builder.append('\n');
+    }
+
+    private static StatisticsRecord parse(final String line) {
+        final String[] split = line.split(String.valueOf(SEPARATOR), -1);
+        final Type[] types = Type.values();
+        if (split.length != types.length + 2) {
+            // a line cut short by a crash, skip it
+            return null;
+        }
+        final int[] values = new int[types.length];
+        int pos = 3;
+        try {
+            for (final Type type : types) {
+                if (type != Type.NULL) {
+                    values[type.ordinal()] = Integer.parseInt(split[pos++]);
+                }
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return new StatisticsRecord(split[0], split[1], split[2].isEmpty() ? null : split[2], values);
+    }
+}
@@ -0,0 +1,69 @@
+package net.slipcor.pvparena.statistics;
+
+import net.slipcor.pvparena.managers.StatisticsManager.Type;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Immutable statistics of one player in one arena, as handed to a storage
+ */
+public final class StatisticsRecord {
+    private final String arena;
+    private final String node;
+    private final String playerName;
+    private final int[] values;
+
+    /**
+     * @param arena      the arena name
+     * @param node       the storage key of the player, the UUID if known, the name otherwise
+     * @param playerName the player name, may be null if unknown
+     * @param values     the statistics, indexed by {@link Type#ordinal()}
+     */
+    public StatisticsRecord(final String arena, final String node, final String playerName, final int[] values) {
+        this.arena = arena;
+        this.node = node;
+        this.playerName = playerName;
+        this.values = Arrays.copyOf(values, Type.values().length);
+    }
+
+    public String getArena() {
+        return this.arena;
+    }
+
+    public String getNode() {
+        return this.node;
+    }
+
+    public String getPlayerName() {
+        return this.playerName;
+    }
+
+    public int getStat(final Type type) {
+        return this.values[type.ordinal()];
+    }
+
+    /**
+     * @return a copy of the statistics, indexed by {@link Type#ordinal()}
+     */
+    public int[] getStats() {
+        return Arrays.copyOf(this.values, this.values.length);
+    }
+
+    /**
+     * @return the key identifying this record inside a storage
+     */
+    public String getKey() {
+        return this.arena + '.' + this.node;
+    }
+
+    /**
+     * @param other the record to compare with
+     * @return true if both records would be stored the same way
+     */
+    public boolean sameAs(final StatisticsRecord other) {
+        return other != null && this.getKey().equals(other.getKey())
+                && Objects.equals(this.playerName, other.playerName)
+                && Arrays.equals(this.values, other.values);
+    }
+}
@@ -0,0 +1,31 @@
+package net.slipcor.pvparena.statistics;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * A place to persist player statistics. Apart from {@link #load()}, which runs once when
+ * the storage is set up, every call comes from the single statistics writer thread
+ */
+public interface StatisticsStorage {
+
+    /**
+     * Reads every stored record
+     * @return the stored records
+     * @throws IOException if the storage can't be read
+     */
+    Collection<StatisticsRecord> load() throws IOException;
+
+    /**
+     * Persists a batch of changed records. Once this returns, the batch must survive a crash
+     * @param records the records to store, replacing the ones with the same key
+     * @throws IOException if the storage can't be written
+     */
+    void write(Collection<StatisticsRecord> records) throws IOException;
+
+    /**
+     * Releases the storage, no call will follow
+     * @throws IOException if pending data can't be written
+     */
+    void close() throws IOException;
+}
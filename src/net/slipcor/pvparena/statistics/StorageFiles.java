@@ -0,0 +1,36 @@
+package net.slipcor.pvparena.statistics;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * File helpers shared by the statistics storages and the player dump journal
+ */
+public final class StorageFiles {
+
+    private StorageFiles() {}
+
+    /**
+     * Replaces a file by writing a synced temporary file next to it and moving it over the target,
+     * so that a crash leaves either the old or the new content, never a truncated file
+     * @param file the file to replace
+     * @param data the new content
+     * @throws IOException if the file can't be written
+     */
+    public static void replace(final File file, final byte[] data) throws IOException {
+        final File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(tmp)) {
+            out.write(data);
+            out.getFD().sync();
+        }
+        try {
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
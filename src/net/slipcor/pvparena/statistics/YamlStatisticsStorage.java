@@ -0,0 +1,91 @@
+package net.slipcor.pvparena.statistics;
+
+import net.slipcor.pvparena.managers.StatisticsManager.Type;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The default storage, keeping every statistic in players.yml. Every write serializes the
+ * whole file, so it is meant for small to medium servers
+ */
+public class YamlStatisticsStorage implements StatisticsStorage {
+    private final File file;
+    private final YamlConfiguration config = new YamlConfiguration();
+
+    public YamlStatisticsStorage(final File file) {
+        this.file = file;
+    }
+
+    @Override
+    public Collection<StatisticsRecord> load() throws IOException {
+        final List<StatisticsRecord> result = new ArrayList<>();
+        if (!this.file.exists()) {
+            return result;
+        }
+        try {
+            this.config.load(this.file);
+        } catch (InvalidConfigurationException e) {
+            throw new IOException("invalid statistics file " + this.file.getName(), e);
+        }
+
+        final int[] values = new int[Type.values().length];
+        for (final String arenaName : this.config.getKeys(false)) {
+            final ConfigurationSection arenaSection = this.config.getConfigurationSection(arenaName);
+            if (arenaSection == null) {
+                continue;
+            }
+            for (final String node : arenaSection.getKeys(false)) {
+                final ConfigurationSection section = arenaSection.getConfigurationSection(node);
+                if (section == null) {
+                    continue;
+                }
+                for (final Type type : Type.values()) {
+                    values[type.ordinal()] = type == Type.NULL ? 0 : section.getInt(getNode(type), 0);
+                }
+                final String playerName = section.getString("name", section.getString("playerName"));
+                result.add(new StatisticsRecord(arenaName, node, playerName, values));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void write(final Collection<StatisticsRecord> records) throws IOException {
+        for (final StatisticsRecord record : records) {
+            ConfigurationSection section = this.config.getConfigurationSection(record.getArena());
+            if (section == null) {
+                section = this.config.createSection(record.getArena());
+            }
+            ConfigurationSection playerSection = section.getConfigurationSection(record.getNode());
+            if (playerSection == null) {
+                playerSection = section.createSection(record.getNode());
+            }
+            for (final Type type : Type.values()) {
+                if (type != Type.NULL) {
+                    playerSection.set(getNode(type), record.getStat(type));
+                }
+            }
+            if (record.getPlayerName() != null && !record.getNode().equals(record.getPlayerName())) {
+                playerSection.set("playerName", record.getPlayerName());
+            }
+        }
+        StorageFiles.replace(this.file, this.config.saveToString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void close() {
+        // every write already replaced the file
+    }
+
+    private static String getNode(final Type type) {
+        return type.name().toLowerCase();
+    }
+}